@@ -0,0 +1,79 @@
+package com.baccalaureat.benchmark;
+
+import com.baccalaureat.dao.DatabaseManager;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * Environment shared by the benchmarks of one forked JVM: a scratch SQLite database
+ * and a local stand-in for DictionaryAPI.dev.
+ *
+ * Must be set up before any validator class is loaded, since the database URL and
+ * the dictionary URL are read from system properties.
+ */
+final class BenchmarkFixture {
+
+    private static final String DB_FILE = "target/benchmark.db";
+
+    /** Words the stub knows, with one definition each; everything else gets a 404 */
+    static final Map<String, String> DEFINITIONS = Map.of(
+        "paris", "The capital city of France.",
+        "dog", "A domesticated mammal, often kept as a pet.",
+        "apple", "The round fruit of a tree of the rose family.",
+        "carpenter", "A person whose job is making and repairing wooden objects.",
+        "brazil", "A country in South America.");
+
+    private static HttpServer stub;
+
+    private BenchmarkFixture() {
+    }
+
+    /**
+     * Creates a fresh database and starts the dictionary stub, once per JVM.
+     */
+    static synchronized void setUp() throws IOException {
+        if (stub != null) {
+            return;
+        }
+        new File(DB_FILE).delete();
+        System.setProperty("db.url", "jdbc:sqlite:" + DB_FILE);
+        DatabaseManager.initializeDatabase();
+
+        // Without it Nagle's algorithm adds ~40 ms to every stub response
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        stub = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        stub.createContext("/api/v2/entries/en/", BenchmarkFixture::answer);
+        stub.setExecutor(Executors.newFixedThreadPool(4, r -> {
+            Thread thread = new Thread(r, "dictionary-stub");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        stub.start();
+        System.setProperty("dictionary.api.url",
+            "http://127.0.0.1:" + stub.getAddress().getPort() + "/api/v2/entries/en/%s");
+    }
+
+    private static void answer(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String word = path.substring(path.lastIndexOf('/') + 1);
+        String definition = DEFINITIONS.get(word);
+        byte[] body = (definition != null
+            ? "[{\"word\":\"" + word + "\",\"meanings\":[{\"partOfSpeech\":\"noun\",\"definitions\":"
+                + "[{\"definition\":\"" + definition + "\"}]}]}]"
+            : "{\"title\":\"No Definitions Found\",\"message\":\"Sorry pal\"}").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(definition != null ? 200 : 404, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.baccalaureat.benchmark;
+
+import com.baccalaureat.model.Category;
+import com.baccalaureat.service.CacheService;
+import com.baccalaureat.service.CategoryService;
+import com.baccalaureat.service.ValidatedWordIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CacheService lookups against an index of {@value #WORDS} validated words.
+ * Warm: lookups answered from the in-memory indexes. Cold: the index loaded from SQLite,
+ * which is what the first validation after startup pays.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+public class CacheServiceBenchmark {
+
+    private static final int WORDS = 10_000;
+
+    private CacheService cacheService;
+    private Category category;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        BenchmarkFixture.setUp();
+        category = new CategoryService().findByName("VILLE").orElseThrow();
+        cacheService = new CacheService();
+        for (int i = 0; i < WORDS; i++) {
+            cacheService.saveValidatedWord("Ville-" + i, category);
+        }
+        ValidatedWordIndex.flushShared();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public boolean warmHit() {
+        next = (next + 1) % WORDS;
+        return cacheService.isWordValidated("Ville-" + next, category);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public boolean warmMiss() {
+        next = (next + 1) % WORDS;
+        // A miss checks the negative cache too
+        return cacheService.isWordValidated("Village-" + next, category)
+            || cacheService.isWordRejected("Village-" + next, category);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 10)
+    public int coldIndexLoad() {
+        ValidatedWordIndex index = ValidatedWordIndex.getInstance();
+        index.reload();
+        return index.size();
+    }
+}
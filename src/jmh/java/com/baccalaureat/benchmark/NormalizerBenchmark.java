@@ -0,0 +1,46 @@
+package com.baccalaureat.benchmark;
+
+import com.baccalaureat.util.TextNormalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.Normalizer;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Cost of turning an answer into its lookup key, run for every answer at round end.
+ * The NFD + regex variant is the normalization TextNormalizer replaced, kept as a baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NormalizerBenchmark {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{InCombiningDiacriticalMarks}+");
+
+    @Param({"france", "  Crème  Brûlée ", "Đà Nẵng"})
+    public String word;
+
+    @Benchmark
+    public String textNormalizer() {
+        return TextNormalizer.normalize(word);
+    }
+
+    @Benchmark
+    public String nfdRegexBaseline() {
+        String normalized = Normalizer.normalize(word.trim().toLowerCase(), Normalizer.Form.NFD);
+        return MARKS.matcher(normalized).replaceAll("");
+    }
+}
@@ -0,0 +1,88 @@
+package com.baccalaureat.benchmark;
+
+import com.baccalaureat.ai.AICategoryValidator;
+import com.baccalaureat.ai.AIResponse;
+import com.baccalaureat.ai.CategorizationEngine;
+import com.baccalaureat.ai.FixedListValidator;
+import com.baccalaureat.ai.LocalCacheValidator;
+import com.baccalaureat.ai.MockAIClient;
+import com.baccalaureat.ai.WebConfigurableValidator;
+import com.baccalaureat.model.Category;
+import com.baccalaureat.model.ValidationResult;
+import com.baccalaureat.service.CacheService;
+import com.baccalaureat.service.CategoryService;
+import com.baccalaureat.service.ValidationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One answer through the whole validation pipeline, as at round end.
+ *
+ * The AI stage is a {@link MockAIClient} that is never confident, so words not
+ * found locally always reach the dictionary stage, which talks to the local stub
+ * over real HTTP.
+ * <ul>
+ * <li>warm: a small set of answers seen over and over, so the local caches and the
+ *     HTTP response cache answer after the first round</li>
+ * <li>cold: a new word every time, which misses every cache and makes one HTTP request</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidationPipelineBenchmark {
+
+    private static final List<String> WARM_WORDS = List.of("Lyon", "paris", "Marseille", "dog", "brazil", "zorglub");
+
+    @Param({"warm", "cold"})
+    public String cache;
+
+    private CategorizationEngine engine;
+    private ValidationService service;
+    private Category category;
+    private long next;
+
+    @Setup
+    public void setUp() throws IOException {
+        BenchmarkFixture.setUp();
+        CategoryService categoryService = new CategoryService();
+        category = categoryService.findByName("VILLE").orElseThrow();
+        engine = new CategorizationEngine(List.of(
+            new LocalCacheValidator(),
+            new FixedListValidator(),
+            new AICategoryValidator(new MockAIClient("Mock", new AIResponse(true, 0.5, "benchmark")), 0.7, true),
+            new WebConfigurableValidator(categoryService)));
+        service = new ValidationService(categoryService, engine, new CacheService());
+    }
+
+    @Benchmark
+    public ValidationResult engineValidate() {
+        return engine.validate(nextWord(), category);
+    }
+
+    @Benchmark
+    public ValidationResult serviceValidateWord() {
+        return service.validateWord("VILLE", nextWord());
+    }
+
+    private String nextWord() {
+        long n = next++;
+        return "warm".equals(cache) ? WARM_WORDS.get((int) (n % WARM_WORDS.size())) : "zorglub" + n;
+    }
+}
@@ -1,6 +1,10 @@
 package com.baccalaureat;
 
 import com.baccalaureat.controller.SettingsController;
+import com.baccalaureat.dao.DatabaseManager;
+import com.baccalaureat.service.RejectedWordIndex;
+import com.baccalaureat.service.ResponseStore;
+import com.baccalaureat.service.ValidatedWordIndex;
 import com.baccalaureat.util.ThemeManager;
 
 import javafx.application.Application;
@@ -14,6 +18,14 @@ import javafx.stage.Stage;
 public class App extends Application {
     @Override
     public void start(Stage primaryStage) throws Exception {
+        // Warm the word caches off the FX thread so the first round never waits on SQLite
+        Thread indexLoader = new Thread(() -> {
+            ValidatedWordIndex.getInstance();
+            RejectedWordIndex.getInstance();
+        }, "word-cache-loader");
+        indexLoader.setDaemon(true);
+        indexLoader.start();
+        
         Parent root = FXMLLoader.load(getClass().getResource("/com/baccalaureat/MainMenu.fxml"));
         
         // Get screen dimensions
@@ -45,6 +57,15 @@ public class App extends Application {
         primaryStage.show();
     }
     
+    @Override
+    public void stop() {
+        // Persist queued validated/rejected words and responses, then release pooled SQLite connections
+        ValidatedWordIndex.flushShared();
+        RejectedWordIndex.flushShared();
+        ResponseStore.flushShared();
+        DatabaseManager.shutdown();
+    }
+    
     private void applySavedTheme(Scene scene) {
         String savedTheme = SettingsController.getTheme();
         ThemeManager.Theme theme = switch (savedTheme) {
@@ -3,8 +3,11 @@ package com.baccalaureat.ai;
 import com.baccalaureat.model.Category;
 import com.baccalaureat.model.ValidationResult;
 import com.baccalaureat.model.ValidationStatus;
+import com.baccalaureat.util.TextNormalizer;
 
-import java.text.Normalizer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 
 /**
  * AI-powered category validator that uses machine learning models
@@ -51,6 +54,84 @@ public class AICategoryValidator implements CategoryValidator {
     
     @Override
     public ValidationResult validate(String word, Category category) {
+        ValidationResult precheck = precheck(word, category);
+        if (precheck != null) {
+            return precheck;
+        }
+        
+        try {
+            // Normalize input if enabled
+            String normalizedWord = normalizeInput ? TextNormalizer.normalize(word) : word.trim();
+            
+            // Construct the AI prompt
+            String prompt = buildPrompt(normalizedWord, category);
+            
+            // Query the AI
+            AIResponse aiResponse = aiClient.query(prompt);
+            
+            // Interpret the response
+            return interpretAIResponse(aiResponse, normalizedWord, category);
+            
+        } catch (AIClientException e) {
+            // Log the error for debugging (in real implementation, use proper logging)
+            System.err.println("[AICategoryValidator] AI query failed: " + e.toString());
+            
+            // Return UNCERTAIN as fail-safe
+            return new ValidationResult(
+                ValidationStatus.UNCERTAIN,
+                0.0,
+                getSourceName(),
+                "AI validation failed: " + e.getMessage()
+            );
+        }
+    }
+    
+    /**
+     * Asynchronous variant of {@link #validate(String, Category)}.
+     * Uses the client's {@link AIClient#queryAsync(String)}, so no thread waits on the AI service.
+     */
+    @Override
+    public CompletionStage<ValidationResult> validateAsync(String word, Category category) {
+        ValidationResult precheck = precheck(word, category);
+        if (precheck != null) {
+            return CompletableFuture.completedFuture(precheck);
+        }
+        
+        String normalizedWord = normalizeInput ? TextNormalizer.normalize(word) : word.trim();
+        String prompt = buildPrompt(normalizedWord, category);
+        
+        CompletableFuture<AIResponse> query;
+        try {
+            query = aiClient.queryAsync(prompt);
+        } catch (RuntimeException e) {
+            query = CompletableFuture.failedFuture(e);
+        }
+        
+        CompletableFuture<AIResponse> pending = query;
+        CompletableFuture<ValidationResult> result = query.handle((aiResponse, error) -> {
+            if (error == null) {
+                return interpretAIResponse(aiResponse, normalizedWord, category);
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            System.err.println("[AICategoryValidator] AI query failed: " + cause.toString());
+            return new ValidationResult(
+                ValidationStatus.UNCERTAIN,
+                0.0,
+                getSourceName(),
+                "AI validation failed: " + cause.getMessage()
+            );
+        });
+        // Cancelling the result abandons the AI request; no-op once the query has finished
+        result.whenComplete((r, e) -> pending.cancel(true));
+        return result;
+    }
+    
+    /**
+     * Input and client checks shared by the blocking and asynchronous paths.
+     * 
+     * @return a final result if the word cannot be sent to the AI, null otherwise
+     */
+    private ValidationResult precheck(String word, Category category) {
         if (word == null || word.trim().isEmpty()) {
             return new ValidationResult(
                 ValidationStatus.INVALID,
@@ -79,31 +160,7 @@ public class AICategoryValidator implements CategoryValidator {
             );
         }
         
-        try {
-            // Normalize input if enabled
-            String normalizedWord = normalizeInput ? normalizeInput(word) : word.trim();
-            
-            // Construct the AI prompt
-            String prompt = buildPrompt(normalizedWord, category);
-            
-            // Query the AI
-            AIResponse aiResponse = aiClient.query(prompt);
-            
-            // Interpret the response
-            return interpretAIResponse(aiResponse, normalizedWord, category);
-            
-        } catch (AIClientException e) {
-            // Log the error for debugging (in real implementation, use proper logging)
-            System.err.println("[AICategoryValidator] AI query failed: " + e.toString());
-            
-            // Return UNCERTAIN as fail-safe
-            return new ValidationResult(
-                ValidationStatus.UNCERTAIN,
-                0.0,
-                getSourceName(),
-                "AI validation failed: " + e.getMessage()
-            );
-        }
+        return null;
     }
     
     @Override
@@ -116,6 +173,11 @@ public class AICategoryValidator implements CategoryValidator {
         return aiClient != null && aiClient.isHealthy();
     }
     
+    @Override
+    public boolean isRemote() {
+        return true;
+    }
+    
     /**
      * Build the natural language prompt for the AI model.
      * Updated for n8n webhook format - simple question format.
@@ -128,27 +190,6 @@ public class AICategoryValidator implements CategoryValidator {
         return String.format("Is '%s' a valid example of the category '%s'?", word, category.getDisplayName());
     }
     
-    /**
-     * Normalize input text by trimming, converting to lowercase, and removing accents.
-     * 
-     * @param input the raw input string
-     * @return normalized string
-     */
-    private String normalizeInput(String input) {
-        if (input == null) {
-            return "";
-        }
-        
-        // Trim whitespace and convert to lowercase
-        String normalized = input.trim().toLowerCase();
-        
-        // Remove accents/diacritics
-        normalized = Normalizer.normalize(normalized, Normalizer.Form.NFD);
-        normalized = normalized.replaceAll("\\p{InCombiningDiacriticalMarks}+", "");
-        
-        return normalized;
-    }
-    
     /**
      * Interpret the AI response and convert it to a ValidationResult.
      * 
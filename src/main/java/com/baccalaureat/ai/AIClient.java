@@ -1,5 +1,10 @@
 package com.baccalaureat.ai;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 /**
  * Abstract interface for AI client implementations.
  * Allows different AI providers (OpenAI, Hugging Face, local models, etc.)
@@ -16,6 +21,58 @@ public interface AIClient {
      */
     AIResponse query(String prompt) throws AIClientException;
     
+    /**
+     * Query the AI model without blocking the caller.
+     * Failures complete the future exceptionally with an {@link AIClientException}
+     * (wrapped in a {@link CompletionException}).
+     * The default runs {@link #query(String)} on a virtual thread.
+     * 
+     * @param prompt The question/prompt to send to the AI
+     * @return future completed with the AIResponse
+     */
+    default CompletableFuture<AIResponse> queryAsync(String prompt) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return query(prompt);
+            } catch (AIClientException e) {
+                throw new CompletionException(e);
+            }
+        }, ValidationExecutors.BLOCKING);
+    }
+    
+    /**
+     * Query the AI model with several prompts at once.
+     * The default sends the prompts one by one; clients whose backend accepts a
+     * list of prompts should override this with a single request.
+     * 
+     * @param prompts the prompts to send
+     * @return one AIResponse per prompt, in the same order
+     * @throws AIClientException if any query fails
+     */
+    default List<AIResponse> queryBatch(List<String> prompts) throws AIClientException {
+        List<AIResponse> responses = new ArrayList<>(prompts.size());
+        for (String prompt : prompts) {
+            responses.add(query(prompt));
+        }
+        return responses;
+    }
+    
+    /**
+     * Query the AI model with several prompts without blocking the caller.
+     * The default runs {@link #queryAsync(String)} for every prompt concurrently.
+     * 
+     * @param prompts the prompts to send
+     * @return future completed with one AIResponse per prompt, in the same order
+     */
+    default CompletableFuture<List<AIResponse>> queryBatchAsync(List<String> prompts) {
+        List<CompletableFuture<AIResponse>> futures = new ArrayList<>(prompts.size());
+        for (String prompt : prompts) {
+            futures.add(queryAsync(prompt));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+            .thenApply(ignored -> futures.stream().map(CompletableFuture::join).toList());
+    }
+    
     /**
      * Get the name/identifier of this AI client implementation.
      * Useful for logging and debugging.
@@ -8,6 +8,7 @@ public class AIClientException extends Exception {
     
     private final String clientName;
     private final ErrorType errorType;
+    private final int statusCode;
     
     public enum ErrorType {
         NETWORK_ERROR,
@@ -16,19 +17,29 @@ public class AIClientException extends Exception {
         PARSING_ERROR,
         AUTHENTICATION_ERROR,
         RATE_LIMIT_EXCEEDED,
+        CIRCUIT_OPEN,
         UNKNOWN_ERROR
     }
     
     public AIClientException(String message, String clientName, ErrorType errorType) {
+        this(message, clientName, errorType, 0);
+    }
+    
+    /**
+     * @param statusCode HTTP status the service answered with
+     */
+    public AIClientException(String message, String clientName, ErrorType errorType, int statusCode) {
         super(message);
         this.clientName = clientName;
         this.errorType = errorType;
+        this.statusCode = statusCode;
     }
     
     public AIClientException(String message, Throwable cause, String clientName, ErrorType errorType) {
         super(message, cause);
         this.clientName = clientName;
         this.errorType = errorType;
+        this.statusCode = 0;
     }
     
     /**
@@ -45,6 +56,13 @@ public class AIClientException extends Exception {
         return errorType;
     }
     
+    /**
+     * @return the HTTP status behind an API_ERROR, or 0 if there was none
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+    
     @Override
     public String toString() {
         return String.format("AIClientException{client='%s', type=%s, message='%s'}", 
@@ -0,0 +1,203 @@
+package com.baccalaureat.ai;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AIClient decorator that coalesces concurrent asynchronous queries into batches.
+ *
+ * Validating a round starts every answer at the same time, so their AI queries
+ * arrive within a few milliseconds of each other. Queries received within a short
+ * window are sent together through {@link AIClient#queryBatchAsync(List)}, so the
+ * webhook latency is paid once per round instead of once per answer.
+ *
+ * If the backend turns out not to understand batches (unreadable answer, or a 400, 404
+ * or 422 on a batch call), batching is switched off and every query goes straight
+ * through. Any other failure fails the batch's queries and batching stays on.
+ * Blocking {@link #query(String)} calls are never batched.
+ */
+public class BatchingAIClient implements AIClient {
+
+    private static final Duration DEFAULT_WINDOW = Duration.ofMillis(15);
+    private static final int DEFAULT_MAX_BATCH_SIZE = 32;
+    /** Bad request, not found, unprocessable: the webhook does not take batches */
+    private static final Set<Integer> REJECTED_FORMAT_STATUSES = Set.of(400, 404, 422);
+
+    private final AIClient delegate;
+    private final Duration window;
+    private final int maxBatchSize;
+
+    private final Object lock = new Object();
+    private List<PendingQuery> pending = new ArrayList<>();
+    private volatile boolean batchingSupported = true;
+
+    public BatchingAIClient(AIClient delegate) {
+        this(delegate, DEFAULT_WINDOW, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    /**
+     * @param delegate the client that sends the requests
+     * @param window how long the first query of a batch waits for others
+     * @param maxBatchSize batch size that triggers an immediate send
+     */
+    public BatchingAIClient(AIClient delegate, Duration window, int maxBatchSize) {
+        this.delegate = delegate;
+        this.window = window;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+    }
+
+    @Override
+    public AIResponse query(String prompt) throws AIClientException {
+        return delegate.query(prompt);
+    }
+
+    /**
+     * Queues the prompt for the current batch.
+     */
+    @Override
+    public CompletableFuture<AIResponse> queryAsync(String prompt) {
+        if (!batchingSupported) {
+            return delegate.queryAsync(prompt);
+        }
+
+        PendingQuery query = new PendingQuery(prompt, new CompletableFuture<>());
+        List<PendingQuery> full = null;
+        synchronized (lock) {
+            pending.add(query);
+            if (pending.size() >= maxBatchSize) {
+                full = takePending();
+            } else if (pending.size() == 1) {
+                // First query of a new batch: send whatever has arrived when the window closes
+                CompletableFuture.delayedExecutor(window.toNanos(), TimeUnit.NANOSECONDS)
+                    .execute(this::flush);
+            }
+        }
+        if (full != null) {
+            send(full);
+        }
+        return query.result();
+    }
+
+    @Override
+    public List<AIResponse> queryBatch(List<String> prompts) throws AIClientException {
+        return delegate.queryBatch(prompts);
+    }
+
+    @Override
+    public CompletableFuture<List<AIResponse>> queryBatchAsync(List<String> prompts) {
+        return delegate.queryBatchAsync(prompts);
+    }
+
+    @Override
+    public String getClientName() {
+        return delegate.getClientName();
+    }
+
+    @Override
+    public boolean isHealthy() {
+        return delegate.isHealthy();
+    }
+
+    /**
+     * Sends the queries collected so far, if any.
+     */
+    void flush() {
+        List<PendingQuery> batch;
+        synchronized (lock) {
+            batch = takePending();
+        }
+        if (!batch.isEmpty()) {
+            send(batch);
+        }
+    }
+
+    private List<PendingQuery> takePending() {
+        List<PendingQuery> batch = pending;
+        pending = new ArrayList<>();
+        return batch;
+    }
+
+    private void send(List<PendingQuery> batch) {
+        if (batch.size() == 1 || !batchingSupported) {
+            batch.forEach(this::sendAlone);
+            return;
+        }
+
+        List<String> prompts = new ArrayList<>(batch.size());
+        for (PendingQuery query : batch) {
+            prompts.add(query.prompt());
+        }
+
+        CompletableFuture<List<AIResponse>> request;
+        try {
+            request = delegate.queryBatchAsync(prompts);
+        } catch (RuntimeException e) {
+            request = CompletableFuture.failedFuture(e);
+        }
+
+        request.whenComplete((responses, error) -> {
+            if (error == null) {
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).result().complete(responses.get(i));
+                }
+                return;
+            }
+
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (isUnsupportedBatch(cause)) {
+                // The backend cannot answer batches: stop trying and retry these one by one
+                batchingSupported = false;
+                System.err.println("[BatchingAIClient] Batch queries disabled for " + getClientName() + ": " + cause.getMessage());
+                batch.forEach(this::sendAlone);
+                return;
+            }
+            for (PendingQuery query : batch) {
+                query.result().completeExceptionally(cause);
+            }
+        });
+    }
+
+    private void sendAlone(PendingQuery query) {
+        CompletableFuture<AIResponse> single;
+        try {
+            single = delegate.queryAsync(query.prompt());
+        } catch (RuntimeException e) {
+            single = CompletableFuture.failedFuture(e);
+        }
+        single.whenComplete((response, error) -> {
+            if (error == null) {
+                query.result().complete(response);
+            } else {
+                query.result().completeExceptionally(
+                    error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+            }
+        });
+    }
+
+    /**
+     * An unreadable answer, or a status saying the request itself was wrong, means the
+     * batch format was rejected. Server errors, network errors and timeouts would fail
+     * single queries just the same, so they fail the batch and batching stays on.
+     */
+    private static boolean isUnsupportedBatch(Throwable cause) {
+        if (cause instanceof AIClientException aiError) {
+            return switch (aiError.getErrorType()) {
+                case PARSING_ERROR -> true;
+                case API_ERROR -> REJECTED_FORMAT_STATUSES.contains(aiError.getStatusCode());
+                default -> false;
+            };
+        }
+        return false;
+    }
+
+    /**
+     * A query waiting for its batch to be sent.
+     */
+    private record PendingQuery(String prompt, CompletableFuture<AIResponse> result) {
+    }
+}
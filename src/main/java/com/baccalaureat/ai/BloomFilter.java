@@ -0,0 +1,109 @@
+package com.baccalaureat.ai;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Bloom filter over strings.
+ *
+ * {@link #mightContain} never returns false for a word that was put, and returns
+ * true for a word that was not with roughly the configured probability as long as
+ * no more than the expected number of words are put. Each word sets k bits chosen
+ * by double hashing (Kirsch-Mitzenmacher) of one 64-bit hash, so a lookup hashes
+ * the word once. Bits are set atomically: puts and lookups are safe from any thread
+ * without locking.
+ */
+final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final int expectedInsertions;
+    private final AtomicInteger insertions = new AtomicInteger();
+
+    /**
+     * @param expectedInsertions number of words the filter is sized for
+     * @param falsePositiveRate wanted false positive probability at that size, in (0, 1)
+     */
+    BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False positive rate must be in (0, 1): " + falsePositiveRate);
+        }
+        int n = Math.max(1, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bits = new AtomicLongArray((int) ((Math.max(64, m) + 63) / 64));
+        this.bitCount = bits.length() * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+        this.expectedInsertions = n;
+    }
+
+    /**
+     * Adds a word.
+     */
+    void put(String word) {
+        long hash = hash(word);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            int slot = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = bits.get(slot);
+            while ((current & mask) == 0 && !bits.compareAndSet(slot, current, current | mask)) {
+                current = bits.get(slot);
+            }
+        }
+        insertions.incrementAndGet();
+    }
+
+    /**
+     * Returns false if the word was definitely never put, true if it may have been.
+     */
+    boolean mightContain(String word) {
+        long hash = hash(word);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Number of puts so far, duplicates included.
+     */
+    int insertions() {
+        return insertions.get();
+    }
+
+    /**
+     * Checks whether more words were put than the filter was sized for.
+     */
+    boolean isSaturated() {
+        return insertions.get() > expectedInsertions;
+    }
+
+    int expectedInsertions() {
+        return expectedInsertions;
+    }
+
+    /**
+     * 64-bit FNV-1a over the UTF-16 chars, finished with the MurmurHash3 mixer so both halves are usable.
+     */
+    private static long hash(String word) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < word.length(); i++) {
+            h ^= word.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -5,8 +5,19 @@ import com.baccalaureat.model.ValidationResult;
 import com.baccalaureat.model.ValidationStatus;
 import com.baccalaureat.service.CategoryService;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Orchestrates multiple category validators in a specific order.
@@ -15,20 +26,54 @@ import java.util.ArrayList;
  * 
  * Updated to use WebConfigurableValidator (DictionaryAPI.dev) instead of 
  * the old ConceptNet-based ApiCategoryValidator for cleaner, more reliable validation.
+ * 
+ * Stages run through {@link CategoryValidator#validateAsync}. Each stage has its own
+ * deadline (looked up by source name) and the whole word has a total deadline, so the
+ * latency of one validation is bounded no matter how slow a remote service is.
+ * 
+ * In hedged mode (off by default, see {@link #setHedgedRemoteStages(boolean)}) consecutive
+ * remote stages are started together once the local stages miss. The first confident
+ * answer wins and the other requests are cancelled, so the worst case is the slowest
+ * remote stage instead of the sum of all of them.
+ * 
+ * The default pipeline is fronted by a {@link KnownWordFilter}: a word that no local
+ * source can know skips the local stages and goes straight to the remote ones.
+ * {@link #getKnownWordStats()} reports how many words really needed remote validation.
+ * 
+ * Every stage run is timed and its outcome counted in {@link StageMetrics}, per source
+ * name, along with the latency of whole validations; see {@link #getStageStats()}.
  */
 public class CategorizationEngine {
     
     private final List<CategoryValidator> validators;
     private static final double CONFIDENCE_THRESHOLD = 0.7;
     
+    private static final Duration DEFAULT_STAGE_TIMEOUT = Duration.ofSeconds(8);
+    private static final Duration LOCAL_STAGE_TIMEOUT = Duration.ofMillis(500);
+    private static final Duration DEFAULT_TOTAL_TIMEOUT = Duration.ofSeconds(15);
+    
+    private final Map<String, Duration> stageTimeouts = new ConcurrentHashMap<>();
+    private volatile Duration totalTimeout = DEFAULT_TOTAL_TIMEOUT;
+    private volatile boolean hedgedRemoteStages = Boolean.getBoolean("validation.hedged");
+    
+    /** Stages whose words are all in the known-word filter */
+    private static final Set<String> FILTERED_STAGES = Set.of("LOCAL_DB", "FIXED_LIST");
+    private volatile KnownWordFilter knownWords;
+    private final AtomicLong filteredWords = new AtomicLong();
+    private final AtomicLong definiteMisses = new AtomicLong();
+    private final AtomicLong localHits = new AtomicLong();
+    private final AtomicLong falsePositives = new AtomicLong();
+    
     public CategorizationEngine(CategoryService categoryService) {
-        validators = new ArrayList<>();
+        validators = new CopyOnWriteArrayList<>();
         validators.add(new LocalCacheValidator());              // STEP 1: Local database cache
         validators.add(new FixedListValidator());            // STEP 2: Deterministic validation  
         
         // STEP 3: AI validation with N8n webhook (moved before WebAPI as requested)
         try {
-            N8nAIClient n8nAIClient = new N8nAIClient();
+            // Answers validated together share one webhook call; the breaker takes the
+            // AI stage out of the pipeline (isAvailable() == false) while the webhook is down
+            AIClient n8nAIClient = new CircuitBreakerAIClient(new BatchingAIClient(new N8nAIClient()));
             AICategoryValidator aiValidator = new AICategoryValidator(n8nAIClient, 0.7, true);
             validators.add(aiValidator);
         } catch (Exception e) {
@@ -37,68 +82,273 @@ public class CategorizationEngine {
         }
         
         validators.add(new WebConfigurableValidator(categoryService)); // STEP 4: Web API validation
+        applyLocalStageTimeouts();
+        knownWords = KnownWordFilter.shared();
     }
     
     /**
      * Custom constructor for testing with specific validators.
      */
     public CategorizationEngine(List<CategoryValidator> customValidators) {
-        this.validators = new ArrayList<>(customValidators);
+        this.validators = new CopyOnWriteArrayList<>(customValidators);
+        applyLocalStageTimeouts();
+    }
+    
+    private void applyLocalStageTimeouts() {
+        // In-memory stages should never come close to their deadline
+        stageTimeouts.put("LOCAL_DB", LOCAL_STAGE_TIMEOUT);
+        stageTimeouts.put("FIXED_LIST", LOCAL_STAGE_TIMEOUT);
     }
     
     /**
      * Validates a word against a category using the orchestrated pipeline.
+     * Blocks until {@link #validateAsync(String, Category)} completes.
      * 
      * @param word the word to validate
      * @param category the target category
      * @return the best ValidationResult from available validators
      */
     public ValidationResult validate(String word, Category category) {
+        return validateAsync(word, category).join();
+    }
+    
+    /**
+     * Validates a word against a category without blocking the caller.
+     * Stages run one after another until one is confident; a stage that misses its
+     * deadline counts as UNCERTAIN and the pipeline moves on. Once the total deadline
+     * has passed, the best result so far is used. The future never completes exceptionally.
+     * 
+     * @param word the word to validate
+     * @param category the target category
+     * @return future completed with the best ValidationResult from available validators
+     */
+    public CompletableFuture<ValidationResult> validateAsync(String word, Category category) {
         if (word == null || word.trim().isEmpty()) {
-            return new ValidationResult(ValidationStatus.INVALID, 0.0, "ENGINE", "Empty word");
+            return CompletableFuture.completedFuture(
+                new ValidationResult(ValidationStatus.INVALID, 0.0, "ENGINE", "Empty word"));
         }
         
-        ValidationResult bestResult = new ValidationResult(
+        ValidationResult initial = new ValidationResult(
             ValidationStatus.INVALID, 0.0, "AI_FALLBACK", "No confident validation available - defaulting to INVALID"
         );
+        long started = System.nanoTime();
+        long deadline = started + totalTimeout.toNanos();
         
-        // Try each validator in order until we get a confident result
-        // Pipeline: FixedListValidator → WebConfigurableValidator → SemanticAiValidator
-        for (CategoryValidator validator : validators) {
-            if (!validator.isAvailable()) {
-                continue;
+        // Pipeline: LocalCache → FixedList → AI → WebConfigurable
+        List<CategoryValidator> pipeline = List.copyOf(validators);
+        KnownWordFilter filter = knownWords;
+        if (filter == null || category == null) {
+            return runStage(pipeline, 0, word, category, initial, deadline)
+                .thenApply(result -> {
+                    StageMetrics.forStage(StageMetrics.PIPELINE).recordLatency(System.nanoTime() - started);
+                    return resolveUncertain(result);
+                });
+        }
+        
+        boolean mightBeKnown = filter.mightBeKnown(word, category.getName());
+        if (!mightBeKnown) {
+            // Definite miss: no local stage can answer
+            pipeline = pipeline.stream().filter(v -> !FILTERED_STAGES.contains(v.getSourceName())).toList();
+        }
+        return runStage(pipeline, 0, word, category, initial, deadline)
+            .thenApply(result -> {
+                StageMetrics.forStage(StageMetrics.PIPELINE).recordLatency(System.nanoTime() - started);
+                recordFilterOutcome(mightBeKnown, result);
+                return resolveUncertain(result);
+            });
+    }
+    
+    private void recordFilterOutcome(boolean mightBeKnown, ValidationResult result) {
+        filteredWords.incrementAndGet();
+        if (!mightBeKnown) {
+            definiteMisses.incrementAndGet();
+        } else if (FILTERED_STAGES.contains(result.getSource()) && isConfidentResult(result)) {
+            localHits.incrementAndGet();
+        } else {
+            falsePositives.incrementAndGet();
+        }
+    }
+    
+    /**
+     * Runs the stage at {@code index} and chains the remaining stages behind it.
+     */
+    private CompletableFuture<ValidationResult> runStage(List<CategoryValidator> pipeline, int index, String word,
+                                                        Category category, ValidationResult bestResult, long deadline) {
+        if (index >= pipeline.size()) {
+            return CompletableFuture.completedFuture(bestResult);
+        }
+        
+        CategoryValidator validator = pipeline.get(index);
+        if (!validator.isAvailable()) {
+            return runStage(pipeline, index + 1, word, category, bestResult, deadline);
+        }
+        
+        if (hedgedRemoteStages && validator.isRemote()) {
+            // Race the run of consecutive remote stages starting here
+            int next = index;
+            List<CategoryValidator> group = new ArrayList<>();
+            for (; next < pipeline.size() && pipeline.get(next).isRemote(); next++) {
+                if (pipeline.get(next).isAvailable()) {
+                    group.add(pipeline.get(next));
+                }
             }
-            
-            try {
-                ValidationResult result = validator.validate(word, category);
-                
-                // Update best result if this one is better
-                if (isBetterResult(result, bestResult)) {
-                    bestResult = result;
+            if (group.size() > 1) {
+                int resumeAt = next;
+                return runHedged(group, word, category, bestResult, deadline)
+                    .thenCompose(result -> isConfidentResult(result)
+                        ? CompletableFuture.completedFuture(result)
+                        : runStage(pipeline, resumeAt, word, category, result, deadline));
+            }
+        }
+        
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            System.err.println("Validation deadline reached before " + validator.getSourceName());
+            return CompletableFuture.completedFuture(bestResult);
+        }
+        long budget = Math.min(getStageTimeout(validator.getSourceName()).toNanos(), remaining);
+        
+        return startStage(validator, word, category, budget)
+            .thenCompose(result -> {
+                if (result == null) {
+                    return runStage(pipeline, index + 1, word, category, bestResult, deadline);
                 }
                 
                 // If we have a confident positive or negative result, stop here
                 if (isConfidentResult(result)) {
-                    return result;
+                    StageMetrics.forStage(validator.getSourceName()).recordShortCircuit();
+                    return CompletableFuture.completedFuture(result);
                 }
                 
-            } catch (Exception e) {
-                // Log error and continue with next validator
-                System.err.println("Validator " + validator.getSourceName() + " failed: " + e.getMessage());
+                // Update best result if this one is better
+                ValidationResult best = isBetterResult(result, bestResult) ? result : bestResult;
+                return runStage(pipeline, index + 1, word, category, best, deadline);
+            });
+    }
+    
+    /**
+     * Starts every validator of a remote group at once.
+     * Completes with the first confident result, or with the best result once all have
+     * answered. Stages still running when the group completes are cancelled.
+     */
+    private CompletableFuture<ValidationResult> runHedged(List<CategoryValidator> group, String word,
+                                                         Category category, ValidationResult bestResult, long deadline) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            System.err.println("Validation deadline reached before " + group.get(0).getSourceName());
+            return CompletableFuture.completedFuture(bestResult);
+        }
+        
+        CompletableFuture<ValidationResult> winner = new CompletableFuture<>();
+        List<CompletableFuture<ValidationResult>> stages = new ArrayList<>();
+        for (CategoryValidator validator : group) {
+            long budget = Math.min(getStageTimeout(validator.getSourceName()).toNanos(), remaining);
+            CompletableFuture<ValidationResult> stage = startStage(validator, word, category, budget);
+            stage.thenAccept(result -> {
+                if (result != null && isConfidentResult(result) && winner.complete(result)) {
+                    StageMetrics.forStage(validator.getSourceName()).recordShortCircuit();
+                }
+            });
+            stages.add(stage);
+        }
+        
+        CompletableFuture.allOf(stages.toArray(new CompletableFuture<?>[0])).thenRun(() -> {
+            // Nobody was confident: keep the best answer, in pipeline order on ties
+            ValidationResult best = bestResult;
+            for (CompletableFuture<ValidationResult> stage : stages) {
+                ValidationResult result = stage.join();
+                if (result != null && isBetterResult(result, best)) {
+                    best = result;
+                }
             }
+            winner.complete(best);
+        });
+        
+        winner.whenComplete((r, e) -> stages.forEach(stage -> stage.cancel(true)));
+        return winner;
+    }
+    
+    /**
+     * Starts one validator with a time budget.
+     * The stage's latency and outcome are recorded in its {@link StageMetrics}.
+     * 
+     * The engine cancels the returned future when it no longer needs the answer, e.g. for
+     * a hedged stage that lost. That, or a timeout, cancels the validator's own future so
+     * its request is aborted; a cancelled stage counts as a cancellation with no latency.
+     * Whichever comes first, the validator's outcome or the cancellation, is recorded.
+     * 
+     * @return future of the stage result; UNCERTAIN on timeout, null if the validator failed
+     */
+    private CompletableFuture<ValidationResult> startStage(CategoryValidator validator, String word,
+                                                          Category category, long budgetNanos) {
+        StageMetrics metrics = StageMetrics.forStage(validator.getSourceName());
+        long started = System.nanoTime();
+        CompletableFuture<ValidationResult> source;
+        try {
+            source = validator.validateAsync(word, category).toCompletableFuture();
+        } catch (Exception e) {
+            source = CompletableFuture.failedFuture(e);
         }
         
-        // AI FINAL RESOLUTION: Ensure no UNCERTAIN results reach UI
+        ValidationResult timedOut = new ValidationResult(ValidationStatus.UNCERTAIN, 0.0, validator.getSourceName(),
+            "Timed out after " + TimeUnit.NANOSECONDS.toMillis(budgetNanos) + " ms");
+        
+        CompletableFuture<ValidationResult> validatorFuture = source;
+        
+        AtomicBoolean settled = new AtomicBoolean();
+        CompletableFuture<ValidationResult> stage = new CompletableFuture<>();
+        
+        // Copy so the timeout below never completes a future owned by the validator
+        validatorFuture.thenApply(r -> r)
+            .completeOnTimeout(timedOut, budgetNanos, TimeUnit.NANOSECONDS)
+            .whenComplete((result, e) -> {
+                if (!settled.compareAndSet(false, true)) {
+                    return;
+                }
+                // Recorded before the pipeline moves on, so a finished validation is fully counted
+                long elapsed = System.nanoTime() - started;
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                if (cause instanceof CancellationException) {
+                    // The validator gave up on its own
+                    metrics.recordCancellation();
+                } else if (cause != null) {
+                    metrics.recordError(elapsed);
+                    // Log error and continue with next validator
+                    System.err.println("Validator " + validator.getSourceName() + " failed: " + cause.getMessage());
+                } else if (result == timedOut) {
+                    metrics.recordTimeout(elapsed);
+                } else if (result != null && isConfidentResult(result)) {
+                    metrics.recordHit(elapsed);
+                } else if (result != null) {
+                    metrics.recordMiss(elapsed);
+                }
+                // No-op unless the validator timed out
+                validatorFuture.cancel(true);
+                stage.complete(cause == null ? result : null);
+            });
+        
+        stage.whenComplete((result, e) -> {
+            if (e != null && settled.compareAndSet(false, true)) {
+                metrics.recordCancellation();
+                validatorFuture.cancel(true);
+            }
+        });
+        return stage;
+    }
+    
+    /**
+     * AI FINAL RESOLUTION: Ensure no UNCERTAIN results reach UI.
+     */
+    private ValidationResult resolveUncertain(ValidationResult bestResult) {
         if (bestResult.getStatus() == ValidationStatus.UNCERTAIN) {
             // Force AI to make a final decision
-            bestResult = new ValidationResult(
+            return new ValidationResult(
                 ValidationStatus.INVALID, 
                 0.5, 
                 "AI_RESOLVER", 
                 "Uncertain result resolved to INVALID by AI fallback"
             );
         }
-        
         return bestResult;
     }
     
@@ -137,6 +387,78 @@ public class CategorizationEngine {
         return CONFIDENCE_THRESHOLD;
     }
     
+    /**
+     * Sets the deadline for one pipeline stage, identified by its source name.
+     */
+    public void setStageTimeout(String sourceName, Duration timeout) {
+        stageTimeouts.put(sourceName, timeout);
+    }
+    
+    /**
+     * Returns the deadline applied to a pipeline stage.
+     */
+    public Duration getStageTimeout(String sourceName) {
+        return stageTimeouts.getOrDefault(sourceName, DEFAULT_STAGE_TIMEOUT);
+    }
+    
+    /**
+     * Sets the deadline for validating one word across all stages.
+     */
+    public void setTotalTimeout(Duration timeout) {
+        this.totalTimeout = timeout;
+    }
+    
+    /**
+     * Returns the deadline for validating one word across all stages.
+     */
+    public Duration getTotalTimeout() {
+        return totalTimeout;
+    }
+    
+    /**
+     * Enables or disables hedged execution of consecutive remote stages.
+     * Defaults to the {@code validation.hedged} system property.
+     */
+    public void setHedgedRemoteStages(boolean hedged) {
+        this.hedgedRemoteStages = hedged;
+    }
+    
+    /**
+     * Returns whether consecutive remote stages are raced instead of run in order.
+     */
+    public boolean isHedgedRemoteStages() {
+        return hedgedRemoteStages;
+    }
+    
+    /**
+     * Replaces the known-word filter; null sends every word through the whole pipeline.
+     */
+    void setKnownWordFilter(KnownWordFilter filter) {
+        this.knownWords = filter;
+    }
+    
+    /**
+     * Summarizes what the known-word filter decided since this engine was created.
+     * Definite misses and false positives are the words that truly needed the remote stages.
+     */
+    public String getKnownWordStats() {
+        long misses = definiteMisses.get();
+        long wasted = falsePositives.get();
+        return String.format("%d words checked, %d definite misses (local stages skipped), %d answered locally, "
+            + "%d false positives; %d needed remote validation",
+            filteredWords.get(), misses, localHits.get(), wasted, misses + wasted);
+    }
+    
+    /**
+     * Summarizes the latency and outcomes of every stage that ran so far in this JVM,
+     * one line per source name, plus the latency of whole validations.
+     */
+    public String getStageStats() {
+        StringBuilder stats = new StringBuilder();
+        StageMetrics.all().forEach((name, metrics) -> stats.append(name).append(": ").append(metrics).append('\n'));
+        return stats.toString();
+    }
+    
     /**
      * Returns the list of available validators.
      */
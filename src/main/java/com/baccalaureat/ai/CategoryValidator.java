@@ -3,6 +3,9 @@ package com.baccalaureat.ai;
 import com.baccalaureat.model.Category;
 import com.baccalaureat.model.ValidationResult;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
 /**
  * Interface for category validation engines.
  * Each implementation provides a different validation strategy.
@@ -18,6 +21,19 @@ public interface CategoryValidator {
      */
     ValidationResult validate(String word, Category category);
     
+    /**
+     * Validates whether a word belongs to the given category without blocking the caller.
+     * Implementations backed by I/O should complete the stage from their own I/O threads.
+     * The default runs {@link #validate(String, Category)} on a virtual thread.
+     * 
+     * @param word the word to validate
+     * @param category the target category
+     * @return stage completed with the ValidationResult
+     */
+    default CompletionStage<ValidationResult> validateAsync(String word, Category category) {
+        return CompletableFuture.supplyAsync(() -> validate(word, category), ValidationExecutors.BLOCKING);
+    }
+    
     /**
      * Returns the validation source name for traceability.
      * 
@@ -31,4 +47,15 @@ public interface CategoryValidator {
      * @return true if validator is ready to use
      */
     boolean isAvailable();
+    
+    /**
+     * Indicates if this validator calls a remote service.
+     * Remote validators may be raced against each other by the engine's hedged mode,
+     * so they should abort their request when the future from validateAsync is cancelled.
+     * 
+     * @return true if validation involves a network round trip
+     */
+    default boolean isRemote() {
+        return false;
+    }
 }
\ No newline at end of file
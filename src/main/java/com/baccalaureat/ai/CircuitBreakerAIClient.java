@@ -0,0 +1,293 @@
+package com.baccalaureat.ai;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * AIClient decorator that stops calling a failing or very slow AI service.
+ *
+ * The breaker watches a sliding window of recent calls. While CLOSED every call goes
+ * through. When the window shows too many failures, or its high-percentile latency
+ * exceeds the slow-call threshold, the breaker OPENs: calls fail immediately with
+ * {@link AIClientException.ErrorType#CIRCUIT_OPEN} and {@link #isHealthy()} reports
+ * false, so validators that check availability are skipped at no cost. After the
+ * open period a single probe call is let through (HALF_OPEN). If the probe is fast
+ * and succeeds the breaker closes; otherwise it opens again for twice as long, up
+ * to a maximum.
+ *
+ * Calls abandoned by the caller (cancelled futures) only count when they had already
+ * been running longer than the slow-call threshold.
+ */
+public class CircuitBreakerAIClient implements AIClient {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private static final int DEFAULT_WINDOW_SIZE = 20;
+    private static final int DEFAULT_MINIMUM_CALLS = 5;
+    private static final double DEFAULT_FAILURE_RATE_THRESHOLD = 0.5;
+    private static final Duration DEFAULT_SLOW_CALL_THRESHOLD = Duration.ofSeconds(4);
+    private static final double SLOW_CALL_PERCENTILE = 0.9;
+    private static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(5);
+    private static final Duration MAX_OPEN_DURATION = Duration.ofSeconds(60);
+
+    private final AIClient delegate;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long slowCallNanos;
+    private final long baseOpenNanos;
+    private final LongSupplier clock;
+
+    private final Object lock = new Object();
+    private final boolean[] failed;
+    private final long[] latencies;
+    private int recorded = 0;
+    private int next = 0;
+    private State state = State.CLOSED;
+    private long openUntil = 0;
+    private long openNanos;
+    private boolean probeInFlight = false;
+
+    public CircuitBreakerAIClient(AIClient delegate) {
+        this(delegate, DEFAULT_WINDOW_SIZE, DEFAULT_MINIMUM_CALLS, DEFAULT_FAILURE_RATE_THRESHOLD,
+             DEFAULT_SLOW_CALL_THRESHOLD, DEFAULT_OPEN_DURATION);
+    }
+
+    /**
+     * @param delegate the client to protect
+     * @param windowSize number of recent calls the breaker looks at
+     * @param minimumCalls calls needed in the window before it can trip
+     * @param failureRateThreshold failure ratio (0-1) that trips the breaker
+     * @param slowCallThreshold 90th-percentile latency that trips the breaker
+     * @param openDuration how long the breaker stays open after the first trip
+     */
+    public CircuitBreakerAIClient(AIClient delegate, int windowSize, int minimumCalls, double failureRateThreshold,
+                                  Duration slowCallThreshold, Duration openDuration) {
+        this(delegate, windowSize, minimumCalls, failureRateThreshold, slowCallThreshold, openDuration, System::nanoTime);
+    }
+
+    CircuitBreakerAIClient(AIClient delegate, int windowSize, int minimumCalls, double failureRateThreshold,
+                           Duration slowCallThreshold, Duration openDuration, LongSupplier clock) {
+        this.delegate = delegate;
+        this.failed = new boolean[Math.max(1, windowSize)];
+        this.latencies = new long[failed.length];
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, failed.length));
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallNanos = slowCallThreshold.toNanos();
+        this.baseOpenNanos = openDuration.toNanos();
+        this.openNanos = baseOpenNanos;
+        this.clock = clock;
+    }
+
+    @Override
+    public AIResponse query(String prompt) throws AIClientException {
+        boolean probe = acquire();
+        long start = clock.getAsLong();
+        try {
+            AIResponse response = delegate.query(prompt);
+            onComplete(probe, start, null);
+            return response;
+        } catch (AIClientException | RuntimeException e) {
+            onComplete(probe, start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<AIResponse> queryAsync(String prompt) {
+        return guard(() -> delegate.queryAsync(prompt));
+    }
+
+    @Override
+    public List<AIResponse> queryBatch(List<String> prompts) throws AIClientException {
+        boolean probe = acquire();
+        long start = clock.getAsLong();
+        try {
+            List<AIResponse> responses = delegate.queryBatch(prompts);
+            onComplete(probe, start, null);
+            return responses;
+        } catch (AIClientException | RuntimeException e) {
+            onComplete(probe, start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<List<AIResponse>> queryBatchAsync(List<String> prompts) {
+        return guard(() -> delegate.queryBatchAsync(prompts));
+    }
+
+    @Override
+    public String getClientName() {
+        return delegate.getClientName();
+    }
+
+    /**
+     * Healthy when the delegate is, and the breaker would let a call through right now.
+     */
+    @Override
+    public boolean isHealthy() {
+        synchronized (lock) {
+            boolean allowsCalls = switch (state) {
+                case CLOSED -> true;
+                case OPEN -> clock.getAsLong() - openUntil >= 0;
+                case HALF_OPEN -> !probeInFlight;
+            };
+            if (!allowsCalls) {
+                return false;
+            }
+        }
+        return delegate.isHealthy();
+    }
+
+    /**
+     * Returns the current breaker state. An expired OPEN state is reported as OPEN
+     * until the next call turns it into HALF_OPEN.
+     */
+    public State getState() {
+        synchronized (lock) {
+            return state;
+        }
+    }
+
+    /**
+     * Runs an asynchronous call under the breaker. The returned future is the delegate's,
+     * so cancelling it still reaches the delegate.
+     */
+    private <T> CompletableFuture<T> guard(Supplier<CompletableFuture<T>> call) {
+        boolean probe;
+        try {
+            probe = acquire();
+        } catch (AIClientException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        long start = clock.getAsLong();
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        future.whenComplete((result, error) -> onComplete(probe, start, error));
+        return future;
+    }
+
+    /**
+     * Admits a call or rejects it with CIRCUIT_OPEN.
+     *
+     * @return true if the admitted call is the half-open probe
+     */
+    private boolean acquire() throws AIClientException {
+        synchronized (lock) {
+            if (state == State.OPEN) {
+                if (clock.getAsLong() - openUntil < 0) {
+                    throw circuitOpen();
+                }
+                transition(State.HALF_OPEN);
+            }
+            if (state == State.HALF_OPEN) {
+                if (probeInFlight) {
+                    throw circuitOpen();
+                }
+                probeInFlight = true;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private void onComplete(boolean probe, long start, Throwable error) {
+        long latency = clock.getAsLong() - start;
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        boolean abandoned = cause instanceof CancellationException;
+        if (abandoned && latency < slowCallNanos) {
+            // A hedged loser or an impatient caller says nothing about the service
+            if (probe) {
+                synchronized (lock) {
+                    probeInFlight = false;
+                }
+            }
+            return;
+        }
+        boolean failure = cause != null || latency >= slowCallNanos;
+
+        synchronized (lock) {
+            if (probe) {
+                probeInFlight = false;
+                if (failure) {
+                    // Still broken: back off for longer each time
+                    openNanos = Math.min(openNanos * 2, MAX_OPEN_DURATION.toNanos());
+                    open();
+                } else {
+                    openNanos = baseOpenNanos;
+                    resetWindow();
+                    transition(State.CLOSED);
+                }
+                return;
+            }
+            if (state != State.CLOSED) {
+                return; // Result of a call admitted before the breaker tripped
+            }
+
+            failed[next] = failure;
+            latencies[next] = latency;
+            next = (next + 1) % failed.length;
+            recorded = Math.min(recorded + 1, failed.length);
+            if (shouldTrip()) {
+                open();
+            }
+        }
+    }
+
+    private boolean shouldTrip() {
+        if (recorded < minimumCalls) {
+            return false;
+        }
+        int failures = 0;
+        for (int i = 0; i < recorded; i++) {
+            if (failed[i]) {
+                failures++;
+            }
+        }
+        if ((double) failures / recorded >= failureRateThreshold) {
+            return true;
+        }
+        long[] sorted = Arrays.copyOf(latencies, recorded);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(SLOW_CALL_PERCENTILE * recorded) - 1;
+        return sorted[Math.max(0, index)] >= slowCallNanos;
+    }
+
+    private void open() {
+        openUntil = clock.getAsLong() + openNanos;
+        transition(State.OPEN);
+    }
+
+    private void resetWindow() {
+        recorded = 0;
+        next = 0;
+    }
+
+    private void transition(State newState) {
+        if (state != newState) {
+            System.err.println("[CircuitBreakerAIClient] " + getClientName() + ": " + state + " -> " + newState
+                + (newState == State.OPEN ? " for " + Duration.ofNanos(openNanos).toMillis() + " ms" : ""));
+            state = newState;
+        }
+    }
+
+    private AIClientException circuitOpen() {
+        return new AIClientException("Circuit open - " + getClientName() + " is failing or too slow",
+            getClientName(), AIClientException.ErrorType.CIRCUIT_OPEN);
+    }
+}
@@ -0,0 +1,145 @@
+package com.baccalaureat.ai;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.Map;
+
+/**
+ * Streaming reader for DictionaryAPI.dev entries.
+ *
+ * Walks the payload with a Jackson {@link JsonParser} and only looks at the
+ * {@code [].meanings[].definitions[].definition} strings, which are fed straight
+ * from the parser's character buffer into a {@link KeywordMatcher}. Everything
+ * else (phonetics, examples, synonyms, source URLs) is skipped without being
+ * materialized, so no copy of the body is ever made.
+ */
+final class DictionaryResponseAnalyzer {
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    /**
+     * What a response says about a word.
+     *
+     * @param wordExists whether some entry has both a word and its meanings
+     * @param keywordMatchesByCategory distinct keywords found in the definitions, per matcher group
+     */
+    record Analysis(boolean wordExists, Map<String, Integer> keywordMatchesByCategory) {
+
+        /**
+         * Number of distinct keywords of a category found in the definitions.
+         */
+        int keywordMatches(String category) {
+            return keywordMatchesByCategory.getOrDefault(category, 0);
+        }
+    }
+
+    private DictionaryResponseAnalyzer() {
+    }
+
+    /**
+     * Parses a response and counts, for every group of the matcher, the keywords found in its definitions.
+     *
+     * @param matcher keywords to look for, or null to only check that the word exists
+     * @throws IOException if the body is not valid JSON
+     */
+    static Analysis analyze(String response, KeywordMatcher matcher) throws IOException {
+        Scan scan = new Scan(matcher);
+        try (JsonParser parser = JSON.createParser(response)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                    readEntryOrSkip(parser, token, scan);
+                }
+            } else if (token != null) {
+                readEntryOrSkip(parser, token, scan);
+            }
+        }
+        Map<String, Integer> counts = scan.matcher != null ? scan.matcher.countByGroup(scan.matched) : Map.of();
+        return new Analysis(scan.wordExists, counts);
+    }
+
+    private static void readEntryOrSkip(JsonParser parser, JsonToken token, Scan scan) throws IOException {
+        if (token != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        boolean hasWord = false;
+        boolean hasMeanings = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("word".equals(field)) {
+                hasWord = true;
+                parser.skipChildren();
+            } else if ("meanings".equals(field)) {
+                hasMeanings = true;
+                forEachObject(parser, value, () -> readMeaning(parser, scan));
+            } else {
+                parser.skipChildren();
+            }
+        }
+        scan.wordExists |= hasWord && hasMeanings;
+    }
+
+    private static void readMeaning(JsonParser parser, Scan scan) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("definitions".equals(field)) {
+                forEachObject(parser, value, () -> readDefinition(parser, scan));
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private static void readDefinition(JsonParser parser, Scan scan) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("definition".equals(field) && value == JsonToken.VALUE_STRING && scan.matcher != null) {
+                scan.matcher.scan(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength(), scan.matched);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * Calls the reader once per object of an array, positioned on the object's START_OBJECT.
+     * Anything that is not an array of objects is skipped.
+     */
+    private static void forEachObject(JsonParser parser, JsonToken value, ObjectReader reader) throws IOException {
+        if (value != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            if (token == JsonToken.START_OBJECT) {
+                reader.read();
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ObjectReader {
+        void read() throws IOException;
+    }
+
+    private static final class Scan {
+        private final KeywordMatcher matcher;
+        private final BitSet matched = new BitSet();
+        private boolean wordExists = false;
+
+        Scan(KeywordMatcher matcher) {
+            this.matcher = matcher;
+        }
+    }
+}
@@ -4,66 +4,53 @@ import com.baccalaureat.model.Category;
 import com.baccalaureat.model.ValidationResult;
 import com.baccalaureat.model.ValidationStatus;
 import com.baccalaureat.service.CategoryService;
+import com.baccalaureat.util.TextNormalizer;
 
-import java.util.Set;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 /**
  * Fixed list validator for deterministic word validation.
  * Contains predefined word lists for each category.
  * This validator provides high confidence for known valid words.
+ * 
+ * Lists are plain text files, one word per line ({@code #} starts a comment),
+ * named after the category in lower case: the bundled
+ * {@code /com/baccalaureat/words/<category>.txt} resources plus, if present, the
+ * same file names in the directory given by {@code wordlists.dir}.
+ * 
+ * The build compiles the bundled lists into {@code wordlists.bin}
+ * (see {@link WordListCompiler}), which is memory-mapped and searched in place,
+ * so startup does not depend on list size. Large dictionaries (hundreds of
+ * thousands of words) should be compiled the same way and passed with
+ * {@code -Dwordlists.bin}. Text lists without a compiled section (e.g. from
+ * {@code wordlists.dir}) are loaded on first use into a {@link WordTrie}.
  */
 public class FixedListValidator implements CategoryValidator {
     
-    private static final Map<String, Set<String>> VALID_WORDS = new HashMap<>();
-    private CategoryService categoryService;
+    private static final String RESOURCE_DIR = "/com/baccalaureat/words/";
+    private static final String COMPILED_RESOURCE = RESOURCE_DIR + "wordlists.bin";
     
-    static {
-        // Initialize with some known valid words for each category
-        // These are deterministic lists that can be expanded
-        VALID_WORDS.put("PAYS", Set.of(
-            "france", "allemagne", "italie", "espagne", "angleterre", "portugal", 
-            "suisse", "belgique", "canada", "bresil", "argentine", "japon", "chine", "russie"
-        ));
-        
-        VALID_WORDS.put("VILLE", Set.of(
-            "paris", "lyon", "marseille", "toulouse", "nice", "strasbourg", "bordeaux", 
-            "lille", "rennes", "reims", "montpellier", "dijon", "angers", "nimes"
-        ));
-        
-        VALID_WORDS.put("ANIMAL", Set.of(
-            "chien", "chat", "cheval", "vache", "porc", "mouton", "lapin", "souris", 
-            "lion", "tigre", "elephant", "girafe", "zebre", "renard", "loup", "ours"
-        ));
-        
-        VALID_WORDS.put("METIER", Set.of(
-            "medecin", "infirmier", "professeur", "ingenieur", "avocat", "comptable", 
-            "architecte", "plombier", "electricien", "boulanger", "coiffeur", "dentiste"
-        ));
-        
-        VALID_WORDS.put("PRENOM", Set.of(
-            "pierre", "paul", "jean", "marie", "anne", "sophie", "claire", "julien", 
-            "nicolas", "thomas", "antoine", "matthieu", "alexandre", "francois"
-        ));
-        
-        VALID_WORDS.put("FRUIT", Set.of(
-            "pomme", "poire", "banane", "orange", "citron", "fraise", "cerise", "peche", 
-            "abricot", "prune", "raisin", "melon", "pasteque", "ananas", "kiwi", "mangue",
-            "tomate", "carotte", "pomme de terre", "salade", "radis", "navet"
-        ));
-        
-        VALID_WORDS.put("OBJET", Set.of(
-            "table", "chaise", "lit", "armoire", "television", "telephone", "ordinateur", 
-            "livre", "stylo", "crayon", "voiture", "velo", "montre", "lunettes"
-        ));
-        
-        VALID_WORDS.put("CELEBRITE", Set.of(
-            "napoleon", "de gaulle", "moliere", "voltaire", "hugo", "balzac", "zola", 
-            "monet", "renoir", "picasso", "dali", "rodin", "pasteur", "curie"
-        ));
-    }
+    /** category name -> list; empty when the category has no list */
+    private static final Map<String, Optional<WordList>> WORD_LISTS = new ConcurrentHashMap<>();
+    /** Words added at runtime through {@link #addValidWord(Category, String)} */
+    private static final Map<String, Set<String>> ADDED_WORDS = new ConcurrentHashMap<>();
+    
+    private CategoryService categoryService;
     
     @Override
     public ValidationResult validate(String word, Category category) {
@@ -71,15 +58,16 @@ public class FixedListValidator implements CategoryValidator {
             return new ValidationResult(ValidationStatus.INVALID, 0.0, getSourceName(), "Empty word");
         }
         
-        String normalizedWord = normalizeWord(word);
-        Set<String> categoryWords = VALID_WORDS.get(category);
+        String normalizedWord = TextNormalizer.normalize(word);
+        Optional<WordList> categoryWords = category != null ? wordList(category.getName()) : Optional.empty();
         
-        if (categoryWords == null) {
+        if (categoryWords.isEmpty()) {
             return new ValidationResult(ValidationStatus.UNCERTAIN, 0.0, getSourceName(), "Category not supported");
         }
         
         // Fixed lists are deterministic sources, therefore confidence is always 1.0 when matched.
-        if (categoryWords.contains(normalizedWord)) {
+        if (categoryWords.get().contains(normalizedWord)
+                || ADDED_WORDS.getOrDefault(category.getName(), Set.of()).contains(normalizedWord)) {
             return new ValidationResult(ValidationStatus.VALID, 1.0, getSourceName(), "Found in fixed word list");
         }
         
@@ -91,45 +79,136 @@ public class FixedListValidator implements CategoryValidator {
         return "FIXED_LIST";
     }
     
+    /**
+     * Word lists live in memory, so the result is computed on the caller's thread.
+     */
+    @Override
+    public CompletionStage<ValidationResult> validateAsync(String word, Category category) {
+        return CompletableFuture.completedFuture(validate(word, category));
+    }
+    
     @Override
     public boolean isAvailable() {
         return true; // Always available
     }
     
     /**
-     * Normalizes a word for comparison (lowercase, trim, remove accents if needed).
+     * Returns up to limit listed words of a category starting with a prefix
+     * (typically the round's letter), in alphabetical order.
      */
-    private String normalizeWord(String word) {
-        if (word == null) return "";
-        
-        return word.trim()
-                  .toLowerCase()
-                  .replace("à", "a")
-                  .replace("é", "e")
-                  .replace("è", "e")
-                  .replace("ê", "e")
-                  .replace("ë", "e")
-                  .replace("î", "i")
-                  .replace("ï", "i")
-                  .replace("ô", "o")
-                  .replace("ö", "o")
-                  .replace("ù", "u")
-                  .replace("û", "u")
-                  .replace("ü", "u")
-                  .replace("ÿ", "y")
-                  .replace("ç", "c");
+    public static List<String> wordsStartingWith(Category category, String prefix, int limit) {
+        return wordList(category.getName())
+                .map(words -> words.wordsWithPrefix(TextNormalizer.normalize(prefix), limit))
+                .orElse(List.of());
+    }
+    
+    /**
+     * Checks whether any listed word of a category starts with a prefix.
+     */
+    public static boolean hasWordStartingWith(Category category, String prefix) {
+        return wordList(category.getName())
+                .map(words -> words.hasPrefix(TextNormalizer.normalize(prefix)))
+                .orElse(false);
     }
     
     /**
      * Adds a word to the fixed list for a category (for dynamic expansion).
      */
     public static void addValidWord(Category category, String word) {
-        Set<String> existingWords = VALID_WORDS.get(category.getName());
-        if (existingWords != null) {
-            // Create a new mutable set since Set.of() creates immutable sets
-            Set<String> newWords = new HashSet<>(existingWords);
-            newWords.add(word.toLowerCase().trim());
-            VALID_WORDS.put(category.getName(), newWords);
+        if (wordList(category.getName()).isPresent()) {
+            ADDED_WORDS.computeIfAbsent(category.getName(), name -> ConcurrentHashMap.newKeySet())
+                    .add(TextNormalizer.normalize(word));
+            KnownWordFilter.addToShared(word, category.getName());
+        }
+    }
+    
+    /**
+     * Passes every word of a category's list, runtime additions included, to the action.
+     */
+    static void forEachListedWord(String categoryName, Consumer<String> action) {
+        wordList(categoryName).ifPresent(words -> words.wordsWithPrefix("", Integer.MAX_VALUE).forEach(action));
+        ADDED_WORDS.getOrDefault(categoryName, Set.of()).forEach(action);
+    }
+    
+    /**
+     * Returns the list of a category, loading it on first use.
+     */
+    private static Optional<WordList> wordList(String categoryName) {
+        return WORD_LISTS.computeIfAbsent(categoryName, FixedListValidator::loadWordList);
+    }
+    
+    private static Optional<WordList> loadWordList(String categoryName) {
+        String fileName = categoryName.toLowerCase() + ".txt";
+        List<WordList> sources = new ArrayList<>();
+        List<String> words = new ArrayList<>();
+        boolean found = false;
+        
+        WordList mapped = Compiled.LISTS != null ? Compiled.LISTS.get(categoryName) : null;
+        if (mapped != null) {
+            sources.add(mapped);
+        } else {
+            // Not compiled (e.g. running without the build step): fall back to the bundled text
+            try (InputStream bundled = FixedListValidator.class.getResourceAsStream(RESOURCE_DIR + fileName)) {
+                if (bundled != null) {
+                    readWords(bundled, words);
+                    found = true;
+                }
+            } catch (IOException e) {
+                System.err.println("Failed to read bundled word list " + fileName + ": " + e.getMessage());
+            }
+        }
+        
+        String externalDir = System.getProperty("wordlists.dir");
+        if (externalDir != null) {
+            Path external = Path.of(externalDir, fileName);
+            if (Files.isRegularFile(external)) {
+                try (InputStream in = Files.newInputStream(external)) {
+                    readWords(in, words);
+                    found = true;
+                } catch (IOException e) {
+                    System.err.println("Failed to read word list " + external + ": " + e.getMessage());
+                }
+            }
+        }
+        
+        if (found) {
+            sources.add(WordTrie.of(words));
+        }
+        return switch (sources.size()) {
+            case 0 -> Optional.empty();
+            case 1 -> Optional.of(sources.get(0));
+            default -> Optional.of(WordList.union(sources));
+        };
+    }
+    
+    /**
+     * Reads a text word list, normalizing every word.
+     */
+    static void readWords(InputStream in, List<String> words) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.isBlank() && !line.startsWith("#")) {
+                words.add(TextNormalizer.normalize(line));
+            }
+        }
+    }
+    
+    /**
+     * Memory-mapped lists, opened on first use: {@code -Dwordlists.bin} if set,
+     * otherwise the file compiled into the build.
+     */
+    private static final class Compiled {
+        private static final MappedWordLists LISTS = open();
+        
+        private static MappedWordLists open() {
+            String path = System.getProperty("wordlists.bin");
+            try {
+                return path != null ? MappedWordLists.open(Path.of(path)) : MappedWordLists.openResource(COMPILED_RESOURCE);
+            } catch (IOException e) {
+                System.err.println("Failed to map compiled word lists: " + e.getMessage());
+                return null;
+            }
         }
     }
-}
\ No newline at end of file
+}
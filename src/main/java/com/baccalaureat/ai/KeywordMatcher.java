@@ -0,0 +1,200 @@
+package com.baccalaureat.ai;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * Aho-Corasick automaton that finds every keyword occurring in a text in one pass.
+ *
+ * Keywords are grouped (one group per category) and compiled into a single
+ * automaton, so one scan yields the hit count of every group at once. A keyword
+ * shared by several groups counts for each of them.
+ *
+ * Keywords are matched case-insensitively as substrings, the same semantics as
+ * {@code text.toLowerCase().contains(keyword)}, but without copying the text.
+ * The automaton is compiled to a dense transition table over the keywords'
+ * alphabet, so scanning costs one array lookup per character regardless of how
+ * many keywords there are. Instances are immutable and safe to share.
+ */
+final class KeywordMatcher {
+
+    private static final int ASCII = 128;
+
+    /** Group names in id order, and the group of each keyword id. */
+    private final String[] groups;
+    private final int[] groupOfKeyword;
+    private final Map<String, Integer> groupIds = new LinkedHashMap<>();
+    /** Alphabet index of each ASCII char, or -1; non-ASCII chars go through {@link #otherChars}. */
+    private final int[] asciiIndex = new int[ASCII];
+    private final Map<Character, Integer> otherChars = new HashMap<>();
+    /** transitions[state * alphabetSize + symbol] -> next state */
+    private final int[] transitions;
+    private final int alphabetSize;
+    /** Keywords ending at each state (including via suffix links), or null. */
+    private final BitSet[] outputs;
+
+    /**
+     * @param keywordsByGroup keywords of each group (category name)
+     */
+    KeywordMatcher(Map<String, ? extends Collection<String>> keywordsByGroup) {
+        Arrays.fill(asciiIndex, -1);
+        List<String> words = new ArrayList<>();
+        List<Integer> owners = new ArrayList<>();
+        for (Map.Entry<String, ? extends Collection<String>> group : keywordsByGroup.entrySet()) {
+            int groupId = groupIds.size();
+            groupIds.put(group.getKey(), groupId);
+            for (String keyword : group.getValue()) {
+                if (keyword != null && !keyword.isEmpty()) {
+                    words.add(keyword.toLowerCase());
+                    owners.add(groupId);
+                }
+            }
+        }
+        this.groups = groupIds.keySet().toArray(new String[0]);
+        this.groupOfKeyword = owners.stream().mapToInt(Integer::intValue).toArray();
+
+        int symbols = 0;
+        for (String word : words) {
+            for (int i = 0; i < word.length(); i++) {
+                if (symbolOf(word.charAt(i)) < 0) {
+                    char c = word.charAt(i);
+                    if (c < ASCII) {
+                        asciiIndex[c] = symbols++;
+                    } else {
+                        otherChars.put(c, symbols++);
+                    }
+                }
+            }
+        }
+        this.alphabetSize = Math.max(1, symbols);
+
+        // Trie of the keywords; -1 marks a missing edge until the failure pass fills it in
+        List<int[]> trie = new ArrayList<>();
+        List<BitSet> ends = new ArrayList<>();
+        trie.add(newRow());
+        ends.add(null);
+        for (int id = 0; id < words.size(); id++) {
+            String word = words.get(id);
+            int state = 0;
+            for (int i = 0; i < word.length(); i++) {
+                int symbol = symbolOf(word.charAt(i));
+                if (trie.get(state)[symbol] < 0) {
+                    trie.get(state)[symbol] = trie.size();
+                    trie.add(newRow());
+                    ends.add(null);
+                }
+                state = trie.get(state)[symbol];
+            }
+            if (ends.get(state) == null) {
+                ends.set(state, new BitSet());
+            }
+            ends.get(state).set(id);
+        }
+
+        // Breadth-first failure links turn the trie into a complete DFA
+        int[] fail = new int[trie.size()];
+        Queue<Integer> queue = new ArrayDeque<>();
+        int[] root = trie.get(0);
+        for (int symbol = 0; symbol < alphabetSize; symbol++) {
+            if (root[symbol] < 0) {
+                root[symbol] = 0;
+            } else {
+                queue.add(root[symbol]);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            BitSet inherited = ends.get(fail[state]);
+            if (inherited != null) {
+                if (ends.get(state) == null) {
+                    ends.set(state, new BitSet());
+                }
+                ends.get(state).or(inherited);
+            }
+            int[] row = trie.get(state);
+            for (int symbol = 0; symbol < alphabetSize; symbol++) {
+                int next = row[symbol];
+                if (next < 0) {
+                    row[symbol] = trie.get(fail[state])[symbol];
+                } else {
+                    fail[next] = trie.get(fail[state])[symbol];
+                    queue.add(next);
+                }
+            }
+        }
+
+        this.transitions = new int[trie.size() * alphabetSize];
+        for (int state = 0; state < trie.size(); state++) {
+            System.arraycopy(trie.get(state), 0, transitions, state * alphabetSize, alphabetSize);
+        }
+        this.outputs = ends.toArray(new BitSet[0]);
+    }
+
+    /**
+     * Names of the groups this matcher was compiled for.
+     */
+    Set<String> groups() {
+        return groupIds.keySet();
+    }
+
+    /**
+     * Checks whether the matcher was compiled with keywords for a group.
+     */
+    boolean hasGroup(String group) {
+        return groupIds.containsKey(group);
+    }
+
+    /**
+     * Counts, per group, the distinct keywords set in a result of {@link #scan}.
+     * Every group is present in the map, with 0 when none of its keywords matched.
+     */
+    Map<String, Integer> countByGroup(BitSet matched) {
+        int[] counts = new int[groups.length];
+        for (int id = matched.nextSetBit(0); id >= 0; id = matched.nextSetBit(id + 1)) {
+            counts[groupOfKeyword[id]]++;
+        }
+        Map<String, Integer> byGroup = new HashMap<>(groups.length * 2);
+        for (int i = 0; i < groups.length; i++) {
+            byGroup.put(groups[i], counts[i]);
+        }
+        return byGroup;
+    }
+
+    /**
+     * Scans a slice of characters and sets the id of every keyword found in it.
+     * Keywords never match across two calls.
+     */
+    void scan(char[] text, int offset, int length, BitSet matched) {
+        int state = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            int symbol = symbolOf(Character.toLowerCase(text[i]));
+            state = symbol < 0 ? 0 : transitions[state * alphabetSize + symbol];
+            if (outputs[state] != null) {
+                matched.or(outputs[state]);
+            }
+        }
+    }
+
+    private int symbolOf(char c) {
+        if (c < ASCII) {
+            return asciiIndex[c];
+        }
+        Integer symbol = otherChars.get(c);
+        return symbol != null ? symbol : -1;
+    }
+
+    private int[] newRow() {
+        int[] row = new int[alphabetSize];
+        Arrays.fill(row, -1);
+        return row;
+    }
+}
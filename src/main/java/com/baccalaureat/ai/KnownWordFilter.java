@@ -0,0 +1,152 @@
+package com.baccalaureat.ai;
+
+import com.baccalaureat.service.RejectedWordIndex;
+import com.baccalaureat.service.ValidatedWordIndex;
+import com.baccalaureat.util.TextNormalizer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Per-category Bloom filters over every word a local stage can answer for:
+ * the fixed lists, validated_words and rejected_words.
+ *
+ * A negative answer from {@link #mightBeKnown} is definite, so the engine can send
+ * the word straight to the remote stages without probing the local ones. A filter
+ * is built the first time its category is looked up and then kept current: the
+ * validated and rejected indexes report every word they add, and a filter that
+ * grows past its size is rebuilt from the sources at twice the size. Words that
+ * leave a source (expired or superseded rejections) stay in the filter, which only
+ * costs a false positive.
+ */
+final class KnownWordFilter {
+
+    /** Reads every known word of a category, normalized or not. */
+    @FunctionalInterface
+    interface Source {
+        void forEachWord(String categoryName, Consumer<String> action);
+    }
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int MIN_CAPACITY = 256;
+
+    private static volatile KnownWordFilter shared;
+    /** Indexes the shared filter reads from; guarded by the class */
+    private static ValidatedWordIndex sharedValidated;
+    private static RejectedWordIndex sharedRejected;
+
+    private final List<Source> sources;
+    private final Map<String, CategoryFilter> filters = new ConcurrentHashMap<>();
+
+    KnownWordFilter(List<Source> sources) {
+        this.sources = List.copyOf(sources);
+    }
+
+    /**
+     * Returns the filter over the fixed lists and the shared word indexes, creating it on first use.
+     * The filter is rebuilt when the indexes were replaced after a switch to another database.
+     */
+    static KnownWordFilter shared() {
+        ValidatedWordIndex validated = ValidatedWordIndex.getInstance();
+        RejectedWordIndex rejected = RejectedWordIndex.getInstance();
+        synchronized (KnownWordFilter.class) {
+            if (shared == null || sharedValidated != validated || sharedRejected != rejected) {
+                KnownWordFilter filter = new KnownWordFilter(List.of(
+                    FixedListValidator::forEachListedWord, validated::forEachWord, rejected::forEachWord));
+                validated.addListener(filter::add);
+                rejected.addListener(filter::add);
+                sharedValidated = validated;
+                sharedRejected = rejected;
+                shared = filter;
+            }
+            return shared;
+        }
+    }
+
+    /**
+     * Adds a word to the shared filter, if it exists. Used by sources without listeners.
+     */
+    static void addToShared(String word, String categoryName) {
+        KnownWordFilter filter = shared;
+        if (filter != null) {
+            filter.add(word, categoryName);
+        }
+    }
+
+    /**
+     * Returns false if no source knows the word for the category, true if one may.
+     */
+    boolean mightBeKnown(String word, String categoryName) {
+        return filterFor(categoryName).mightContain(TextNormalizer.normalize(word));
+    }
+
+    /**
+     * Records a word added to a source after the category's filter was built.
+     * Categories without a filter yet pick the word up when theirs is built.
+     */
+    void add(String word, String categoryName) {
+        CategoryFilter filter = filters.get(categoryName);
+        if (filter != null) {
+            filter.put(TextNormalizer.normalize(word));
+        }
+    }
+
+    private CategoryFilter filterFor(String categoryName) {
+        CategoryFilter filter = filters.computeIfAbsent(categoryName, CategoryFilter::new);
+        filter.ensureBuilt();
+        return filter;
+    }
+
+    /**
+     * The filter of one category. Lookups are lock-free; builds and puts are serialized
+     * so a word added while the filter is being rebuilt is never lost.
+     */
+    private final class CategoryFilter {
+        private final String categoryName;
+        private volatile BloomFilter bloom;
+
+        CategoryFilter(String categoryName) {
+            this.categoryName = categoryName;
+        }
+
+        boolean mightContain(String normalizedWord) {
+            return bloom.mightContain(normalizedWord);
+        }
+
+        void ensureBuilt() {
+            if (bloom == null) {
+                synchronized (this) {
+                    if (bloom == null) {
+                        rebuild(0);
+                    }
+                }
+            }
+        }
+
+        synchronized void put(String normalizedWord) {
+            if (bloom == null) {
+                // The first lookup builds the filter from the sources, this word included
+                return;
+            }
+            bloom.put(normalizedWord);
+            if (bloom.isSaturated()) {
+                rebuild(bloom.expectedInsertions() * 2);
+            }
+        }
+
+        private void rebuild(int minCapacity) {
+            List<String> words = new ArrayList<>();
+            for (Source source : sources) {
+                source.forEachWord(categoryName, word -> words.add(TextNormalizer.normalize(word)));
+            }
+            // Leave room for the words the game will add before the next rebuild
+            BloomFilter next = new BloomFilter(Math.max(Math.max(MIN_CAPACITY, minCapacity), words.size() * 2),
+                FALSE_POSITIVE_RATE);
+            words.forEach(next::put);
+            bloom = next;
+        }
+    }
+}
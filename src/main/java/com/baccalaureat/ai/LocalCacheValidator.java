@@ -5,13 +5,17 @@ import com.baccalaureat.model.ValidationResult;
 import com.baccalaureat.model.ValidationStatus;
 import com.baccalaureat.service.CacheService;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
 /**
  * LocalCacheValidator - STEP 1 of validation pipeline.
  * Provides instant validation for previously validated words.
  * 
  * Behavior:
  * - Cache hit: Returns VALID
- * - Cache miss: Returns UNCERTAIN (never rejects)
+ * - Recent confident rejection: Returns INVALID
+ * - Cache miss: Returns UNCERTAIN
  */
 public class LocalCacheValidator implements CategoryValidator {
     
@@ -50,6 +54,14 @@ public class LocalCacheValidator implements CategoryValidator {
                 "LOCAL_DB",
                 "Previously validated word (local cache)"
             );
+        } else if (cacheService.isWordRejected(word, category)) {
+            // Negative cache hit - same answer the remote validators gave last time
+            return new ValidationResult(
+                ValidationStatus.INVALID,
+                0.90,
+                "LOCAL_DB",
+                "Previously rejected word (local cache)"
+            );
         } else {
             // Cache miss - let other validators decide
             return new ValidationResult(
@@ -61,6 +73,14 @@ public class LocalCacheValidator implements CategoryValidator {
         }
     }
     
+    /**
+     * Cache lookups are in-memory, so the result is computed on the caller's thread.
+     */
+    @Override
+    public CompletionStage<ValidationResult> validateAsync(String word, Category category) {
+        return CompletableFuture.completedFuture(validate(word, category));
+    }
+    
     @Override
     public boolean isAvailable() {
         // Always available (no external dependencies)
@@ -0,0 +1,307 @@
+package com.baccalaureat.ai;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Prebuilt word lists read straight from a memory-mapped file.
+ *
+ * The file holds one section per category: the category's words encoded as UTF-8,
+ * sorted by unsigned byte order and deduplicated, behind an offset table. Lookups
+ * binary-search the mapped bytes in place, so opening the file costs the same no
+ * matter how many words it holds, nothing is copied onto the heap, and every game
+ * instance on a machine shares the same pages of the OS page cache.
+ *
+ * Layout (big-endian):
+ * <pre>
+ * int magic, int version, int categoryCount
+ * categoryCount x { short nameLength, byte[] name, int wordCount, int indexPosition }
+ * per category: int[wordCount + 1] word start positions (the last one is the end), then the word bytes
+ * </pre>
+ */
+final class MappedWordLists {
+
+    private static final int MAGIC = 0x4241434C; // "BACL"
+    private static final int VERSION = 1;
+    private static final Set<PosixFilePermission> OWNER_ONLY = PosixFilePermissions.fromString("rwx------");
+
+    private final Map<String, Section> sections;
+
+    private MappedWordLists(Map<String, Section> sections) {
+        this.sections = sections;
+    }
+
+    /**
+     * Maps a compiled file read-only.
+     *
+     * @throws IOException if the file cannot be read or is not a word-list file
+     */
+    static MappedWordLists open(Path file) throws IOException {
+        MappedByteBuffer data;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (data.capacity() < 12 || data.getInt(0) != MAGIC || data.getInt(4) != VERSION) {
+            throw new IOException("Not a version " + VERSION + " word-list file: " + file);
+        }
+
+        Map<String, Section> sections = new HashMap<>();
+        int count = data.getInt(8);
+        int position = 12;
+        for (int i = 0; i < count; i++) {
+            byte[] name = new byte[data.getShort(position)];
+            data.get(position + 2, name);
+            position += 2 + name.length;
+            sections.put(new String(name, StandardCharsets.UTF_8),
+                    new Section(data, data.getInt(position + 4), data.getInt(position)));
+            position += 8;
+        }
+        return new MappedWordLists(sections);
+    }
+
+    /**
+     * Opens a file shipped as a classpath resource. A resource inside a jar is
+     * copied once to the user's own directory under the temp directory (keyed by its
+     * size and timestamp) so it can be mapped; later starts and other instances of the
+     * same user reuse that copy.
+     *
+     * @return the lists, or null if the resource does not exist
+     */
+    static MappedWordLists openResource(String resource) throws IOException {
+        URL url = MappedWordLists.class.getResource(resource);
+        if (url == null) {
+            return null;
+        }
+        if ("file".equals(url.getProtocol())) {
+            try {
+                return open(Path.of(url.toURI()));
+            } catch (URISyntaxException e) {
+                throw new IOException(e);
+            }
+        }
+
+        URLConnection connection = url.openConnection();
+        Path directory = privateDirectory(Path.of(System.getProperty("java.io.tmpdir"),
+                "baccalaureat-" + System.getProperty("user.name")));
+        Path copy = directory.resolve("wordlists-"
+                + connection.getContentLengthLong() + "-" + connection.getLastModified() + ".bin");
+        if (!Files.isRegularFile(copy) || Files.size(copy) != connection.getContentLengthLong()) {
+            Path partial = Files.createTempFile(directory, "wordlists", ".part");
+            try (InputStream in = connection.getInputStream()) {
+                Files.copy(in, partial, StandardCopyOption.REPLACE_EXISTING);
+            }
+            Files.move(partial, copy, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        return open(copy);
+    }
+
+    /**
+     * Creates the directory if needed and checks that only the current user can write to it.
+     * The temp directory is shared, so a copy found anywhere else could have been planted
+     * by another user. On file systems without POSIX permissions the temp directory is
+     * already per user.
+     *
+     * @throws IOException if the directory exists but is not the current user's alone
+     */
+    static Path privateDirectory(Path directory) throws IOException {
+        if (!FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            return Files.createDirectories(directory);
+        }
+        try {
+            Files.createDirectory(directory, PosixFilePermissions.asFileAttribute(OWNER_ONLY));
+        } catch (FileAlreadyExistsException e) {
+            // Created by an earlier start, or by someone else: checked below
+        }
+        PosixFileAttributes attributes = Files.readAttributes(directory, PosixFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+        UserPrincipal user = directory.getFileSystem().getUserPrincipalLookupService()
+                .lookupPrincipalByName(System.getProperty("user.name"));
+        if (!attributes.isDirectory() || !attributes.owner().equals(user) || !attributes.permissions().equals(OWNER_ONLY)) {
+            throw new IOException(directory + " is not a private directory of " + user.getName());
+        }
+        return directory;
+    }
+
+    /**
+     * Writes lists of already normalized words to a file readable by {@link #open(Path)}.
+     */
+    static void write(Map<String, ? extends Collection<String>> lists, Path file) throws IOException {
+        List<String> names = new ArrayList<>(lists.keySet());
+        names.sort(null);
+        List<byte[][]> encoded = new ArrayList<>();
+        for (String name : names) {
+            byte[][] words = lists.get(name).stream()
+                    .filter(w -> w != null && !w.isEmpty())
+                    .distinct()
+                    .map(w -> w.getBytes(StandardCharsets.UTF_8))
+                    .sorted(Arrays::compareUnsigned)
+                    .toArray(byte[][]::new);
+            encoded.add(words);
+        }
+
+        int position = 12;
+        for (String name : names) {
+            position += 2 + name.getBytes(StandardCharsets.UTF_8).length + 8;
+        }
+        int[] indexPositions = new int[names.size()];
+        for (int i = 0; i < names.size(); i++) {
+            indexPositions[i] = position;
+            position += 4 * (encoded.get(i).length + 1);
+            for (byte[] word : encoded.get(i)) {
+                position += word.length;
+            }
+        }
+
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(names.size());
+            for (int i = 0; i < names.size(); i++) {
+                byte[] name = names.get(i).getBytes(StandardCharsets.UTF_8);
+                out.writeShort(name.length);
+                out.write(name);
+                out.writeInt(encoded.get(i).length);
+                out.writeInt(indexPositions[i]);
+            }
+            for (int i = 0; i < names.size(); i++) {
+                byte[][] words = encoded.get(i);
+                int wordPosition = indexPositions[i] + 4 * (words.length + 1);
+                for (byte[] word : words) {
+                    out.writeInt(wordPosition);
+                    wordPosition += word.length;
+                }
+                out.writeInt(wordPosition);
+                for (byte[] word : words) {
+                    out.write(word);
+                }
+            }
+        }
+    }
+
+    /**
+     * Categories present in the file.
+     */
+    Set<String> categories() {
+        return sections.keySet();
+    }
+
+    /**
+     * Returns the list of a category, or null if the file has none.
+     */
+    WordList get(String category) {
+        return sections.get(category);
+    }
+
+    /**
+     * One category's sorted words inside the mapped buffer.
+     */
+    private static final class Section implements WordList {
+        private final ByteBuffer data;
+        private final int index;
+        private final int count;
+
+        Section(ByteBuffer data, int index, int count) {
+            this.data = data;
+            this.index = index;
+            this.count = count;
+        }
+
+        @Override
+        public boolean contains(String word) {
+            byte[] key = word.getBytes(StandardCharsets.UTF_8);
+            int first = lowerBound(key);
+            return first < count && compare(first, key, false) == 0;
+        }
+
+        @Override
+        public boolean hasPrefix(String prefix) {
+            byte[] key = prefix.getBytes(StandardCharsets.UTF_8);
+            int first = lowerBound(key);
+            return first < count && compare(first, key, true) == 0;
+        }
+
+        @Override
+        public List<String> wordsWithPrefix(String prefix, int limit) {
+            byte[] key = prefix.getBytes(StandardCharsets.UTF_8);
+            List<String> words = new ArrayList<>();
+            for (int i = lowerBound(key); i < count && words.size() < limit && compare(i, key, true) == 0; i++) {
+                byte[] bytes = new byte[end(i) - start(i)];
+                data.get(start(i), bytes);
+                words.add(new String(bytes, StandardCharsets.UTF_8));
+            }
+            return words;
+        }
+
+        /**
+         * Index of the first word not smaller than the key.
+         */
+        private int lowerBound(byte[] key) {
+            int low = 0;
+            int high = count;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (compare(mid, key, false) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Compares word i with the key by unsigned bytes; with prefixOnly, only the key's length is compared.
+         */
+        private int compare(int i, byte[] key, boolean prefixOnly) {
+            int start = start(i);
+            int length = end(i) - start;
+            int shared = Math.min(length, key.length);
+            for (int k = 0; k < shared; k++) {
+                int diff = Byte.toUnsignedInt(data.get(start + k)) - Byte.toUnsignedInt(key[k]);
+                if (diff != 0) {
+                    return diff;
+                }
+            }
+            if (prefixOnly && length >= key.length) {
+                return 0;
+            }
+            return length - key.length;
+        }
+
+        private int start(int i) {
+            return data.getInt(index + 4 * i);
+        }
+
+        private int end(int i) {
+            return data.getInt(index + 4 * (i + 1));
+        }
+    }
+}
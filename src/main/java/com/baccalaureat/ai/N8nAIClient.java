@@ -1,5 +1,6 @@
 package com.baccalaureat.ai;
 
+import com.baccalaureat.service.ResponseStore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -9,19 +10,39 @@ import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * N8n webhook-based implementation of the AIClient interface.
  * Uses a simple HTTP POST to n8n workflow that returns deterministic true/false responses.
+ * 
+ * Single prompts are sent as {@code {"chatInput": "..."}} and answered with
+ * {@code {"valid": true}}. Batches are sent to the same webhook as
+ * {@code {"chatInputs": ["...", "..."]}} and must be answered with
+ * {@code {"results": [{"valid": true}, {"valid": false}]}}, one entry per prompt in order.
+ * 
+ * Verdicts are deterministic, so every answer is kept in the durable
+ * {@link ResponseStore} keyed by prompt. Stored prompts are answered from disk
+ * across restarts for {@code ai.store.ttl.days} (default 7), so a changed workflow
+ * is picked up eventually, and regardless of age with {@code http.offline} set;
+ * batches only send the prompts that have no usable stored answer.
  */
 public class N8nAIClient implements AIClient {
     
     private static final String N8N_WEBHOOK_URL = "https://gronki.app.n8n.cloud/webhook/chat";
     private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(8);
+    /** How long a stored verdict is trusted before the webhook is asked again; offline, any age will do */
+    private static final Duration STORE_TTL = Duration.ofDays(Long.getLong("ai.store.ttl.days", 7));
     
     private final HttpClient httpClient;
     private final ObjectMapper objectMapper;
+    private final ResponseStore responseStore;
     
     public N8nAIClient() {
         this.httpClient = HttpClient.newBuilder()
@@ -29,57 +50,351 @@ public class N8nAIClient implements AIClient {
             .build();
         
         this.objectMapper = new ObjectMapper();
+        this.responseStore = ResponseStore.getInstance();
     }
     
     @Override
     public AIResponse query(String prompt) throws AIClientException {
+        AIResponse stored = loadStored(prompt);
+        if (stored != null) {
+            return stored;
+        }
+        if (ResponseStore.isOffline()) {
+            throw offlineError();
+        }
+        
         try {
-            // Create the n8n webhook request payload
-            N8nRequest request = new N8nRequest(prompt);
-            
-            // Serialize to JSON
-            String requestBody = objectMapper.writeValueAsString(request);
-            
-            // Create HTTP request
-            HttpRequest httpRequest = HttpRequest.newBuilder()
-                .uri(URI.create(N8N_WEBHOOK_URL))
-                .header("Content-Type", "application/json")
-                .timeout(REQUEST_TIMEOUT)
-                .POST(HttpRequest.BodyPublishers.ofString(requestBody))
-                .build();
-            
             // Send request and get response
-            HttpResponse<String> response = httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = httpClient.send(buildRequest(prompt), HttpResponse.BodyHandlers.ofString());
+            AIResponse result = parseResponse(response);
+            remember(prompt, result);
+            return result;
             
-            // N8n should always return 200, but check for errors
-            if (response.statusCode() < 200 || response.statusCode() >= 300) {
-                throw new AIClientException(
-                    "N8n webhook returned status: " + response.statusCode() + ", body: " + response.body(), 
-                    getClientName(), 
-                    AIClientException.ErrorType.API_ERROR
-                );
+        } catch (AIClientException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new AIClientException("Network error calling n8n webhook", e, getClientName(), AIClientException.ErrorType.NETWORK_ERROR);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AIClientException("N8n webhook request was interrupted", e, getClientName(), AIClientException.ErrorType.TIMEOUT);
+        } catch (Exception e) {
+            throw new AIClientException("Unexpected error calling n8n webhook: " + e.getMessage(), e, getClientName(), AIClientException.ErrorType.UNKNOWN_ERROR);
+        }
+    }
+    
+    /**
+     * Looks up the stored verdict on the store's thread, then sends the webhook request on
+     * the HttpClient's own I/O threads. No thread is parked on SQLite or the n8n workflow.
+     */
+    @Override
+    public CompletableFuture<AIResponse> queryAsync(String prompt) {
+        AtomicReference<CompletableFuture<?>> exchange = new AtomicReference<>();
+        CompletableFuture<AIResponse> result = loadStoredAsync(prompt).thenCompose(stored -> {
+            if (stored != null) {
+                return CompletableFuture.completedFuture(stored);
+            }
+            if (ResponseStore.isOffline()) {
+                return CompletableFuture.failedFuture(offlineError());
             }
             
-            // Parse the JSON response
-            N8nResponse n8nResponse = objectMapper.readValue(response.body(), N8nResponse.class);
-            
-            // Convert n8n boolean response to AIResponse with confidence 1.0
-            // N8n gives us deterministic true/false, so confidence is always 1.0
-            double confidence = 1.0;
-            String reasoning = "N8n webhook validation: " + (n8nResponse.valid ? "valid" : "invalid");
+            HttpRequest httpRequest;
+            try {
+                httpRequest = buildRequest(prompt);
+            } catch (IOException e) {
+                return CompletableFuture.failedFuture(new AIClientException(
+                    "Failed to serialize n8n request", e, getClientName(), AIClientException.ErrorType.UNKNOWN_ERROR));
+            }
             
-            return new AIResponse(n8nResponse.valid, confidence, reasoning);
+            CompletableFuture<HttpResponse<String>> sent =
+                httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofString());
+            exchange.set(sent);
+            return sent.handle((response, error) -> {
+                if (error != null) {
+                    throw new CompletionException(networkError(error));
+                }
+                try {
+                    AIResponse parsed = parseResponse(response);
+                    remember(prompt, parsed);
+                    return parsed;
+                } catch (AIClientException e) {
+                    throw new CompletionException(e);
+                }
+            });
+        });
+        cancelWith(result, exchange);
+        return result;
+    }
+    
+    /**
+     * Sends all prompts without a stored answer in one webhook call.
+     */
+    @Override
+    public List<AIResponse> queryBatch(List<String> prompts) throws AIClientException {
+        AIResponse[] answers = loadStored(prompts);
+        List<String> missing = missingPrompts(prompts, answers);
+        if (missing.isEmpty()) {
+            return List.of(answers);
+        }
+        if (ResponseStore.isOffline()) {
+            throw offlineError();
+        }
+        
+        try {
+            HttpResponse<String> response = httpClient.send(
+                buildRequest(new N8nBatchRequest(missing)), HttpResponse.BodyHandlers.ofString());
+            return merge(answers, missing, parseBatchResponse(response, missing.size()));
             
+        } catch (AIClientException e) {
+            throw e;
         } catch (IOException e) {
             throw new AIClientException("Network error calling n8n webhook", e, getClientName(), AIClientException.ErrorType.NETWORK_ERROR);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new AIClientException("N8n webhook request was interrupted", e, getClientName(), AIClientException.ErrorType.TIMEOUT);
-        } catch (Exception e) {
-            throw new AIClientException("Unexpected error calling n8n webhook: " + e.getMessage(), e, getClientName(), AIClientException.ErrorType.UNKNOWN_ERROR);
         }
     }
     
+    /**
+     * Sends all prompts without a stored answer in one webhook call on the HttpClient's own I/O threads.
+     * Stored answers are read on the store's thread.
+     */
+    @Override
+    public CompletableFuture<List<AIResponse>> queryBatchAsync(List<String> prompts) {
+        AtomicReference<CompletableFuture<?>> exchange = new AtomicReference<>();
+        CompletableFuture<List<AIResponse>> result = loadStoredAsync(prompts).thenCompose(answers -> {
+            List<String> missing = missingPrompts(prompts, answers);
+            if (missing.isEmpty()) {
+                return CompletableFuture.completedFuture(List.of(answers));
+            }
+            if (ResponseStore.isOffline()) {
+                return CompletableFuture.failedFuture(offlineError());
+            }
+            
+            HttpRequest httpRequest;
+            try {
+                httpRequest = buildRequest(new N8nBatchRequest(missing));
+            } catch (IOException e) {
+                return CompletableFuture.failedFuture(new AIClientException(
+                    "Failed to serialize n8n request", e, getClientName(), AIClientException.ErrorType.UNKNOWN_ERROR));
+            }
+            
+            CompletableFuture<HttpResponse<String>> sent =
+                httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofString());
+            exchange.set(sent);
+            return sent.handle((response, error) -> {
+                if (error != null) {
+                    throw new CompletionException(networkError(error));
+                }
+                try {
+                    return merge(answers, missing, parseBatchResponse(response, missing.size()));
+                } catch (AIClientException e) {
+                    throw new CompletionException(e);
+                }
+            });
+        });
+        cancelWith(result, exchange);
+        return result;
+    }
+    
+    /**
+     * Cancelling the result aborts the HTTP exchange, if one was started; no-op once the response has arrived.
+     */
+    private static void cancelWith(CompletableFuture<?> result, AtomicReference<CompletableFuture<?>> exchange) {
+        result.whenComplete((r, e) -> {
+            CompletableFuture<?> sent = exchange.get();
+            if (sent != null) {
+                sent.cancel(true);
+            }
+        });
+    }
+    
+    /**
+     * Returns the stored verdict for a prompt, or null if there is none or it is too old.
+     */
+    private AIResponse loadStored(String prompt) {
+        return toStoredAnswer(responseStore.load(storeKey(prompt)));
+    }
+    
+    /**
+     * Same as {@link #loadStored(String)}, read on the store's thread instead of the caller's.
+     */
+    private CompletableFuture<AIResponse> loadStoredAsync(String prompt) {
+        return responseStore.loadAsync(storeKey(prompt)).thenApply(this::toStoredAnswer);
+    }
+    
+    /**
+     * Returns the stored verdicts of the prompts, with null for those that need the webhook.
+     */
+    private AIResponse[] loadStored(List<String> prompts) {
+        AIResponse[] answers = new AIResponse[prompts.size()];
+        for (int i = 0; i < answers.length; i++) {
+            answers[i] = loadStored(prompts.get(i));
+        }
+        return answers;
+    }
+    
+    /**
+     * Same as {@link #loadStored(List)}, read on the store's thread instead of the caller's.
+     */
+    private CompletableFuture<AIResponse[]> loadStoredAsync(List<String> prompts) {
+        List<CompletableFuture<AIResponse>> loads = prompts.stream().map(this::loadStoredAsync).toList();
+        return CompletableFuture.allOf(loads.toArray(new CompletableFuture<?>[0]))
+            .thenApply(ignored -> loads.stream().map(CompletableFuture::join).toArray(AIResponse[]::new));
+    }
+    
+    private AIResponse toStoredAnswer(ResponseStore.StoredResponse stored) {
+        if (stored == null || !(stored.isFresh(STORE_TTL, responseStore.now()) || ResponseStore.isOffline())) {
+            return null;
+        }
+        try {
+            return toAIResponse(objectMapper.readValue(stored.body(), N8nResponse.class));
+        } catch (IOException e) {
+            return null; // Unreadable row: ask the webhook again
+        }
+    }
+    
+    /**
+     * Returns the prompts left without a stored answer, in order.
+     */
+    private static List<String> missingPrompts(List<String> prompts, AIResponse[] answers) {
+        List<String> missing = new ArrayList<>();
+        for (int i = 0; i < answers.length; i++) {
+            if (answers[i] == null) {
+                missing.add(prompts.get(i));
+            }
+        }
+        return missing;
+    }
+    
+    /**
+     * Stores the fetched verdicts and slots them into the gaps left by {@link #loadStored(List)}.
+     */
+    private List<AIResponse> merge(AIResponse[] answers, List<String> missing, List<AIResponse> fetched) {
+        int next = 0;
+        for (int i = 0; i < answers.length; i++) {
+            if (answers[i] == null) {
+                remember(missing.get(next), fetched.get(next));
+                answers[i] = fetched.get(next++);
+            }
+        }
+        return List.of(answers);
+    }
+    
+    private void remember(String prompt, AIResponse response) {
+        responseStore.save(storeKey(prompt), 200, "{\"valid\":" + response.isValid() + "}", null, null);
+    }
+    
+    private String storeKey(String prompt) {
+        return ResponseStore.keyFor(N8N_WEBHOOK_URL, prompt);
+    }
+    
+    private AIClientException offlineError() {
+        return new AIClientException("Offline and no stored answer for prompt", getClientName(),
+            AIClientException.ErrorType.NETWORK_ERROR);
+    }
+    
+    /**
+     * Builds the webhook POST for a prompt.
+     */
+    private HttpRequest buildRequest(String prompt) throws IOException {
+        // Create the n8n webhook request payload
+        return buildRequest(new N8nRequest(prompt));
+    }
+    
+    /**
+     * Builds the webhook POST for a request payload.
+     */
+    private HttpRequest buildRequest(Object payload) throws IOException {
+        // Serialize to JSON
+        String requestBody = objectMapper.writeValueAsString(payload);
+        
+        // Create HTTP request
+        return HttpRequest.newBuilder()
+            .uri(URI.create(N8N_WEBHOOK_URL))
+            .header("Content-Type", "application/json")
+            .timeout(REQUEST_TIMEOUT)
+            .POST(HttpRequest.BodyPublishers.ofString(requestBody))
+            .build();
+    }
+    
+    /**
+     * Maps a failed exchange to an AIClientException.
+     */
+    private AIClientException networkError(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        AIClientException.ErrorType type = cause instanceof HttpTimeoutException
+            ? AIClientException.ErrorType.TIMEOUT
+            : AIClientException.ErrorType.NETWORK_ERROR;
+        return new AIClientException("Network error calling n8n webhook", cause, getClientName(), type);
+    }
+    
+    /**
+     * Converts a webhook HTTP response into an AIResponse.
+     */
+    private AIResponse parseResponse(HttpResponse<String> response) throws AIClientException {
+        checkStatus(response);
+        
+        try {
+            // Parse the JSON response
+            N8nResponse n8nResponse = objectMapper.readValue(response.body(), N8nResponse.class);
+            return toAIResponse(n8nResponse);
+            
+        } catch (IOException e) {
+            throw new AIClientException("Invalid JSON from n8n webhook", e, getClientName(), AIClientException.ErrorType.PARSING_ERROR);
+        }
+    }
+    
+    /**
+     * Converts a batch webhook HTTP response into one AIResponse per prompt.
+     */
+    private List<AIResponse> parseBatchResponse(HttpResponse<String> response, int expected) throws AIClientException {
+        checkStatus(response);
+        
+        N8nBatchResponse batchResponse;
+        try {
+            batchResponse = objectMapper.readValue(response.body(), N8nBatchResponse.class);
+        } catch (IOException e) {
+            throw new AIClientException("Invalid JSON from n8n webhook", e, getClientName(), AIClientException.ErrorType.PARSING_ERROR);
+        }
+        
+        // A webhook without batch support answers with a single verdict and no results list
+        if (batchResponse.results == null || batchResponse.results.size() != expected) {
+            throw new AIClientException(
+                "N8n webhook returned " + (batchResponse.results == null ? "no" : batchResponse.results.size())
+                    + " batch results for " + expected + " prompts",
+                getClientName(),
+                AIClientException.ErrorType.PARSING_ERROR
+            );
+        }
+        
+        List<AIResponse> responses = new ArrayList<>(expected);
+        for (N8nResponse n8nResponse : batchResponse.results) {
+            responses.add(toAIResponse(n8nResponse));
+        }
+        return responses;
+    }
+    
+    private void checkStatus(HttpResponse<String> response) throws AIClientException {
+        // N8n should always return 200, but check for errors
+        if (response.statusCode() < 200 || response.statusCode() >= 300) {
+            throw new AIClientException(
+                "N8n webhook returned status: " + response.statusCode() + ", body: " + response.body(), 
+                getClientName(), 
+                AIClientException.ErrorType.API_ERROR,
+                response.statusCode()
+            );
+        }
+    }
+    
+    private AIResponse toAIResponse(N8nResponse n8nResponse) {
+        // Convert n8n boolean response to AIResponse with confidence 1.0
+        // N8n gives us deterministic true/false, so confidence is always 1.0
+        double confidence = 1.0;
+        String reasoning = "N8n webhook validation: " + (n8nResponse.valid ? "valid" : "invalid");
+        
+        return new AIResponse(n8nResponse.valid, confidence, reasoning);
+    }
+    
     @Override
     public String getClientName() {
         return "N8n Webhook";
@@ -113,6 +428,22 @@ public class N8nAIClient implements AIClient {
         public N8nRequest() {}
     }
     
+    /**
+     * Batch request payload for n8n webhook
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class N8nBatchRequest {
+        @JsonProperty("chatInputs")
+        public List<String> chatInputs;
+        
+        public N8nBatchRequest(List<String> chatInputs) {
+            this.chatInputs = chatInputs;
+        }
+        
+        // Default constructor for Jackson
+        public N8nBatchRequest() {}
+    }
+    
     /**
      * Response payload from n8n webhook
      */
@@ -124,4 +455,16 @@ public class N8nAIClient implements AIClient {
         // Default constructor for Jackson
         public N8nResponse() {}
     }
+    
+    /**
+     * Batch response payload from n8n webhook
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class N8nBatchResponse {
+        @JsonProperty("results")
+        public List<N8nResponse> results;
+        
+        // Default constructor for Jackson
+        public N8nBatchResponse() {}
+    }
 }
\ No newline at end of file
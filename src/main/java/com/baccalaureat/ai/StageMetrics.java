@@ -0,0 +1,190 @@
+package com.baccalaureat.ai;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latency histogram and outcome counters of one validation stage, keyed by source name.
+ *
+ * Metrics are shared by every CategorizationEngine in the JVM, so the numbers for
+ * "AI_N8N" cover all of its calls whichever screen made them. Each stage's metrics are
+ * registered with the platform MBean server the first time the stage runs.
+ *
+ * Outcomes:
+ * <ul>
+ * <li>hit: the stage gave a confident answer (valid or invalid)</li>
+ * <li>miss: the stage answered but was not confident, so the pipeline went on</li>
+ * <li>short-circuit: a hit that ended the pipeline (in hedged mode only the winner's does)</li>
+ * <li>timeout, error: the stage missed its deadline or failed</li>
+ * <li>cancellation: the engine abandoned the stage (hedged loser); no latency is recorded</li>
+ * </ul>
+ */
+public final class StageMetrics implements StageMetricsMBean {
+
+    /** Name under which the latency of whole validations is recorded */
+    public static final String PIPELINE = "PIPELINE";
+
+    private static final Map<String, StageMetrics> STAGES = new ConcurrentHashMap<>();
+
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong shortCircuits = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong cancellations = new AtomicLong();
+
+    private StageMetrics() {
+    }
+
+    /**
+     * Returns the metrics of a stage, creating and registering them on first use.
+     */
+    public static StageMetrics forStage(String sourceName) {
+        return STAGES.computeIfAbsent(sourceName, StageMetrics::register);
+    }
+
+    /**
+     * Returns the metrics of every stage that ran so far, by source name.
+     */
+    public static Map<String, StageMetrics> all() {
+        return new TreeMap<>(STAGES);
+    }
+
+    private static StageMetrics register(String sourceName) {
+        StageMetrics metrics = new StageMetrics();
+        try {
+            ObjectName name = new ObjectName("com.baccalaureat:type=ValidationStage,name=" + ObjectName.quote(sourceName));
+            if (!ManagementFactory.getPlatformMBeanServer().isRegistered(name)) {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, name);
+            }
+        } catch (JMException e) {
+            // Metrics still work in-process, just not over JMX
+            System.err.println("Could not register validation metrics for " + sourceName + ": " + e.getMessage());
+        }
+        return metrics;
+    }
+
+    void recordHit(long nanos) {
+        latency.record(nanos);
+        hits.incrementAndGet();
+    }
+
+    void recordMiss(long nanos) {
+        latency.record(nanos);
+        misses.incrementAndGet();
+    }
+
+    void recordShortCircuit() {
+        shortCircuits.incrementAndGet();
+    }
+
+    void recordTimeout(long nanos) {
+        latency.record(nanos);
+        timeouts.incrementAndGet();
+    }
+
+    void recordError(long nanos) {
+        latency.record(nanos);
+        errors.incrementAndGet();
+    }
+
+    void recordCancellation() {
+        cancellations.incrementAndGet();
+    }
+
+    /**
+     * Records the duration of a whole validation, for {@link #PIPELINE}.
+     */
+    void recordLatency(long nanos) {
+        latency.record(nanos);
+    }
+
+    @Override
+    public long getCalls() {
+        return latency.count() + cancellations.get();
+    }
+
+    @Override
+    public long getHits() {
+        return hits.get();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.get();
+    }
+
+    @Override
+    public long getShortCircuits() {
+        return shortCircuits.get();
+    }
+
+    @Override
+    public long getTimeouts() {
+        return timeouts.get();
+    }
+
+    @Override
+    public long getErrors() {
+        return errors.get();
+    }
+
+    @Override
+    public long getCancellations() {
+        return cancellations.get();
+    }
+
+    @Override
+    public double getHitRatio() {
+        long answered = hits.get() + misses.get();
+        return answered == 0 ? 0 : (double) hits.get() / answered;
+    }
+
+    @Override
+    public double getP50Millis() {
+        return latency.percentileMicros(50) / 1000.0;
+    }
+
+    @Override
+    public double getP99Millis() {
+        return latency.percentileMicros(99) / 1000.0;
+    }
+
+    @Override
+    public double getMaxMillis() {
+        return latency.maxMicros() / 1000.0;
+    }
+
+    @Override
+    public double getMeanMillis() {
+        return latency.meanMicros() / 1000.0;
+    }
+
+    @Override
+    public void reset() {
+        latency.reset();
+        hits.set(0);
+        misses.set(0);
+        shortCircuits.set(0);
+        timeouts.set(0);
+        errors.set(0);
+        cancellations.set(0);
+    }
+
+    /**
+     * One-line summary, e.g. for logs and {@code ValidationService.getValidationStats()}.
+     */
+    @Override
+    public String toString() {
+        return String.format("%d calls, p50 %.2f ms, p99 %.2f ms, max %.2f ms, %d hits (%.0f%%), %d misses, "
+                + "%d short-circuits, %d timeouts, %d errors, %d cancelled",
+            getCalls(), getP50Millis(), getP99Millis(), getMaxMillis(), getHits(), getHitRatio() * 100, getMisses(),
+            getShortCircuits(), getTimeouts(), getErrors(), getCancellations());
+    }
+}
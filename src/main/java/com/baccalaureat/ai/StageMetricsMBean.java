@@ -0,0 +1,35 @@
+package com.baccalaureat.ai;
+
+/**
+ * JMX view of one validation stage, registered as
+ * {@code com.baccalaureat:type=ValidationStage,name=<source name>}.
+ * Latencies are in milliseconds.
+ */
+public interface StageMetricsMBean {
+
+    long getCalls();
+
+    long getHits();
+
+    long getMisses();
+
+    long getShortCircuits();
+
+    long getTimeouts();
+
+    long getErrors();
+
+    long getCancellations();
+
+    double getHitRatio();
+
+    double getP50Millis();
+
+    double getP99Millis();
+
+    double getMaxMillis();
+
+    double getMeanMillis();
+
+    void reset();
+}
@@ -0,0 +1,19 @@
+package com.baccalaureat.ai;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Shared executors for the asynchronous validation pipeline.
+ */
+final class ValidationExecutors {
+
+    /**
+     * Runs blocking validator and AI client code. One virtual thread per task,
+     * so a slow remote call never holds back another word's validation.
+     */
+    static final ExecutorService BLOCKING = Executors.newVirtualThreadPerTaskExecutor();
+
+    private ValidationExecutors() {
+    }
+}
@@ -8,9 +8,13 @@ import com.baccalaureat.service.CategoryService;
 
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 
 /**
  * WebConfigurableValidator - Clean web API validator using DictionaryAPI.dev
@@ -30,11 +34,25 @@ public class WebConfigurableValidator implements CategoryValidator {
     
     private boolean enabled = true;
     private CategoryService categoryService;
-    private static final String DICTIONARY_API_URL = "https://api.dictionaryapi.dev/api/v2/entries/en/%s";
+    // Overridable (e.g. to point benchmarks at a local stub); %s is replaced by the word
+    private static final String DICTIONARY_API_URL =
+        System.getProperty("dictionary.api.url", "https://api.dictionaryapi.dev/api/v2/entries/en/%s");
     private static final int API_TIMEOUT_SECONDS = 8;
     
+    private final String apiUrl;
+    
     public WebConfigurableValidator(CategoryService categoryService) {
+        this(categoryService, DICTIONARY_API_URL);
+    }
+    
+    /**
+     * Constructor for dependency injection.
+     * 
+     * @param apiUrl dictionary endpoint; %s is replaced by the word
+     */
+    public WebConfigurableValidator(CategoryService categoryService, String apiUrl) {
         this.categoryService = categoryService;
+        this.apiUrl = apiUrl;
     }
     
     /**
@@ -44,6 +62,27 @@ public class WebConfigurableValidator implements CategoryValidator {
      */
     private static final Map<String, Set<String>> CATEGORY_KEYWORDS = new HashMap<>();
     
+    /** Most recently analyzed words kept per validator; one fetch and scan covers every category. */
+    private static final int ANALYSIS_CACHE_SIZE = 256;
+    
+    /**
+     * Keyword automaton compiled for the active categories, with the category
+     * change count it was built from.
+     */
+    private record CompiledKeywords(long changeCount, KeywordMatcher matcher) {
+    }
+    
+    private volatile CompiledKeywords compiled;
+    
+    /** word -> analysis against every category of {@link #compiled}; cleared when it is rebuilt */
+    private final Map<String, DictionaryResponseAnalyzer.Analysis> analyses =
+        new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, DictionaryResponseAnalyzer.Analysis> eldest) {
+                return size() > ANALYSIS_CACHE_SIZE;
+            }
+        };
+    
     static {
         // ANIMAL category keywords
         Set<String> animalKeywords = new HashSet<>();
@@ -134,26 +173,61 @@ public class WebConfigurableValidator implements CategoryValidator {
         }
     }
     
+    /**
+     * Asynchronous variant of {@link #validate(String, Category)}.
+     * The dictionary request runs on the shared HttpClient's I/O threads.
+     */
+    @Override
+    public CompletionStage<ValidationResult> validateAsync(String word, Category category) {
+        if (!enabled) {
+            return CompletableFuture.completedFuture(
+                new ValidationResult(ValidationStatus.UNCERTAIN, 0.5, getSourceName(), "Validator disabled"));
+        }
+        
+        if (word == null || word.trim().isEmpty()) {
+            return CompletableFuture.completedFuture(
+                new ValidationResult(ValidationStatus.INVALID, 0.0, getSourceName(), "Empty word"));
+        }
+        
+        String trimmed = word.trim();
+        String url = String.format(apiUrl, trimmed.toLowerCase());
+        
+        CompletableFuture<String> request;
+        try {
+            request = HttpClientService.getAsync(url, API_TIMEOUT_SECONDS);
+        } catch (RuntimeException e) {
+            request = CompletableFuture.failedFuture(e);
+        }
+        
+        CompletableFuture<String> pending = request;
+        CompletableFuture<ValidationResult> result = request.handle((response, error) -> {
+            if (error == null) {
+                return analyzeAPIResponse(response, trimmed, category);
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (cause instanceof IOException ioe) {
+                return resultForApiError(ioe, trimmed);
+            }
+            return new ValidationResult(ValidationStatus.UNCERTAIN, 0.5, getSourceName(), 
+                "API validation failed: " + cause.getMessage());
+        });
+        // Cancelling the result abandons the dictionary request; no-op once it has finished
+        result.whenComplete((r, e) -> pending.cancel(true));
+        return result;
+    }
+    
     /**
      * Validates word using DictionaryAPI.dev and category keyword matching.
      */
     private ValidationResult validateWithDictionaryAPI(String word, Category category) throws IOException {
-        String apiUrl = String.format(DICTIONARY_API_URL, word.toLowerCase());
+        String url = String.format(apiUrl, word.toLowerCase());
         
         try {
-            String response = HttpClientService.get(apiUrl, API_TIMEOUT_SECONDS);
+            String response = HttpClientService.get(url, API_TIMEOUT_SECONDS);
             return analyzeAPIResponse(response, word, category);
             
         } catch (IOException e) {
-            if (e.getMessage().contains("404")) {
-                // Word not found in dictionary
-                return new ValidationResult(ValidationStatus.INVALID, 0.0, getSourceName(), 
-                    "Word '" + word + "' not found in English dictionary");
-            } else {
-                // Network or other API error
-                return new ValidationResult(ValidationStatus.UNCERTAIN, 0.5, getSourceName(), 
-                    "Dictionary API error: " + e.getMessage());
-            }
+            return resultForApiError(e, word);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt(); // Restore interrupt status
             return new ValidationResult(ValidationStatus.UNCERTAIN, 0.5, getSourceName(), 
@@ -161,6 +235,21 @@ public class WebConfigurableValidator implements CategoryValidator {
         }
     }
     
+    /**
+     * Maps a failed dictionary request to a result: 404 means the word does not exist,
+     * anything else is inconclusive.
+     */
+    private ValidationResult resultForApiError(IOException e, String word) {
+        if (e.getMessage() != null && e.getMessage().contains("404")) {
+            // Word not found in dictionary
+            return new ValidationResult(ValidationStatus.INVALID, 0.0, getSourceName(), 
+                "Word '" + word + "' not found in English dictionary");
+        }
+        // Network or other API error
+        return new ValidationResult(ValidationStatus.UNCERTAIN, 0.5, getSourceName(), 
+            "Dictionary API error: " + e.getMessage());
+    }
+    
     /**
      * Analyzes DictionaryAPI.dev response to determine category match.
      */
@@ -170,32 +259,24 @@ public class WebConfigurableValidator implements CategoryValidator {
         }
         
         try {
-            // Simple JSON parsing - look for definitions
-            String lowerResponse = response.toLowerCase();
+            // One streaming pass over the definitions scores the word for every active category
+            KeywordMatcher matcher = keywordMatcher(category.getName());
+            DictionaryResponseAnalyzer.Analysis analysis = analyze(response, word, matcher);
             
             // Check if word exists (successful API response means word exists)
-            boolean wordExists = lowerResponse.contains("\"word\"") && lowerResponse.contains("\"meanings\"");
-            
-            if (!wordExists) {
+            if (!analysis.wordExists()) {
                 return new ValidationResult(ValidationStatus.INVALID, 0.0, getSourceName(), 
                     "Word not recognized by dictionary API");
             }
             
             // Check for category-specific keywords in definitions
-            Set<String> categoryKeywords = CATEGORY_KEYWORDS.get(category.getName());
-            if (categoryKeywords == null || categoryKeywords.isEmpty()) {
+            if (!matcher.hasGroup(category.getName())) {
                 // Category not supported by this validator
                 return new ValidationResult(ValidationStatus.UNCERTAIN, 0.6, getSourceName(), 
                     "Category '" + category + "' validation not implemented");
             }
             
-            // Count keyword matches in response
-            int keywordMatches = 0;
-            for (String keyword : categoryKeywords) {
-                if (lowerResponse.contains(keyword.toLowerCase())) {
-                    keywordMatches++;
-                }
-            }
+            int keywordMatches = analysis.keywordMatches(category.getName());
             
             // Determine validation result based on keyword matches
             if (keywordMatches > 0) {
@@ -216,6 +297,77 @@ public class WebConfigurableValidator implements CategoryValidator {
         }
     }
     
+    /**
+     * Returns the keyword automaton for the enabled categories, recompiling it after
+     * categories changed. A category with keywords that is not enabled (validated
+     * anyway, e.g. by a test) is added on demand.
+     */
+    private KeywordMatcher keywordMatcher(String categoryName) {
+        CompiledKeywords current = compiled;
+        long changeCount = CategoryService.getChangeCount();
+        if (current != null && current.changeCount() == changeCount
+                && (current.matcher().hasGroup(categoryName) || !hasKeywords(categoryName))) {
+            return current.matcher();
+        }
+        synchronized (analyses) {
+            current = compiled;
+            if (current != null && current.changeCount() == changeCount
+                    && (current.matcher().hasGroup(categoryName) || !hasKeywords(categoryName))) {
+                return current.matcher();
+            }
+            
+            Set<String> active = new HashSet<>();
+            if (categoryService != null) {
+                categoryService.getEnabledCategories().forEach(c -> active.add(c.getName()));
+            } else {
+                active.addAll(CATEGORY_KEYWORDS.keySet());
+            }
+            active.add(categoryName);
+            if (current != null && current.changeCount() == changeCount) {
+                // Categories have not changed: keep the ones already added on demand
+                active.addAll(current.matcher().groups());
+            }
+            
+            Map<String, Set<String>> keywords = new HashMap<>();
+            for (String name : active) {
+                if (hasKeywords(name)) {
+                    keywords.put(name, CATEGORY_KEYWORDS.get(name));
+                }
+            }
+            KeywordMatcher matcher = new KeywordMatcher(keywords);
+            analyses.clear();
+            compiled = new CompiledKeywords(changeCount, matcher);
+            return matcher;
+        }
+    }
+    
+    /**
+     * Returns the analysis of a dictionary response, reusing the one made for
+     * another category when the same word was looked up before.
+     */
+    private DictionaryResponseAnalyzer.Analysis analyze(String response, String word, KeywordMatcher matcher)
+            throws IOException {
+        String key = word.toLowerCase();
+        synchronized (analyses) {
+            DictionaryResponseAnalyzer.Analysis cached = analyses.get(key);
+            if (cached != null && compiled != null && compiled.matcher() == matcher) {
+                return cached;
+            }
+        }
+        DictionaryResponseAnalyzer.Analysis analysis = DictionaryResponseAnalyzer.analyze(response, matcher);
+        synchronized (analyses) {
+            if (compiled != null && compiled.matcher() == matcher) {
+                analyses.put(key, analysis);
+            }
+        }
+        return analysis;
+    }
+    
+    private static boolean hasKeywords(String categoryName) {
+        Set<String> keywords = CATEGORY_KEYWORDS.get(categoryName);
+        return keywords != null && !keywords.isEmpty();
+    }
+    
     @Override
     public String getSourceName() {
         return "WEB_VALIDATOR";
@@ -226,6 +378,11 @@ public class WebConfigurableValidator implements CategoryValidator {
         return enabled;
     }
     
+    @Override
+    public boolean isRemote() {
+        return true;
+    }
+    
     /**
      * Enable/disable this validator
      */
@@ -0,0 +1,51 @@
+package com.baccalaureat.ai;
+
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Read-only set of normalized words for one category, as used by FixedListValidator.
+ */
+interface WordList {
+
+    /**
+     * Checks whether a word is in the list.
+     */
+    boolean contains(String word);
+
+    /**
+     * Checks whether at least one word starts with the prefix.
+     */
+    boolean hasPrefix(String prefix);
+
+    /**
+     * Returns up to limit words starting with the prefix, in ascending order.
+     */
+    List<String> wordsWithPrefix(String prefix, int limit);
+
+    /**
+     * Returns a list containing the words of all the given lists.
+     */
+    static WordList union(List<WordList> lists) {
+        return new WordList() {
+            @Override
+            public boolean contains(String word) {
+                return lists.stream().anyMatch(list -> list.contains(word));
+            }
+
+            @Override
+            public boolean hasPrefix(String prefix) {
+                return lists.stream().anyMatch(list -> list.hasPrefix(prefix));
+            }
+
+            @Override
+            public List<String> wordsWithPrefix(String prefix, int limit) {
+                TreeSet<String> merged = new TreeSet<>();
+                for (WordList list : lists) {
+                    merged.addAll(list.wordsWithPrefix(prefix, limit));
+                }
+                return merged.stream().limit(limit).toList();
+            }
+        };
+    }
+}
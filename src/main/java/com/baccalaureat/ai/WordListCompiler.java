@@ -0,0 +1,53 @@
+package com.baccalaureat.ai;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Build-time tool that compiles FixedListValidator's text word lists into the
+ * memory-mapped format read by {@link MappedWordLists}.
+ *
+ * Every {@code <category>.txt} file of the input directory becomes the section of
+ * category {@code <CATEGORY>}; words are normalized the same way as at lookup time.
+ * Maven runs it in the process-classes phase; it can also be run by hand to
+ * compile large dictionaries for {@code -Dwordlists.bin}.
+ *
+ * Usage: {@code WordListCompiler <input directory> <output file>}
+ */
+public final class WordListCompiler {
+
+    private WordListCompiler() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: WordListCompiler <input directory> <output file>");
+            System.exit(2);
+        }
+        Path input = Path.of(args[0]);
+        Path output = Path.of(args[1]);
+
+        Map<String, List<String>> lists = new TreeMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(input, "*.txt")) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                List<String> words = new ArrayList<>();
+                try (InputStream in = Files.newInputStream(file)) {
+                    FixedListValidator.readWords(in, words);
+                }
+                lists.put(fileName.substring(0, fileName.length() - 4).toUpperCase(), words);
+            }
+        }
+
+        MappedWordLists.write(lists, output);
+        int total = lists.values().stream().mapToInt(List::size).sum();
+        System.out.println("Compiled " + total + " words in " + lists.size() + " categories to " + output);
+    }
+}
@@ -0,0 +1,207 @@
+package com.baccalaureat.ai;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable word set stored as a minimal acyclic automaton (DAWG).
+ *
+ * Words are inserted in sorted order and equivalent suffix states are merged as
+ * they are finished (Daciuk's incremental algorithm), so shared endings such as
+ * "-ier", "-ienne" or "-ville" are stored once. The result is flattened into
+ * primitive arrays: the outgoing edges of each state are contiguous and sorted
+ * by label, which makes membership and prefix lookups O(length) binary searches
+ * over a few letters, with no per-node objects left on the heap.
+ */
+final class WordTrie implements WordList {
+
+    /** edgeStart[s] .. edgeStart[s + 1] are the edges of state s; state 0 is the root. */
+    private final int[] edgeStart;
+    private final char[] edgeLabel;
+    private final int[] edgeTarget;
+    private final BitSet terminal;
+    private final int size;
+
+    private WordTrie(int[] edgeStart, char[] edgeLabel, int[] edgeTarget, BitSet terminal, int size) {
+        this.edgeStart = edgeStart;
+        this.edgeLabel = edgeLabel;
+        this.edgeTarget = edgeTarget;
+        this.terminal = terminal;
+        this.size = size;
+    }
+
+    /**
+     * Builds the automaton for a collection of words. Order and duplicates do not matter.
+     */
+    static WordTrie of(Collection<String> words) {
+        String[] sorted = words.stream().filter(w -> w != null && !w.isEmpty()).distinct().sorted().toArray(String[]::new);
+        Builder builder = new Builder();
+        for (String word : sorted) {
+            builder.add(word);
+        }
+        return builder.build(sorted.length);
+    }
+
+    @Override
+    public boolean contains(String word) {
+        int state = walk(word);
+        return state >= 0 && terminal.get(state);
+    }
+
+    @Override
+    public boolean hasPrefix(String prefix) {
+        return walk(prefix) >= 0;
+    }
+
+    @Override
+    public List<String> wordsWithPrefix(String prefix, int limit) {
+        List<String> words = new ArrayList<>();
+        int state = walk(prefix);
+        if (state >= 0 && limit > 0) {
+            collect(state, new StringBuilder(prefix), limit, words);
+        }
+        return words;
+    }
+
+    /**
+     * Number of words in the set.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Number of automaton states after suffix merging.
+     */
+    int stateCount() {
+        return edgeStart.length - 1;
+    }
+
+    private int walk(CharSequence text) {
+        int state = 0;
+        for (int i = 0; i < text.length() && state >= 0; i++) {
+            state = next(state, text.charAt(i));
+        }
+        return state;
+    }
+
+    private int next(int state, char c) {
+        int edge = Arrays.binarySearch(edgeLabel, edgeStart[state], edgeStart[state + 1], c);
+        return edge >= 0 ? edgeTarget[edge] : -1;
+    }
+
+    private void collect(int state, StringBuilder word, int limit, List<String> out) {
+        if (terminal.get(state)) {
+            out.add(word.toString());
+        }
+        for (int edge = edgeStart[state]; edge < edgeStart[state + 1] && out.size() < limit; edge++) {
+            word.append(edgeLabel[edge]);
+            collect(edgeTarget[edge], word, limit, out);
+            word.setLength(word.length() - 1);
+        }
+    }
+
+    /**
+     * Incremental construction of the minimal automaton from sorted input.
+     */
+    private static final class Builder {
+
+        /** Mutable state; identity equality, since registered children are already canonical. */
+        private static final class Node {
+            private final StringBuilder labels = new StringBuilder(2);
+            private final List<Node> targets = new ArrayList<>(2);
+            private boolean terminal;
+        }
+
+        private record Signature(boolean terminal, String labels, List<Node> targets) {
+        }
+
+        private final Node root = new Node();
+        private final Map<Signature, Node> register = new HashMap<>();
+        /** path.get(i) is the state reached after the first i chars of the previous word */
+        private final List<Node> path = new ArrayList<>(List.of(root));
+        private String previous = "";
+
+        void add(String word) {
+            int common = 0;
+            while (common < word.length() && common < previous.length() && word.charAt(common) == previous.charAt(common)) {
+                common++;
+            }
+            minimize(common);
+
+            Node node = path.get(path.size() - 1);
+            for (int i = common; i < word.length(); i++) {
+                Node child = new Node();
+                node.labels.append(word.charAt(i));
+                node.targets.add(child);
+                path.add(child);
+                node = child;
+            }
+            node.terminal = true;
+            previous = word;
+        }
+
+        WordTrie build(int size) {
+            minimize(0);
+
+            // Number the distinct states depth-first, then lay their edges out contiguously
+            Map<Node, Integer> ids = new IdentityHashMap<>();
+            List<Node> order = new ArrayList<>();
+            List<Node> stack = new ArrayList<>(List.of(root));
+            ids.put(root, 0);
+            order.add(root);
+            int edges = 0;
+            while (!stack.isEmpty()) {
+                Node node = stack.remove(stack.size() - 1);
+                edges += node.targets.size();
+                for (Node child : node.targets) {
+                    if (!ids.containsKey(child)) {
+                        ids.put(child, order.size());
+                        order.add(child);
+                        stack.add(child);
+                    }
+                }
+            }
+
+            int[] edgeStart = new int[order.size() + 1];
+            char[] edgeLabel = new char[edges];
+            int[] edgeTarget = new int[edges];
+            BitSet terminal = new BitSet(order.size());
+            int edge = 0;
+            for (int state = 0; state < order.size(); state++) {
+                Node node = order.get(state);
+                edgeStart[state] = edge;
+                terminal.set(state, node.terminal);
+                for (int i = 0; i < node.targets.size(); i++) {
+                    edgeLabel[edge] = node.labels.charAt(i);
+                    edgeTarget[edge] = ids.get(node.targets.get(i));
+                    edge++;
+                }
+            }
+            edgeStart[order.size()] = edge;
+            return new WordTrie(edgeStart, edgeLabel, edgeTarget, terminal, size);
+        }
+
+        /**
+         * Replaces finished states below depth with their registered equivalents.
+         */
+        private void minimize(int depth) {
+            for (int i = path.size() - 1; i > depth; i--) {
+                Node child = path.get(i);
+                Node parent = path.get(i - 1);
+                Signature signature = new Signature(child.terminal, child.labels.toString(), List.copyOf(child.targets));
+                Node canonical = register.putIfAbsent(signature, child);
+                if (canonical != null) {
+                    parent.targets.set(parent.targets.size() - 1, canonical);
+                }
+                path.remove(i);
+            }
+        }
+    }
+}
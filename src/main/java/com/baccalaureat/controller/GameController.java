@@ -1,11 +1,18 @@
 package com.baccalaureat.controller;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import com.baccalaureat.ai.CategorizationEngine;
 import com.baccalaureat.model.Category;
@@ -100,6 +107,11 @@ public class GameController {
     private int totalSeconds;
     private int hintsUsed = 0;
     private static final int MAX_HINTS = 3;
+    
+    // Round-end validation runs every category concurrently, one virtual thread per word
+    private static final ExecutorService VALIDATION_EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+    private static final long ROUND_VALIDATION_DEADLINE_SECONDS = 20;
+    private int validationRound = 0; // Identifies the round whose results are being applied
 
     @FXML
     private void initialize() {
@@ -333,6 +345,7 @@ public class GameController {
         );
 
         if (confirmed) {
+            validationRound++; // Drop validation results still in flight
             session.endGame();
             navigateToMenu();
         } else {
@@ -399,71 +412,110 @@ public class GameController {
         // Transition to FINISHED state immediately
         roundState = RoundState.FINISHED;
         
-        // Validate and score ONCE
+        // Validate and score ONCE - results and scoring arrive asynchronously
         if (!hasScored) {
-            int points = validateAndScore();
-            // hasScored is now set inside validateAndScore()
-            
-            // Show results after JavaFX finishes current processing
-            Platform.runLater(() -> showRoundResults(points));
+            validateAndScore();
         }
     }
     
     /**
-     * Validate all words and calculate score ONCE per round.
+     * Validate all words in parallel and calculate score ONCE per round.
+     * 
+     * Every category is validated at the same time as one batch, so the FX thread
+     * never waits on the database or the network. Each card is updated as soon as its own result arrives;
+     * scoring happens once every result is in or the round deadline is reached.
      */
-    private int validateAndScore() {
+    private void validateAndScore() {
         // Only score if round is finished and not yet scored
         if (roundState != RoundState.FINISHED || hasScored) {
-            return 0;
+            return;
         }
         
         // Immediately mark as scored to prevent race conditions
         hasScored = true;
-        
-        int points = 0;
+        int round = ++validationRound;
         
         // Clear any cached results from previous rounds
         cachedResults.clear();
         usedWordsThisRound.clear();
+        
+        // Disable all controls while results come in
+        stopButton.setDisable(true);
+        hintButton.setDisable(true);
+        skipButton.setDisable(true);
 
-        // Batch validate all entered words
+        // Collect every answer, then validate them all as one batch
+        Map<Category, String> words = new LinkedHashMap<>();
         for (Category c : session.getCategories()) {
             TextField tf = inputFields.get(c);
             String word = tf.getText() != null ? tf.getText().trim() : "";
-            Label status = statusLabels.get(c);
-            Label confidenceLabel = confidenceLabels.get(c);
-            HBox card = categoryCards.get(c);
+            tf.setDisable(true);
+            confidenceLabels.get(c).setText(word.isEmpty() ? "" : "Validation...");
+            words.put(c, word);
+        }
 
-            // Perform validation now (not during typing)
-            ValidationResult result = validateWordComplete(word, c);
-            
-            // Cache result and apply visual feedback
-            cachedResults.put(c, result);
-            applyValidationResult(result, status, confidenceLabel, card);
-            
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        validateWordsAsync(words).forEach((c, validation) ->
+            pending.add(validation.thenAccept(result ->
+                Platform.runLater(() -> applyCategoryResult(round, c, result)))));
+
+        // Score when everything is in, or when the deadline cuts slow validators off
+        CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0]))
+            .completeOnTimeout(null, ROUND_VALIDATION_DEADLINE_SECONDS, TimeUnit.SECONDS)
+            .whenComplete((ignored, error) -> Platform.runLater(() -> finishScoring(round)));
+    }
+    
+    /**
+     * Applies one category's validation result to its card as soon as it arrives.
+     */
+    private void applyCategoryResult(int round, Category category, ValidationResult result) {
+        if (round != validationRound || cachedResults.containsKey(category)) {
+            return; // Late result from a round that was already scored
+        }
+        
+        cachedResults.put(category, result);
+        applyValidationResult(result, statusLabels.get(category), confidenceLabels.get(category), categoryCards.get(category));
+        
+        if (result.isValid()) {
+            usedWordsThisRound.add(inputFields.get(category).getText().trim().toLowerCase());
+            animateSuccess(categoryCards.get(category));
+        }
+    }
+    
+    /**
+     * Scores the round once all results are in or the deadline has passed.
+     * Categories still pending at that point are marked as timed out.
+     */
+    private void finishScoring(int round) {
+        if (round != validationRound) {
+            return;
+        }
+        
+        for (Category c : session.getCategories()) {
+            if (!cachedResults.containsKey(c)) {
+                applyCategoryResult(round, c, new ValidationResult(
+                    ValidationStatus.UNCERTAIN, 0.0, "UI", "Validation timed out"));
+            }
+        }
+        // Results arriving after this point belong to a closed round
+        validationRound++;
+        
+        int points = 0;
+        for (ValidationResult result : cachedResults.values()) {
             // Award points based on validation results
             if (result.isValid()) {
                 points += calculatePoints(result);
-                animateSuccess(card);
             } else if (result.isUncertain()) {
                 // UNCERTAIN should not reach UI - resolve through AI
                 points += 1; // Partial credit for uncertain results
             }
-
-            tf.setDisable(true);
         }
 
         // Add points to session ONCE
         session.addPoints(points);
         scoreLabel.setText(String.valueOf(session.getCurrentScore()));
         
-        // Disable all controls
-        stopButton.setDisable(true);
-        hintButton.setDisable(true);
-        skipButton.setDisable(true);
-        
-        return points;
+        showRoundResults(points);
     }
     
     
@@ -477,12 +529,16 @@ public class GameController {
      * VALIDATION STAGES:
      * 1. Basic validation (empty, null)
      * 2. First letter check (preliminary filter, not final validation)
-     * 3. Duplicate detection within current round
-     * 4. **BACKEND VALIDATION** via ValidationService.validateWord():
+     * 3. **BACKEND VALIDATION** via ValidationService.validateBatchAsync():
      *    - Database cache lookup for performance
      *    - FixedListValidator: Fast lookup in French word lists
      *    - WebConfigurableValidator: Web API validation via DictionaryAPI.dev
      *    - SemanticAiValidator: Future AI validation (placeholder)
+     * 4. Duplicate detection within current round
+     * 
+     * Stages 1-2 run immediately on the FX thread. Every word that passes them goes to
+     * the backend as one batch, started on a virtual thread. A repeated word is scored
+     * as a duplicate if an earlier category already accepted it.
      * 
      * The ValidationService ensures consistent validation logic across the application
      * and provides caching for performance. It determines if a word actually belongs 
@@ -493,39 +549,71 @@ public class GameController {
      * - "dog" in ANIMAL → VALID (DictionaryAPI confirms animal category)
      * - "dog" in FRUIT → INVALID (DictionaryAPI knows it's not a fruit)
      * - "zzxqp" in ANIMAL → INVALID (not found anywhere)
+     * 
+     * @return future result for each category, in round order
      */
-    private ValidationResult validateWordComplete(String word, Category category) {
-        // Step 1: Basic input validation
-        if (word == null || word.trim().isEmpty()) {
-            return new ValidationResult(ValidationStatus.INVALID, 0.0, "UI", "Empty word");
-        }
-        
-        String normalizedWord = word.trim().toLowerCase();
+    private Map<Category, CompletableFuture<ValidationResult>> validateWordsAsync(Map<Category, String> words) {
+        Map<Category, ValidationResult> localResults = new HashMap<>();
+        Map<Category, String> backendWords = new LinkedHashMap<>();
         String requiredStart = session.getCurrentLetter().toLowerCase();
         
-        // Step 2: First letter check (preliminary filter, not final validation)
-        if (!normalizedWord.startsWith(requiredStart)) {
-            return new ValidationResult(ValidationStatus.INVALID, 0.0, "UI", 
-                "Word must start with '" + session.getCurrentLetter() + "'");
+        for (Map.Entry<Category, String> entry : words.entrySet()) {
+            String word = entry.getValue();
+            
+            // Step 1: Basic input validation
+            if (word == null || word.trim().isEmpty()) {
+                localResults.put(entry.getKey(), new ValidationResult(ValidationStatus.INVALID, 0.0, "UI", "Empty word"));
+            // Step 2: First letter check (preliminary filter, not final validation)
+            } else if (!word.trim().toLowerCase().startsWith(requiredStart)) {
+                localResults.put(entry.getKey(), new ValidationResult(ValidationStatus.INVALID, 0.0, "UI", 
+                    "Word must start with '" + session.getCurrentLetter() + "'"));
+            } else {
+                backendWords.put(entry.getKey(), word);
+            }
         }
         
-        // Step 3: Duplicate check within current round
-        if (usedWordsThisRound.contains(normalizedWord)) {
-            return new ValidationResult(ValidationStatus.INVALID, 0.0, "UI", "Duplicate word in this round");
-        }
+        // Step 3: BACKEND VALIDATION via ValidationService - The key improvement!
+        CompletableFuture<Map<Category, CompletableFuture<ValidationResult>>> batch = validateOnBackend(backendWords);
         
-        // Step 4: BACKEND VALIDATION via ValidationService - The key improvement!
+        // Step 4: Duplicate check within current round
+        Map<String, CompletableFuture<ValidationResult>> earliestValidUse = new HashMap<>();
+        Map<Category, CompletableFuture<ValidationResult>> results = new LinkedHashMap<>();
+        for (Category category : words.keySet()) {
+            ValidationResult localResult = localResults.get(category);
+            if (localResult != null) {
+                results.put(category, CompletableFuture.completedFuture(localResult));
+                continue;
+            }
+            
+            CompletableFuture<ValidationResult> own = batch
+                .thenCompose(batchResults -> batchResults.get(category))
+                .exceptionally(e -> new ValidationResult(ValidationStatus.ERROR, 0.0, "UI",
+                    "Validation failed: " + e.getMessage()));
+            
+            String normalizedWord = words.get(category).trim().toLowerCase();
+            CompletableFuture<ValidationResult> earlier = earliestValidUse.get(normalizedWord);
+            if (earlier == null) {
+                earliestValidUse.put(normalizedWord, own);
+                results.put(category, own);
+            } else {
+                results.put(category, earlier.thenCombine(own, (first, mine) -> first.isValid()
+                    ? new ValidationResult(ValidationStatus.INVALID, 0.0, "UI", "Duplicate word in this round")
+                    : mine));
+                // Later repeats compare against the first accepted use, whichever category it was
+                earliestValidUse.put(normalizedWord, earlier.thenCombine(own, (first, mine) -> first.isValid() ? first : mine));
+            }
+        }
+        return results;
+    }
+    
+    /**
+     * Starts batch validation of the round's words through ValidationService off the FX thread.
+     */
+    private CompletableFuture<Map<Category, CompletableFuture<ValidationResult>>> validateOnBackend(Map<Category, String> words) {
         // ValidationService coordinates the full validation pipeline with caching
         // This replaces the old "orange if starts with letter" logic with
         // sophisticated category-aware validation
-        ValidationResult backendResult = validationService.validateWord(category.name(), word);
-        
-        // Step 5: Track valid words to prevent duplicates in future inputs
-        if (backendResult.isValid()) {
-            usedWordsThisRound.add(normalizedWord);
-        }
-        
-        return backendResult;
+        return CompletableFuture.supplyAsync(() -> validationService.validateBatchAsync(words), VALIDATION_EXECUTOR);
     }
     
     /**
@@ -74,11 +74,15 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import com.baccalaureat.model.Category;
 import com.baccalaureat.model.GameConfig;
@@ -136,6 +140,7 @@ public class MultiplayerGameController implements MultiplayerEventListener {
     @FXML private ProgressBar timerProgress;
 
     private final ValidationService validationService = new ValidationService();
+    private static final ExecutorService VALIDATION_EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
     private List<Player> players;
     private int currentPlayerIndex = 0;
     private GameSession session;
@@ -442,21 +447,43 @@ public class MultiplayerGameController implements MultiplayerEventListener {
         roundState = RoundState.FINISHED; // Mark round as finished
 
         Player current = players.get(currentPlayerIndex);
+
+        // Collect answers and validate them in one batch, using EXACT same pipeline as solo mode
+        Map<Category, String> answers = new LinkedHashMap<>();
+        for (Category c : categories) {
+            TextField tf = inputFields.get(c);
+            answers.put(c, tf.getText() != null ? tf.getText().trim() : "");
+            tf.setDisable(true);
+        }
+        validateButton.setDisable(true);
+
+        // The backend may wait on the database or the network: keep the FX thread free meanwhile
+        validateOnBackend(answers).whenComplete((backendResults, error) -> {
+            if (error != null) {
+                System.err.println("[VALIDATION] Batch validation failed: " + error.getMessage());
+            }
+            Map<Category, ValidationResult> results = error == null ? backendResults : Map.of();
+            javafx.application.Platform.runLater(() -> scoreTurn(current, answers, results));
+        });
+    }
+
+    /**
+     * Scores the player's turn once the backend results are in. Runs on the FX thread.
+     */
+    private void scoreTurn(Player current, Map<Category, String> answers, Map<Category, ValidationResult> backendResults) {
         int points = 0;
 
         // Clear used words tracker for this round (same as solo mode)
         Set<String> usedWordsThisRound = new HashSet<>();
 
-        // Collect and validate answers using EXACT same pipeline as solo mode
         for (Category c : categories) {
-            TextField tf = inputFields.get(c);
-            String word = tf.getText() != null ? tf.getText().trim() : "";
+            String word = answers.get(c);
             Label status = statusLabels.get(c);
 
             current.setAnswer(c, word);
 
             // Use EXACT same validation pipeline as solo mode
-            ValidationResult result = validateWordComplete(word, c, usedWordsThisRound);
+            ValidationResult result = validateWordComplete(word, c, usedWordsThisRound, backendResults);
             
             // Apply visual feedback based on validation result
             applyValidationStatus(result, status);
@@ -466,13 +493,10 @@ public class MultiplayerGameController implements MultiplayerEventListener {
                 points += 1;  // Same as solo mode: +1 per correct answer
                 usedWordsThisRound.add(word.trim().toLowerCase()); // Track for duplicates
             }
-
-            tf.setDisable(true);
         }
 
         current.addPoints(points);
         current.setFinished(true);
-        validateButton.setDisable(true);
         updateScoresBar();
 
         // Show turn result
@@ -483,7 +507,8 @@ public class MultiplayerGameController implements MultiplayerEventListener {
      * Complete word validation using EXACT same pipeline as solo mode.
      * This ensures multiplayer behaves identically to solo mode.
      */
-    private ValidationResult validateWordComplete(String word, Category category, Set<String> usedWordsThisRound) {
+    private ValidationResult validateWordComplete(String word, Category category, Set<String> usedWordsThisRound,
+                                                  Map<Category, ValidationResult> backendResults) {
         // Step 1: Basic input validation (same as solo)
         if (word == null || word.trim().isEmpty()) {
             return new ValidationResult(ValidationStatus.INVALID, 0.0, "UI", "Empty word");
@@ -504,9 +529,24 @@ public class MultiplayerGameController implements MultiplayerEventListener {
         }
         
         // Step 4: BACKEND VALIDATION via ValidationService (EXACT same as solo)
-        ValidationResult backendResult = validationService.validateWord(category.name(), word);
-        
-        return backendResult;
+        ValidationResult result = backendResults.get(category);
+        return result != null ? result
+            : new ValidationResult(ValidationStatus.ERROR, 0.0, "SERVICE", "Validation failed");
+    }
+    
+    /**
+     * Validates the turn's answers that pass the local checks as one ValidationService batch,
+     * off the FX thread. Empty answers and wrong first letters never reach the backend.
+     */
+    private CompletableFuture<Map<Category, ValidationResult>> validateOnBackend(Map<Category, String> answers) {
+        String requiredStart = currentLetter.toLowerCase();
+        Map<Category, String> candidates = new LinkedHashMap<>();
+        answers.forEach((category, word) -> {
+            if (!word.isEmpty() && word.toLowerCase().startsWith(requiredStart)) {
+                candidates.put(category, word);
+            }
+        });
+        return CompletableFuture.supplyAsync(() -> validationService.validateBatch(candidates), VALIDATION_EXECUTOR);
     }
 
     /**
@@ -8,8 +8,10 @@ import java.net.http.HttpResponse;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.baccalaureat.multiplayer.LobbyState;
 import com.baccalaureat.multiplayer.MultiplayerEventListener;
 import com.baccalaureat.multiplayer.MultiplayerService;
+import com.baccalaureat.multiplayer.websocket.ServerMessage;
 import com.baccalaureat.util.DialogHelper;
 import com.baccalaureat.util.ThemeManager;
 import com.baccalaureat.util.ConfigLoader;
@@ -41,6 +43,7 @@ public class MultiplayerLobbyController implements MultiplayerEventListener {
     private boolean isHost = false;
     private String playerName = "";
     private Stage configurationStage = null; // Track configuration window
+    private boolean gameStarted = false;
     
     // HTTP client for REST API calls
     private final HttpClient httpClient = HttpClient.newHttpClient();
@@ -235,10 +238,7 @@ public class MultiplayerLobbyController implements MultiplayerEventListener {
                 // Update notice
                 noticeLabel.setText("Partie créée! Partagez le code: " + newSessionId);
                 
-                // Start polling for player updates to refresh lobby UI
-                startPlayerListPolling();
-                
-                // Join WebSocket session for real-time gameplay
+                // Join WebSocket session; the player list is then kept up to date by pushed lobby state
                 multiplayerService.joinWebSocketSession(newSessionId, playerName);
                 
             } catch (Exception e) {
@@ -262,18 +262,14 @@ public class MultiplayerLobbyController implements MultiplayerEventListener {
                 connectionStatusLabel.setText("✅ Connecté - Session: " + sessionId);
                 sessionIdInput.setEditable(false);
                 
-                // Add players to list (simplified for now)
+                // Only ourselves until the session state arrives with the full list
                 connectedPlayers.clear();
-                connectedPlayers.add("Host (Hôte)");
                 connectedPlayers.add(playerName);
                 
-                // Update notice and start polling for game start
+                // Update notice; the game start is pushed over the WebSocket
                 noticeLabel.setText("Rejoint la partie! En attente du démarrage par l'hôte.");
                 
-                // Non-host players poll for game start
-                startWaitingForGameStart();
-                
-                // Join WebSocket session for real-time gameplay
+                // Join WebSocket session for real-time gameplay; this also fetches the lobby state
                 multiplayerService.joinWebSocketSession(sessionId, playerName);
                 
             } catch (Exception e) {
@@ -343,9 +339,8 @@ public class MultiplayerLobbyController implements MultiplayerEventListener {
                 
                 System.out.println("[LOBBY] Game start confirmed by server - Status: " + status + ", Letter: " + letter);
                 
-                // Start polling for all clients to sync game state
+                // GAME_STARTED (or IN_PROGRESS from the REST fallback) moves every client to the game screen
                 noticeLabel.setText("Jeu en cours de démarrage pour tous les joueurs...");
-                startGameStatePolling();
                 
             } catch (Exception e) {
                 System.out.println("[API] Error parsing start game response: " + e.getMessage());
@@ -388,6 +383,7 @@ public class MultiplayerLobbyController implements MultiplayerEventListener {
     }
     
     private void navigateToGameScreen() {
+        multiplayerService.leaveLobby();
         try {
             Stage stage = (Stage) createGameButton.getScene().getWindow();
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/baccalaureat/MultiplayerGame.fxml"));
@@ -418,6 +414,7 @@ public class MultiplayerLobbyController implements MultiplayerEventListener {
     
     @FXML
     private void handleBackToMenu() {
+        multiplayerService.disconnect();
         try {
             Stage stage = (Stage) createGameButton.getScene().getWindow();
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/baccalaureat/MainMenu.fxml"));
@@ -430,204 +427,56 @@ public class MultiplayerLobbyController implements MultiplayerEventListener {
         }
     }
     
-    private void startGameStatePolling() {
-        // Poll server every 500ms to check if game has started for ALL players
-        Thread pollingThread = new Thread(() -> {
-            try {
-                for (int attempts = 0; attempts < 20; attempts++) { // 10 second timeout
-                    Thread.sleep(500);
-                    
-                    // Check game state from server
-                    HttpRequest request = HttpRequest.newBuilder()
-                        .uri(URI.create(ConfigLoader.getApiUrl() + "/" + sessionId + "/state"))
-                        .header("Content-Type", "application/json")
-                        .GET()
-                        .build();
-                    
-                    HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-                    JsonNode gameState = objectMapper.readTree(response.body());
-                    
-                    String status = gameState.has("status") ? gameState.get("status").asText() : "UNKNOWN";
-                    
-                    if ("IN_PROGRESS".equals(status)) {
-                        System.out.println("[SYNC] Game started confirmed for all players - transitioning now");
-                        Platform.runLater(() -> {
-                            noticeLabel.setText("Tous les joueurs prêts! Démarrage...");
-                            navigateToGameScreen();
-                        });
-                        return;
-                    }
-                }
-                
-                // Timeout - show error
-                Platform.runLater(() -> {
-                    showError("Timeout: Le jeu n'a pas pu démarrer pour tous les joueurs");
-                    noticeLabel.setText("Erreur de synchronisation. Réessayez.");
-                    startGameButton.setDisable(false);
-                });
-                
-            } catch (Exception e) {
-                Platform.runLater(() -> {
-                    showError("Erreur lors de la synchronisation: " + e.getMessage());
-                    startGameButton.setDisable(false);
-                });
-            }
-        });
-        
-        pollingThread.setDaemon(true);
-        pollingThread.start();
-    }
-    
-    private void startWaitingForGameStart() {
-        // Non-host players continuously poll to detect game start
-        Thread waitingThread = new Thread(() -> {
-            try {
-                while (true) {
-                    Thread.sleep(1000); // Poll every second
-                    
-                    // Check if game has started
-                    HttpRequest request = HttpRequest.newBuilder()
-                        .uri(URI.create(ConfigLoader.getApiUrl() + "/" + sessionId + "/state"))
-                        .header("Content-Type", "application/json")
-                        .GET()
-                        .build();
-                    
-                    HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-                    JsonNode gameState = objectMapper.readTree(response.body());
-                    
-                    String status = gameState.has("status") ? gameState.get("status").asText() : "WAITING";
-                    
-                    if ("IN_PROGRESS".equals(status)) {
-                        System.out.println("[SYNC] Non-host detected game start - transitioning now");
-                        Platform.runLater(() -> {
-                            noticeLabel.setText("Jeu démarré! Transition en cours...");
-                            navigateToGameScreen();
-                        });
-                        return;
-                    }
-                }
-            } catch (Exception e) {
-                Platform.runLater(() -> {
-                    connectionStatusLabel.setText("❌ Erreur de synchronisation");
-                });
-            }
-        });
-        
-        waitingThread.setDaemon(true);
-        waitingThread.start();
-    }
-    
     /**
-     * Start polling for player list updates to refresh lobby UI in real-time.
-     * Host will see new players as they join the session.
+     * Update the player list, host status and start button from the server's lobby state.
+     * Runs on JavaFX Application Thread, like every MultiplayerService event.
      */
-    private void startPlayerListPolling() {
-        if (!isHost || sessionId == null) {
-            return; // Only host needs to poll for player updates
-        }
+    private void applyLobbyState(LobbyState state) {
+        List<String> serverPlayers = new ArrayList<>();
+        String currentPlayerName = multiplayerService.getCurrentPlayerName();
+        boolean currentPlayerIsHost = false;
         
-        Thread playerPollingThread = new Thread(() -> {
-            try {
-                while (true) {
-                    Thread.sleep(2000); // Poll every 2 seconds for player updates
-                    
-                    // Get current session state to check for new players
-                    HttpRequest request = HttpRequest.newBuilder()
-                        .uri(URI.create(ConfigLoader.getApiUrl() + "/" + sessionId + "/state"))
-                        .header("Content-Type", "application/json")
-                        .GET()
-                        .build();
-                    
-                    HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-                    JsonNode gameState = objectMapper.readTree(response.body());
-                    
-                    // Extract player information from server response
-                    JsonNode playersNode = gameState.get("players");
-                    if (playersNode != null && playersNode.isArray()) {
-                        updatePlayerListFromServer(playersNode);
-                    }
+        for (ServerMessage.Player player : state.players()) {
+            if (player.host()) {
+                serverPlayers.add(player.username() + " (Hôte)");
+                // Check if this is the current player
+                if (player.username().equals(currentPlayerName)) {
+                    currentPlayerIsHost = true;
                 }
-            } catch (Exception e) {
-                System.out.println("[LOBBY] Player polling stopped: " + e.getMessage());
-                // Polling stops on error - not critical for functionality
+            } else {
+                serverPlayers.add(player.username());
             }
-        });
+        }
         
-        playerPollingThread.setDaemon(true);
-        playerPollingThread.start();
+        // Update MultiplayerService host status based on server state
+        if (currentPlayerIsHost != multiplayerService.isHost()) {
+            System.out.println("[LOBBY] Host status changed by server: " + currentPlayerIsHost);
+            multiplayerService.setHost(currentPlayerIsHost);
+        }
         
-        System.out.println("[LOBBY] Started player list polling for host");
+        // Only update UI if player list has changed
+        if (!serverPlayers.equals(new ArrayList<>(connectedPlayers))) {
+            System.out.println("[LOBBY] Player list changed: " + connectedPlayers + " -> " + serverPlayers);
+            connectedPlayers.setAll(serverPlayers);
+            updateLobbyControls();
+        }
     }
     
     /**
-     * Update the player list UI based on server response.
-     * Runs on JavaFX Application Thread for safe UI updates.
+     * Enable the start button and update the notice from the current player count.
      */
-    private void updatePlayerListFromServer(JsonNode playersNode) {
-        Platform.runLater(() -> {
-            try {
-                List<String> serverPlayers = new ArrayList<>();
-                
-                System.out.println("[LOBBY] Updating player list from server...");
-                
-                // Parse players from server response
-                String currentPlayerName = multiplayerService.getCurrentPlayerName();
-                boolean currentPlayerIsHost = false;
-                
-                for (JsonNode playerNode : playersNode) {
-                    String username = playerNode.has("username") ? playerNode.get("username").asText() : null;
-                    boolean isHostPlayer = playerNode.has("isHost") ? playerNode.get("isHost").asBoolean() : false;
-                    
-                    if (username != null && !username.trim().isEmpty()) {
-                        if (isHostPlayer) {
-                            serverPlayers.add(username + " (Hôte)");
-                            // Check if this is the current player
-                            if (username.equals(currentPlayerName)) {
-                                currentPlayerIsHost = true;
-                            }
-                        } else {
-                            serverPlayers.add(username);
-                        }
-                        System.out.println("[LOBBY] Found player: " + username + (isHostPlayer ? " (Hôte)" : ""));
-                    }
-                }
-                
-                // Update MultiplayerService host status based on server response
-                if (currentPlayerIsHost && !multiplayerService.isHost()) {
-                    System.out.println("[LOBBY] Setting current player as host based on server response");
-                    multiplayerService.setHost(true);
-                } else if (!currentPlayerIsHost && multiplayerService.isHost()) {
-                    System.out.println("[LOBBY] Removing host status from current player based on server response");  
-                    multiplayerService.setHost(false);
-                }
-                
-                // Only update UI if player list has changed
-                if (!serverPlayers.equals(new ArrayList<>(connectedPlayers))) {
-                    System.out.println("[LOBBY] Player list changed - updating UI");
-                    System.out.println("[LOBBY] Old: " + connectedPlayers);
-                    System.out.println("[LOBBY] New: " + serverPlayers);
-                    
-                    connectedPlayers.clear();
-                    connectedPlayers.addAll(serverPlayers);
-                    
-                    // Update validation - check if we have enough players for start
-                    boolean canStart = connectedPlayers.size() >= 2;
-                    startGameButton.setDisable(!canStart);
-                    
-                    System.out.println("[LOBBY] Player list updated: " + connectedPlayers.size() + " players - " + serverPlayers);
-                    
-                    // Update notice based on player count
-                    if (connectedPlayers.size() >= 2) {
-                        noticeLabel.setText("Prêt à démarrer! Joueurs: " + connectedPlayers.size());
-                    } else {
-                        noticeLabel.setText("Partie créée! Partagez le code: " + sessionId + " (En attente de joueurs)");
-                    }
-                }
-                
-            } catch (Exception e) {
-                System.out.println("[LOBBY] Error updating player list: " + e.getMessage());
-            }
-        });
+    private void updateLobbyControls() {
+        boolean canStart = connectedPlayers.size() >= 2;
+        if (!isHost) {
+            noticeLabel.setText("Rejoint la partie! En attente du démarrage par l'hôte. Joueurs: " + connectedPlayers.size());
+            return;
+        }
+        startGameButton.setDisable(!canStart);
+        if (canStart) {
+            noticeLabel.setText("Prêt à démarrer! Joueurs: " + connectedPlayers.size());
+        } else {
+            noticeLabel.setText("Partie créée! Partagez le code: " + sessionId + " (En attente de joueurs)");
+        }
     }
     
     /**
@@ -710,58 +559,37 @@ public class MultiplayerLobbyController implements MultiplayerEventListener {
     
     @Override
     public void onConnectionEstablished() {
-        Platform.runLater(() -> {
-            connectionStatusLabel.setText("🌐 WebSocket connecté");
-            System.out.println("[WS] WebSocket connection established");
-        });
+        connectionStatusLabel.setText("🌐 WebSocket connecté");
+        System.out.println("[WS] WebSocket connection established");
     }
     
     @Override
     public void onConnectionLost() {
-        Platform.runLater(() -> {
-            connectionStatusLabel.setText("❌ WebSocket déconnecté");
-            System.out.println("[WS] WebSocket connection lost");
-        });
+        connectionStatusLabel.setText("❌ WebSocket déconnecté");
+        System.out.println("[WS] WebSocket connection lost");
     }
     
     @Override
     public void onPlayerJoined(String playerName) {
         System.out.println("[WS] Player joined via WebSocket: " + playerName);
         
-        // Instead of directly updating the list, refresh from server to get proper formatting
-        if (isHost && sessionId != null) {
-            Platform.runLater(() -> refreshPlayerListFromServer());
-        } else {
-            // For non-hosts, just add the player directly for now
-            Platform.runLater(() -> {
-                if (!connectedPlayers.contains(playerName)) {
-                    connectedPlayers.add(playerName);
-                }
-            });
+        // Servers that send the full player list follow up with onLobbyStateChanged
+        if (!connectedPlayers.contains(playerName) && !connectedPlayers.contains(playerName + " (Hôte)")) {
+            connectedPlayers.add(playerName);
+            updateLobbyControls();
         }
     }
     
-    /**
-     * Immediately refresh player list from server (used by WebSocket events)
-     */
-    private void refreshPlayerListFromServer() {
-        try {
-            HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(ConfigLoader.getApiUrl() + "/" + sessionId + "/state"))
-                .header("Content-Type", "application/json")
-                .GET()
-                .build();
-            
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            JsonNode gameState = objectMapper.readTree(response.body());
-            
-            // Extract player information from server response
-            JsonNode playersNode = gameState.get("players");
-            if (playersNode != null && playersNode.isArray()) {
-                updatePlayerListFromServer(playersNode);
-            }
-        } catch (Exception e) {
-            System.err.println("[LOBBY] Failed to refresh player list: " + e.getMessage());
+    @Override
+    public void onLobbyStateChanged(LobbyState state) {
+        applyLobbyState(state);
+        
+        // Without a WebSocket there is no GAME_STARTED, so the REST fallback's status is all we get
+        if (state.isInProgress() && !gameStarted && !multiplayerService.isConnected()) {
+            gameStarted = true;
+            System.out.println("[SYNC] Game start detected through REST fallback - transitioning now");
+            noticeLabel.setText("Jeu démarré! Transition en cours...");
+            navigateToGameScreen();
         }
     }
     
@@ -769,6 +597,8 @@ public class MultiplayerLobbyController implements MultiplayerEventListener {
     public void onGameStarted(String letter, List<String> categories, int duration) {
         System.out.println("[WS] GAME_STARTED event received - Letter: " + letter + 
                           ", Categories: " + categories.size() + ", Duration: " + duration);
+        gameStarted = true;
+        multiplayerService.leaveLobby();
         
         // Check if there's an open configuration window that needs to be closed
         closeConfigurationWindows();
@@ -4,7 +4,11 @@ import com.baccalaureat.model.Category;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -25,6 +29,10 @@ public class CategoryDAO {
         "SELECT id, name, display_name, icon, hint, enabled, predefined, created_at " +
         "FROM categories WHERE name = ?";
     
+    private static final String SELECT_BY_NAMES_PREFIX = 
+        "SELECT id, name, display_name, icon, hint, enabled, predefined, created_at " +
+        "FROM categories WHERE name IN (";
+    
     private static final String SELECT_BY_ID = 
         "SELECT id, name, display_name, icon, hint, enabled, predefined, created_at " +
         "FROM categories WHERE id = ?";
@@ -108,6 +116,41 @@ public class CategoryDAO {
         return Optional.empty();
     }
     
+    /**
+     * Finds several categories by name in a single query.
+     * Names that do not exist are simply missing from the result.
+     * 
+     * @return categories keyed by name
+     */
+    public Map<String, Category> findByNames(Collection<String> names) {
+        Map<String, Category> found = new HashMap<>();
+        if (names.isEmpty()) {
+            return found;
+        }
+        
+        String sql = SELECT_BY_NAMES_PREFIX + String.join(", ", Collections.nCopies(names.size(), "?")) + ")";
+        try (Connection conn = DatabaseManager.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            
+            int index = 1;
+            for (String name : names) {
+                stmt.setString(index++, name);
+            }
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    Category category = mapResultSetToCategory(rs);
+                    found.put(category.getName(), category);
+                }
+            }
+            
+        } catch (SQLException e) {
+            System.err.println("Error finding categories by name: " + e.getMessage());
+        }
+        
+        return found;
+    }
+    
     /**
      * Finds a category by its ID.
      */
@@ -0,0 +1,349 @@
+package com.baccalaureat.dao;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded pool of long-lived SQLite connections.
+ *
+ * Connections are opened lazily, configured once with the pragmas below and then
+ * reused for the lifetime of the pool. Callers keep the usual JDBC idiom:
+ * closing the handed-out {@link Connection} returns it to the pool, and closing a
+ * {@link PreparedStatement} obtained through {@code prepareStatement(String)} only
+ * resets it so the next caller with the same SQL skips the parse step.
+ */
+class ConnectionPool {
+
+    private static final String[] PRAGMAS = {
+        "PRAGMA journal_mode=WAL",
+        "PRAGMA synchronous=NORMAL",
+        "PRAGMA mmap_size=268435456",   // 256 MB
+        "PRAGMA cache_size=-8192",      // 8 MB page cache
+        "PRAGMA temp_store=MEMORY",
+        "PRAGMA busy_timeout=5000"
+    };
+
+    private static final int STATEMENT_CACHE_SIZE = 32;
+    private static final long BORROW_TIMEOUT_MS = 5000;
+
+    private final String url;
+    private final int maxSize;
+    private final BlockingQueue<PhysicalConnection> idle;
+    private final List<PhysicalConnection> all = new ArrayList<>();
+    private boolean closed = false;
+
+    ConnectionPool(String url, int maxSize) {
+        this.url = url;
+        this.maxSize = Math.max(1, maxSize);
+        this.idle = new ArrayBlockingQueue<>(this.maxSize);
+    }
+
+    String getUrl() {
+        return url;
+    }
+
+    /**
+     * Borrows a connection, opening a new one if the pool is not yet full.
+     * Blocks up to {@value #BORROW_TIMEOUT_MS} ms when every connection is in use.
+     */
+    Connection borrow() throws SQLException {
+        PhysicalConnection physical = idle.poll();
+        if (physical == null) {
+            physical = openIfBelowLimit();
+        }
+        if (physical == null) {
+            try {
+                physical = idle.poll(BORROW_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted while waiting for a pooled connection", e);
+            }
+            if (physical == null) {
+                throw new SQLException("Timed out waiting for a pooled connection to " + url);
+            }
+        }
+        return physical.lease();
+    }
+
+    /**
+     * Closes every connection owned by this pool. Leased connections are closed
+     * when their borrower hands them back.
+     */
+    synchronized void close() {
+        closed = true;
+        PhysicalConnection physical;
+        while ((physical = idle.poll()) != null) {
+            physical.closeQuietly();
+        }
+    }
+
+    private synchronized PhysicalConnection openIfBelowLimit() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool for " + url + " is closed");
+        }
+        if (all.size() >= maxSize) {
+            return null;
+        }
+        Connection raw = DriverManager.getConnection(url);
+        try (Statement stmt = raw.createStatement()) {
+            for (String pragma : PRAGMAS) {
+                stmt.execute(pragma);
+            }
+        } catch (SQLException e) {
+            raw.close();
+            throw e;
+        }
+        PhysicalConnection physical = new PhysicalConnection(raw);
+        all.add(physical);
+        return physical;
+    }
+
+    private void release(PhysicalConnection physical) {
+        physical.reclaimStatements();
+        try {
+            if (!physical.raw.getAutoCommit()) {
+                physical.raw.rollback();
+                physical.raw.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            discard(physical);
+            return;
+        }
+
+        synchronized (this) {
+            if (closed) {
+                physical.closeQuietly();
+                all.remove(physical);
+                return;
+            }
+        }
+        if (!idle.offer(physical)) {
+            discard(physical);
+        }
+    }
+
+    private synchronized void discard(PhysicalConnection physical) {
+        physical.closeQuietly();
+        all.remove(physical);
+    }
+
+    /**
+     * A real SQLite connection plus its prepared-statement cache.
+     */
+    private final class PhysicalConnection {
+        private final Connection raw;
+        private final Map<String, CachedStatement> statements =
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedStatement> eldest) {
+                    if (size() > STATEMENT_CACHE_SIZE && !eldest.getValue().inUse()) {
+                        eldest.getValue().closeQuietly();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        private final List<PreparedStatement> throwaways = new ArrayList<>();
+
+        PhysicalConnection(Connection raw) {
+            this.raw = raw;
+        }
+
+        Connection lease() {
+            return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class },
+                new LeasedConnectionHandler(this));
+        }
+
+        PreparedStatement prepare(String sql) throws SQLException {
+            CachedStatement cached = statements.get(sql);
+            if (cached == null) {
+                cached = new CachedStatement(raw.prepareStatement(sql));
+                statements.put(sql, cached);
+            } else if (cached.inUse()) {
+                // Same SQL prepared twice on one lease: hand out a throwaway statement
+                PreparedStatement throwaway = raw.prepareStatement(sql);
+                throwaways.add(throwaway);
+                return throwaway;
+            }
+            return cached.lease();
+        }
+
+        /**
+         * Closes the statements the borrower forgot to close. A leaked handle fails from
+         * then on, so it can never run alongside the next lease of the same statement.
+         */
+        void reclaimStatements() {
+            for (CachedStatement cached : statements.values()) {
+                cached.reclaim();
+            }
+            for (PreparedStatement throwaway : throwaways) {
+                try {
+                    throwaway.close();
+                } catch (SQLException ignored) {
+                    // Closing a statement the borrower is done with
+                }
+            }
+            throwaways.clear();
+        }
+
+        void closeQuietly() {
+            Iterator<CachedStatement> it = statements.values().iterator();
+            while (it.hasNext()) {
+                it.next().closeQuietly();
+                it.remove();
+            }
+            try {
+                raw.close();
+            } catch (SQLException ignored) {
+                // Nothing useful to do while tearing down
+            }
+        }
+    }
+
+    /**
+     * A pooled prepared statement. Each lease gets its own handle; closing a handle
+     * clears its parameters and frees the statement instead of releasing the native one.
+     */
+    private static final class CachedStatement {
+        private final PreparedStatement statement;
+        private StatementHandle current;
+
+        CachedStatement(PreparedStatement statement) {
+            this.statement = statement;
+        }
+
+        boolean inUse() {
+            return current != null;
+        }
+
+        PreparedStatement lease() {
+            current = new StatementHandle();
+            return (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(),
+                new Class<?>[] { PreparedStatement.class },
+                current);
+        }
+
+        /**
+         * Closes the handle still leased, if any.
+         */
+        void reclaim() {
+            if (current != null) {
+                try {
+                    current.close();
+                } catch (SQLException ignored) {
+                    // The statement stays cached; the next lease resets it again
+                }
+            }
+        }
+
+        void closeQuietly() {
+            try {
+                statement.close();
+            } catch (SQLException ignored) {
+                // Nothing useful to do while tearing down
+            }
+        }
+
+        private final class StatementHandle implements InvocationHandler {
+            private boolean closed = false;
+
+            void close() throws SQLException {
+                if (!closed) {
+                    closed = true;
+                    current = null;
+                    statement.clearParameters();
+                    statement.clearBatch();
+                }
+            }
+
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                switch (method.getName()) {
+                    case "close":
+                        close();
+                        return null;
+                    case "isClosed":
+                        return closed;
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        if (closed) {
+                            throw new SQLException("Statement is closed");
+                        }
+                        return invokeTarget(statement, method, args);
+                }
+            }
+        }
+    }
+
+    /**
+     * Per-lease view of a physical connection. Becomes unusable once closed,
+     * so a stale reference can never touch a connection someone else now holds.
+     */
+    private final class LeasedConnectionHandler implements InvocationHandler {
+        private final PhysicalConnection physical;
+        private boolean closed = false;
+
+        LeasedConnectionHandler(PhysicalConnection physical) {
+            this.physical = physical;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        release(physical);
+                    }
+                    return null;
+                case "isClosed":
+                    return closed || physical.raw.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + url + "]";
+                default:
+                    break;
+            }
+            if (closed) {
+                throw new SQLException("Connection has been returned to the pool");
+            }
+            if (method.getName().equals("prepareStatement")
+                    && args != null && args.length == 1 && args[0] instanceof String sql) {
+                return physical.prepare(sql);
+            }
+            return invokeTarget(physical.raw, method, args);
+        }
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -3,23 +3,73 @@ package com.baccalaureat.dao;
 import com.baccalaureat.service.DatabaseInitializer;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class DatabaseManager {
     private static final String DEFAULT_DB_URL = "jdbc:sqlite:baccalaureat.db";
+    private static final int DEFAULT_POOL_SIZE = 4;
+
+    private static ConnectionPool pool;
+    private static final AtomicLong generation = new AtomicLong();
 
     static {
         initializeDatabase();
     }
 
+    /**
+     * Returns a pooled connection to the configured database.
+     * Closing the connection hands it back to the pool; the underlying SQLite
+     * handle stays open with WAL, mmap and its prepared-statement cache warm.
+     */
     public static Connection getConnection() throws SQLException {
-        String dbUrl = System.getProperty("db.url", DEFAULT_DB_URL);
-        return DriverManager.getConnection(dbUrl);
+        return currentPool().borrow();
+    }
+
+    /**
+     * Closes every pooled connection. The next {@link #getConnection()} call
+     * opens a fresh pool, so this is safe to call on shutdown or in tests.
+     */
+    public static synchronized void shutdown() {
+        if (pool != null) {
+            pool.close();
+            pool = null;
+        }
+    }
+
+    /**
+     * Returns the URL of the database connections are opened to ({@code db.url}).
+     * State loaded from the database can compare it to notice a switch.
+     */
+    public static String getUrl() {
+        return System.getProperty("db.url", DEFAULT_DB_URL);
+    }
+
+    /**
+     * Returns how many times {@link #initializeDatabase()} ran. The file behind the same
+     * URL may have been replaced in between, so state loaded from the database compares
+     * this along with {@link #getUrl()}.
+     */
+    public static long getGeneration() {
+        return generation.get();
+    }
+
+    private static synchronized ConnectionPool currentPool() {
+        String dbUrl = getUrl();
+        if (pool == null || !pool.getUrl().equals(dbUrl)) {
+            shutdown();
+            int size = Integer.getInteger("db.pool.size", DEFAULT_POOL_SIZE);
+            pool = new ConnectionPool(dbUrl, size);
+        }
+        return pool;
     }
 
     public static void initializeDatabase() {
+        // Drop connections to a database file that may have been replaced on disk
+        shutdown();
+        generation.incrementAndGet();
+        
         try (Connection conn = getConnection(); Statement stmt = conn.createStatement()) {
             // Create validated_words table per specification
             String ddl = "CREATE TABLE IF NOT EXISTS validated_words (" +
@@ -31,6 +81,29 @@ public class DatabaseManager {
                     ")";
             stmt.execute(ddl);
             
+            // Negative cache: confident INVALID verdicts, expired by rejected_at (epoch millis)
+            String rejectedDdl = "CREATE TABLE IF NOT EXISTS rejected_words (" +
+                    "id INTEGER PRIMARY KEY AUTOINCREMENT, " +
+                    "word TEXT NOT NULL, " +
+                    "category TEXT NOT NULL, " +
+                    "confidence REAL NOT NULL, " +
+                    "rejected_at INTEGER NOT NULL, " +
+                    "UNIQUE(word, category)" +
+                    ")";
+            stmt.execute(rejectedDdl);
+            
+            // Durable HTTP/AI responses for warm starts and offline play; body is gzip-compressed
+            String responsesDdl = "CREATE TABLE IF NOT EXISTS http_responses (" +
+                    "url TEXT PRIMARY KEY, " +
+                    "status INTEGER NOT NULL, " +
+                    "body BLOB NOT NULL, " +
+                    "etag TEXT, " +
+                    "last_modified TEXT, " +
+                    "stored_at INTEGER NOT NULL, " +
+                    "size INTEGER NOT NULL" +
+                    ")";
+            stmt.execute(responsesDdl);
+            
             // Create categories table for dynamic categories
             String categoriesDdl = "CREATE TABLE IF NOT EXISTS categories (" +
                     "id INTEGER PRIMARY KEY AUTOINCREMENT, " +
@@ -44,10 +117,9 @@ public class DatabaseManager {
                     ")";
             stmt.execute(categoriesDdl);
             
-            // Create indexes
-            String indexDdl = "CREATE INDEX IF NOT EXISTS idx_word_category " +
-                    "ON validated_words(word, category)";
-            stmt.execute(indexDdl);
+            // UNIQUE(word, category) already provides the lookup index for validated_words;
+            // a second index on the same columns only doubled the write cost
+            stmt.execute("DROP INDEX IF EXISTS idx_word_category");
             
             String categoriesIndexDdl = "CREATE INDEX IF NOT EXISTS idx_categories_enabled " +
                     "ON categories(enabled, name)";
@@ -0,0 +1,121 @@
+package com.baccalaureat.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Data Access Object for the http_responses table.
+ *
+ * Holds remote responses keyed by request (the URL, plus a digest of the body for
+ * POSTs) so they survive restarts. Bodies are stored as opaque bytes; compression
+ * is up to the caller. Each row records when it was stored (epoch millis) and its
+ * size, which lets the table be trimmed to a byte budget, newest rows first.
+ */
+public class HttpResponseDAO {
+
+    private static final String SELECT_QUERY =
+        "SELECT status, body, etag, last_modified, stored_at FROM http_responses WHERE url = ?";
+
+    private static final String UPSERT_QUERY =
+        "INSERT INTO http_responses (url, status, body, etag, last_modified, stored_at, size) VALUES (?, ?, ?, ?, ?, ?, ?) " +
+        "ON CONFLICT(url) DO UPDATE SET status = excluded.status, body = excluded.body, etag = excluded.etag, " +
+        "last_modified = excluded.last_modified, stored_at = excluded.stored_at, size = excluded.size";
+
+    private static final String TOUCH_QUERY =
+        "UPDATE http_responses SET stored_at = ? WHERE url = ?";
+
+    private static final String TRIM_QUERY =
+        "DELETE FROM http_responses WHERE url IN (" +
+        "SELECT url FROM (SELECT url, SUM(size) OVER (ORDER BY stored_at DESC, url) AS running FROM http_responses) " +
+        "WHERE running > ?)";
+
+    private static final String DELETE_ALL = "DELETE FROM http_responses";
+
+    /**
+     * A stored response row.
+     */
+    public record StoredRow(int status, byte[] body, String etag, String lastModified, long storedAtMillis) {
+    }
+
+    /**
+     * Returns the stored response for a key, or null if there is none or the read failed.
+     */
+    public StoredRow find(String url) {
+        try (Connection conn = DatabaseManager.getConnection();
+                PreparedStatement ps = conn.prepareStatement(SELECT_QUERY)) {
+            ps.setString(1, url);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next()) {
+                    return null;
+                }
+                return new StoredRow(rs.getInt(1), rs.getBytes(2), rs.getString(3), rs.getString(4), rs.getLong(5));
+            }
+        } catch (SQLException e) {
+            System.err.println("DB check failed: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Stores (or replaces) the response for a key.
+     */
+    public void save(String url, int status, byte[] body, String etag, String lastModified, long storedAtMillis) {
+        try (Connection conn = DatabaseManager.getConnection();
+                PreparedStatement ps = conn.prepareStatement(UPSERT_QUERY)) {
+            ps.setString(1, url);
+            ps.setInt(2, status);
+            ps.setBytes(3, body);
+            ps.setString(4, etag);
+            ps.setString(5, lastModified);
+            ps.setLong(6, storedAtMillis);
+            ps.setLong(7, body.length + url.length());
+            ps.executeUpdate();
+        } catch (SQLException e) {
+            System.err.println("DB insert failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Marks a stored response as confirmed at the given time (e.g. after a 304).
+     */
+    public void touch(String url, long storedAtMillis) {
+        try (Connection conn = DatabaseManager.getConnection();
+                PreparedStatement ps = conn.prepareStatement(TOUCH_QUERY)) {
+            ps.setLong(1, storedAtMillis);
+            ps.setString(2, url);
+            ps.executeUpdate();
+        } catch (SQLException e) {
+            System.err.println("DB update failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Deletes the oldest rows until the stored sizes add up to at most maxBytes.
+     *
+     * @return number of rows removed
+     */
+    public int trimToSize(long maxBytes) {
+        try (Connection conn = DatabaseManager.getConnection();
+                PreparedStatement ps = conn.prepareStatement(TRIM_QUERY)) {
+            ps.setLong(1, maxBytes);
+            return ps.executeUpdate();
+        } catch (SQLException e) {
+            System.err.println("DB delete failed: " + e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Deletes every stored response.
+     */
+    public void deleteAll() {
+        try (Connection conn = DatabaseManager.getConnection();
+                PreparedStatement ps = conn.prepareStatement(DELETE_ALL)) {
+            ps.executeUpdate();
+        } catch (SQLException e) {
+            System.err.println("DB delete failed: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.baccalaureat.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Data Access Object for the rejected_words table.
+ *
+ * Stores confident INVALID verdicts so repeated wrong answers can be rejected
+ * without asking the remote validators again. Like validated_words, words and
+ * category names are stored pre-normalized. Each row carries the time of the
+ * rejection (epoch millis) so stale entries can expire.
+ */
+public class RejectedWordDAO {
+
+    private static final String SELECT_SINCE =
+        "SELECT word, category, rejected_at FROM rejected_words WHERE rejected_at >= ?";
+
+    private static final String UPSERT_QUERY =
+        "INSERT INTO rejected_words (word, category, confidence, rejected_at) VALUES (?, ?, ?, ?) " +
+        "ON CONFLICT(word, category) DO UPDATE SET confidence = excluded.confidence, rejected_at = excluded.rejected_at";
+
+    private static final String DELETE_QUERY =
+        "DELETE FROM rejected_words WHERE word = ? AND category = ?";
+
+    private static final String DELETE_OLDER_THAN =
+        "DELETE FROM rejected_words WHERE rejected_at < ?";
+
+    /**
+     * Receives one stored rejection.
+     */
+    @FunctionalInterface
+    public interface RejectionConsumer {
+        void accept(String word, String category, long rejectedAtMillis);
+    }
+
+    /**
+     * Streams every rejection recorded at or after the given time.
+     *
+     * @return true if the table was read completely
+     */
+    public boolean forEachRejectionSince(long sinceMillis, RejectionConsumer consumer) {
+        try (Connection conn = DatabaseManager.getConnection();
+                PreparedStatement ps = conn.prepareStatement(SELECT_SINCE)) {
+            ps.setLong(1, sinceMillis);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    consumer.accept(rs.getString(1), rs.getString(2), rs.getLong(3));
+                }
+            }
+            return true;
+        } catch (SQLException e) {
+            System.err.println("DB load failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Records (or refreshes) a rejection for a normalized word.
+     */
+    public void saveRejection(String normalizedWord, String categoryName, double confidence, long rejectedAtMillis) {
+        try (Connection conn = DatabaseManager.getConnection();
+                PreparedStatement ps = conn.prepareStatement(UPSERT_QUERY)) {
+            ps.setString(1, normalizedWord);
+            ps.setString(2, categoryName);
+            ps.setDouble(3, confidence);
+            ps.setLong(4, rejectedAtMillis);
+            ps.executeUpdate();
+        } catch (SQLException e) {
+            System.err.println("DB insert failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Removes the rejection of a normalized word, if any.
+     */
+    public void deleteRejection(String normalizedWord, String categoryName) {
+        try (Connection conn = DatabaseManager.getConnection();
+                PreparedStatement ps = conn.prepareStatement(DELETE_QUERY)) {
+            ps.setString(1, normalizedWord);
+            ps.setString(2, categoryName);
+            ps.executeUpdate();
+        } catch (SQLException e) {
+            System.err.println("DB delete failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Deletes rejections recorded before the given time.
+     *
+     * @return number of rows removed
+     */
+    public int deleteOlderThan(long cutoffMillis) {
+        try (Connection conn = DatabaseManager.getConnection();
+                PreparedStatement ps = conn.prepareStatement(DELETE_OLDER_THAN)) {
+            ps.setLong(1, cutoffMillis);
+            return ps.executeUpdate();
+        } catch (SQLException e) {
+            System.err.println("DB delete failed: " + e.getMessage());
+            return 0;
+        }
+    }
+}
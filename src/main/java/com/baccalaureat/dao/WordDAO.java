@@ -4,39 +4,66 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.function.BiConsumer;
 
+/**
+ * Data Access Object for the validated_words table.
+ *
+ * Words and category names are stored pre-normalized (normalized word, category
+ * internal name), so every lookup is an exact match that the UNIQUE(word, category)
+ * index answers with a single probe.
+ */
 public class WordDAO {
-    private static final DateTimeFormatter TS = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
-    public boolean isWordInLocalDb(String category, String word) {
-        if (category == null || word == null)
-            return false;
-        String sql = "SELECT COUNT(1) FROM validated_words WHERE lower(category)=lower(?) AND lower(word)=lower(?)";
+    private static final String SELECT_ALL =
+        "SELECT word, category FROM validated_words";
+
+    private static final String INSERT_QUERY =
+        "INSERT OR IGNORE INTO validated_words (word, category) VALUES (?, ?)";
+
+    /**
+     * A normalized word and the internal name of its category.
+     */
+    public record ValidatedWord(String word, String category) {
+    }
+
+    /**
+     * Streams every stored (word, category) pair to the consumer.
+     *
+     * @return true if the table was read completely
+     */
+    public boolean forEachWord(BiConsumer<String, String> consumer) {
         try (Connection conn = DatabaseManager.getConnection();
-                PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, category.trim());
-            ps.setString(2, word.trim());
-            try (ResultSet rs = ps.executeQuery()) {
-                return rs.next() && rs.getInt(1) > 0;
+                PreparedStatement ps = conn.prepareStatement(SELECT_ALL);
+                ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                consumer.accept(rs.getString(1), rs.getString(2));
             }
+            return true;
         } catch (SQLException e) {
-            System.err.println("DB check failed: " + e.getMessage());
+            System.err.println("DB load failed: " + e.getMessage());
             return false;
         }
     }
 
-    public void saveWord(String category, String word) {
-        if (category == null || word == null)
+    /**
+     * Inserts normalized (word, category) pairs in one transaction.
+     * Pairs that already exist are ignored.
+     */
+    public void saveWords(Collection<ValidatedWord> words) {
+        if (words.isEmpty())
             return;
-        String sql = "INSERT INTO validated_words(category, word, timestamp) VALUES(?,?,?)";
         try (Connection conn = DatabaseManager.getConnection();
-                PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, category.trim());
-            ps.setString(2, word.trim());
-            ps.setString(3, LocalDateTime.now().format(TS));
-            ps.executeUpdate();
+                PreparedStatement ps = conn.prepareStatement(INSERT_QUERY)) {
+            conn.setAutoCommit(false);
+            for (ValidatedWord word : words) {
+                ps.setString(1, word.word());
+                ps.setString(2, word.category());
+                ps.addBatch();
+            }
+            ps.executeBatch();
+            conn.commit();
         } catch (SQLException e) {
             System.err.println("DB insert failed: " + e.getMessage());
         }
@@ -0,0 +1,41 @@
+package com.baccalaureat.multiplayer;
+
+import com.baccalaureat.multiplayer.websocket.ServerMessage;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+
+import java.util.List;
+
+/**
+ * Snapshot of a lobby as seen by the server: who is in it, whether the game has
+ * started, and the game configuration chosen so far.
+ *
+ * Built from the decoded server message whether it was pushed over the WebSocket
+ * ({@code SESSION_STATE}, {@code PLAYER_JOINED}, {@code PLAYER_LEFT}) or fetched from
+ * {@code GET /{sessionId}/state}.
+ *
+ * @param players players in joining order
+ * @param status  server status, e.g. WAITING or IN_PROGRESS
+ * @param config  game configuration, or a NullNode if none was sent
+ */
+public record LobbyState(List<ServerMessage.Player> players, String status, JsonNode config) {
+
+    /** Status of a session whose game has started */
+    public static final String IN_PROGRESS = "IN_PROGRESS";
+
+    /**
+     * Builds a lobby state from message fields, skipping players without a name.
+     * A missing status means WAITING.
+     */
+    public static LobbyState of(String status, List<ServerMessage.Player> players, JsonNode config) {
+        List<ServerMessage.Player> named = players == null ? List.of() : players.stream()
+            .filter(player -> player.username() != null && !player.username().trim().isEmpty())
+            .toList();
+        return new LobbyState(named, status != null ? status : "WAITING",
+            config != null ? config : NullNode.getInstance());
+    }
+
+    public boolean isInProgress() {
+        return IN_PROGRESS.equals(status);
+    }
+}
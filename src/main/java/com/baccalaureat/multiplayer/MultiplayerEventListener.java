@@ -32,6 +32,13 @@ public interface MultiplayerEventListener {
      */
     default void onPlayerJoined(String playerName) {}
     
+    /**
+     * Called when the server reports a new lobby state, pushed over the WebSocket
+     * or, while it is down, fetched by the REST fallback
+     * @param state Players, status and configuration of the session
+     */
+    default void onLobbyStateChanged(LobbyState state) {}
+    
     /**
      * Called when the game round starts
      * @param letter The starting letter for the round
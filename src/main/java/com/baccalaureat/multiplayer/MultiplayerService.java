@@ -2,11 +2,10 @@ package com.baccalaureat.multiplayer;
 
 import com.baccalaureat.multiplayer.websocket.MultiplayerMessageListener;
 import com.baccalaureat.multiplayer.websocket.MultiplayerWebSocketClient;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import javafx.application.Platform;
+import com.baccalaureat.multiplayer.websocket.ServerMessage;
+import com.baccalaureat.util.ConfigLoader;
 
-import java.util.ArrayList;
+import java.net.http.HttpClient;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -17,24 +16,38 @@ import java.util.function.Consumer;
  * High-level service for multiplayer game coordination.
  * Wraps the WebSocket client and provides a clean API for controllers.
  * Handles message routing and event dispatch.
+ *
+ * Lobby state is pushed by the server ({@code SESSION_STATE}, or {@code PLAYER_JOINED} /
+ * {@code PLAYER_LEFT} carrying a players array) and dispatched as onLobbyStateChanged.
+ * While in a lobby without a WebSocket connection, the same events come from a
+ * {@link SessionStatePoller} instead, which stops as soon as the connection is back
+ * or the lobby is left.
+ *
+ * WebSocket callbacks arrive on the I/O thread with messages already decoded; only the
+ * MultiplayerEventListener callbacks are run on the JavaFX Application Thread, batched by
+ * a {@link UiEventDispatcher} so that only the latest pending lobby state is delivered.
  */
 public class MultiplayerService implements MultiplayerMessageListener {
     
     private static final System.Logger logger = System.getLogger(MultiplayerService.class.getName());
     
     private final MultiplayerWebSocketClient client;
-    private final ObjectMapper objectMapper = new ObjectMapper();
     private final List<MultiplayerEventListener> eventListeners = new CopyOnWriteArrayList<>();
+    private final SessionStatePoller lobbyStatePoller;
+    private final UiEventDispatcher dispatcher = new UiEventDispatcher();
     
     // Connection state
-    private boolean connected = false;
-    private String currentSessionId = null;
-    private String currentPlayerName = null;
-    private boolean isHost = false;
+    private volatile boolean connected = false;
+    private volatile String currentSessionId = null;
+    private volatile String currentPlayerName = null;
+    private volatile boolean isHost = false;
+    private volatile boolean inLobby = false;
     
     public MultiplayerService() {
         this.client = new MultiplayerWebSocketClient();
         this.client.addListener(this);
+        this.lobbyStatePoller = new SessionStatePoller(HttpClient.newHttpClient(), ConfigLoader.getApiUrl(),
+            state -> handleLobbyState(LobbyState.of(state.status(), state.players(), state.config())));
     }
     
     /**
@@ -49,7 +62,8 @@ public class MultiplayerService implements MultiplayerMessageListener {
      * Disconnect from the server
      */
     public void disconnect() {
-        logger.log(System.Logger.Level.INFO, "Disconnecting from multiplayer server");
+        logger.log(System.Logger.Level.INFO, "Disconnecting from multiplayer server (UI events: " + dispatcher.getStats() + ")");
+        leaveLobby();
         client.disconnect();
         connected = false;
         currentSessionId = null;
@@ -102,7 +116,7 @@ public class MultiplayerService implements MultiplayerMessageListener {
         
         System.out.println("[MULTIPLAYER] Sending START_GAME message via WebSocket...");
         boolean sent = client.sendStartGame(config);
-        System.out.println("[MULTIPLAYER] START_GAME message sent: " + sent);
+        System.out.println("[MULTIPLAYER] START_GAME message queued: " + sent);
     }
     
     /**
@@ -115,7 +129,23 @@ public class MultiplayerService implements MultiplayerMessageListener {
         
         System.out.println("[MULTIPLAYER] Joining WebSocket session: " + sessionId + " as " + playerName + " (isHost: " + isHost + ")");
         logger.log(System.Logger.Level.INFO, "Joining WebSocket session: " + sessionId + " as " + playerName);
-        client.sendJoinSession(sessionId, playerName);
+        inLobby = true;
+        if (!client.sendJoinSession(sessionId, playerName)) {
+            // Joined again from onConnected once the WebSocket is up
+            lobbyStatePoller.start(sessionId);
+        } else {
+            // The server pushes lobby state on changes only, so fetch the current one
+            lobbyStatePoller.fetchOnce(sessionId);
+        }
+    }
+    
+    /**
+     * Stop lobby state updates, e.g. when the lobby screen is replaced.
+     * The WebSocket stays connected for the game itself.
+     */
+    public void leaveLobby() {
+        inLobby = false;
+        lobbyStatePoller.stop();
     }
     
     /**
@@ -173,6 +203,13 @@ public class MultiplayerService implements MultiplayerMessageListener {
         return isHost;
     }
     
+    /**
+     * Events delivered to the UI and how many were coalesced, for diagnostics
+     */
+    public String getDispatchStats() {
+        return dispatcher.getStats();
+    }
+    
     public void setHost(boolean isHost) {
         System.out.println("[MULTIPLAYER] Host status updated: " + this.isHost + " -> " + isHost);
         this.isHost = isHost;
@@ -184,6 +221,11 @@ public class MultiplayerService implements MultiplayerMessageListener {
     public void onConnected() {
         connected = true;
         logger.log(System.Logger.Level.INFO, "Connected to multiplayer server");
+        lobbyStatePoller.stop();
+        if (inLobby && currentSessionId != null) {
+            // A new connection has no session yet; joining it resumes the pushed updates
+            client.sendJoinSession(currentSessionId, currentPlayerName);
+        }
         notifyListeners(listener -> listener.onConnectionEstablished());
     }
     
@@ -191,6 +233,9 @@ public class MultiplayerService implements MultiplayerMessageListener {
     public void onDisconnected() {
         connected = false;
         logger.log(System.Logger.Level.INFO, "Disconnected from multiplayer server");
+        if (inLobby && currentSessionId != null) {
+            lobbyStatePoller.start(currentSessionId);
+        }
         notifyListeners(listener -> listener.onConnectionLost());
     }
     
@@ -201,130 +246,114 @@ public class MultiplayerService implements MultiplayerMessageListener {
     }
     
     @Override
-    public void onMessageReceived(String json) {
-        System.out.println("[MULTIPLAYER] WebSocket message received: " + json);
+    public void onMessageReceived(ServerMessage message) {
+        logger.log(System.Logger.Level.INFO, "Processing message: " + message);
         
-        try {
-            JsonNode node = objectMapper.readTree(json);
-            String messageType = node.has("type") ? node.get("type").asText() : "UNKNOWN";
-            
-            System.out.println("[MULTIPLAYER] Processing message type: " + messageType);
-            logger.log(System.Logger.Level.INFO, "Processing message type: " + messageType);
-            
-            switch (messageType) {
-                case "SESSION_JOINED" -> handleSessionJoined(node);
-                case "PLAYER_JOINED" -> handlePlayerJoined(node);
-                case "GAME_STARTED" -> handleGameStarted(node);
-                case "ROUND_ENDED" -> handleRoundEnded(node);
-                case "ROUND_STARTED" -> handleRoundStarted(node);
-                case "GAME_ENDED" -> handleGameEnded(node);
-                case "ERROR" -> handleError(node);
-                default -> logger.log(System.Logger.Level.WARNING, "Unknown message type: " + messageType);
-            }
-            
-        } catch (Exception e) {
-            logger.log(System.Logger.Level.ERROR, "Failed to process message", e);
-            notifyListeners(listener -> listener.onError("Failed to process server message: " + e.getMessage()));
+        switch (message) {
+            case ServerMessage.SessionJoined m -> handleSessionJoined(m);
+            case ServerMessage.PlayerJoined m -> handlePlayerJoined(m);
+            case ServerMessage.PlayerLeft m -> handlePlayerLeft(m);
+            case ServerMessage.SessionState m -> handleLobbyState(LobbyState.of(m.status(), m.players(), m.config()));
+            case ServerMessage.GameStarted m -> handleGameStarted(m);
+            case ServerMessage.RoundEnded m -> handleRoundEnded(m);
+            case ServerMessage.RoundStarted m -> handleRoundStarted(m);
+            case ServerMessage.GameEnded m -> handleGameEnded(m);
+            case ServerMessage.ServerError m -> handleError(m);
+            case ServerMessage.Unknown m -> logger.log(System.Logger.Level.WARNING, "Unknown message type: " + m.type());
         }
     }
     
     // Message handlers
     
-    private void handleSessionJoined(JsonNode node) {
-        String sessionId = node.has("sessionId") ? node.get("sessionId").asText() : null;
-        String playerName = node.has("playerName") ? node.get("playerName").asText() : null;
-        
-        logger.log(System.Logger.Level.INFO, "Successfully joined session: " + sessionId + " as " + playerName);
-        this.currentSessionId = sessionId;
-        this.currentPlayerName = playerName;
+    private void handleSessionJoined(ServerMessage.SessionJoined message) {
+        logger.log(System.Logger.Level.INFO, "Successfully joined session: " + message.sessionId() + " as " + message.playerName());
+        this.currentSessionId = message.sessionId();
+        this.currentPlayerName = message.playerName();
     }
     
-    private void handlePlayerJoined(JsonNode node) {
-        String playerName = node.has("playerName") ? node.get("playerName").asText() : "Unknown";
+    private void handlePlayerJoined(ServerMessage.PlayerJoined message) {
+        String playerName = message.playerName() != null ? message.playerName() : "Unknown";
         
         logger.log(System.Logger.Level.INFO, "Player joined: " + playerName);
         notifyListeners(listener -> listener.onPlayerJoined(playerName));
+        if (message.players() != null) {
+            handleLobbyState(LobbyState.of(null, message.players(), null));
+        }
     }
     
-    private void handleGameStarted(JsonNode node) {
-        System.out.println("[MULTIPLAYER] handleGameStarted called");
-        System.out.println("[MULTIPLAYER] GAME_STARTED message: " + node.toString());
-        
-        try {
-            String letter = node.has("letter") ? node.get("letter").asText() : null;
-            int duration = node.has("roundDuration") ? node.get("roundDuration").asInt() : 60;
-            int totalRounds = node.has("totalRounds") ? node.get("totalRounds").asInt() : 1;
-            int currentRound = node.has("currentRound") ? node.get("currentRound").asInt() : 1;
-            
-            List<String> categories = new ArrayList<>();
-            if (node.has("categories") && node.get("categories").isArray()) {
-                node.get("categories").forEach(cat -> categories.add(cat.asText()));
-            }
-            
-            System.out.println("[MULTIPLAYER] Parsed GAME_STARTED - Letter: " + letter + 
-                             ", Duration: " + duration + "s, Categories: " + categories.size() +
-                             ", Total Rounds: " + totalRounds + ", Current Round: " + currentRound);
-            
-            logger.log(System.Logger.Level.INFO, 
-                "Game started: letter=" + letter + ", duration=" + duration + 
-                ", categories=" + categories.size() + ", rounds=" + totalRounds);
-            
-            System.out.println("[MULTIPLAYER] Notifying " + this.eventListeners.size() + " listeners of GAME_STARTED");
-            notifyListeners(listener -> listener.onGameStarted(letter, categories, duration));
-            
-        } catch (Exception e) {
-            System.err.println("[MULTIPLAYER] Failed to parse game start data: " + e.getMessage());
-            logger.log(System.Logger.Level.ERROR, "Failed to parse game start data", e);
+    private void handlePlayerLeft(ServerMessage.PlayerLeft message) {
+        logger.log(System.Logger.Level.INFO, "Player left: " + message.playerName());
+        if (message.players() != null) {
+            handleLobbyState(LobbyState.of(null, message.players(), null));
         }
     }
     
-    private void handleRoundEnded(JsonNode node) {
+    private void handleLobbyState(LobbyState state) {
+        logger.log(System.Logger.Level.INFO, "Lobby state: " + state.status() + ", " + state.players().size() + " players");
+        if (state.isInProgress()) {
+            leaveLobby();
+        }
+        notifyListeners(LobbyState.class, listener -> listener.onLobbyStateChanged(state));
+    }
+    
+    private void handleGameStarted(ServerMessage.GameStarted message) {
+        System.out.println("[MULTIPLAYER] GAME_STARTED message: " + message);
+        leaveLobby();
+        
+        logger.log(System.Logger.Level.INFO, 
+            "Game started: letter=" + message.letter() + ", duration=" + message.roundDuration() + 
+            ", categories=" + message.categories().size() + ", rounds=" + message.totalRounds());
+        
+        System.out.println("[MULTIPLAYER] Notifying " + this.eventListeners.size() + " listeners of GAME_STARTED");
+        notifyListeners(listener -> listener.onGameStarted(message.letter(), message.categories(), message.roundDuration()));
+    }
+    
+    private void handleRoundEnded(ServerMessage.RoundEnded message) {
         logger.log(System.Logger.Level.INFO, "Round ended");
         
-        // Extract round results if available
-        JsonNode results = node.has("results") ? node.get("results") : null;
         notifyListeners(listener -> listener.onRoundEnded());
-        
-        if (results != null) {
-            notifyListeners(listener -> listener.onResultsReceived(results));
+        if (message.results() != null) {
+            notifyListeners(listener -> listener.onResultsReceived(message.results()));
         }
     }
     
-    private void handleRoundStarted(JsonNode node) {
-        String letter = node.has("letter") ? node.get("letter").asText() : null;
-        int currentRound = node.has("currentRound") ? node.get("currentRound").asInt() : 1;
-        int totalRounds = node.has("totalRounds") ? node.get("totalRounds").asInt() : 1;
-        
+    private void handleRoundStarted(ServerMessage.RoundStarted message) {
         logger.log(System.Logger.Level.INFO, 
-            "Round started: letter=" + letter + ", round=" + currentRound + "/" + totalRounds);
+            "Round started: letter=" + message.letter() + ", round=" + message.currentRound() + "/" + message.totalRounds());
         
-        notifyListeners(listener -> listener.onRoundStarted(letter, currentRound, totalRounds));
+        notifyListeners(listener -> listener.onRoundStarted(message.letter(), message.currentRound(), message.totalRounds()));
     }
     
-    private void handleGameEnded(JsonNode node) {
+    private void handleGameEnded(ServerMessage.GameEnded message) {
         logger.log(System.Logger.Level.INFO, "Game ended");
-        
-        JsonNode leaderboard = node.has("leaderboard") ? node.get("leaderboard") : null;
-        notifyListeners(listener -> listener.onGameEnded(leaderboard));
+        notifyListeners(listener -> listener.onGameEnded(message.leaderboard()));
     }
     
-    private void handleError(JsonNode node) {
-        String errorMessage = node.has("message") ? node.get("message").asText() : "Unknown error";
-        logger.log(System.Logger.Level.ERROR, "Server error: " + errorMessage);
-        notifyListeners(listener -> listener.onError(errorMessage));
+    private void handleError(ServerMessage.ServerError message) {
+        logger.log(System.Logger.Level.ERROR, "Server error: " + message.message());
+        notifyListeners(listener -> listener.onError(message.message()));
     }
     
     // Utility methods
     
     private void notifyListeners(Consumer<MultiplayerEventListener> action) {
-        Platform.runLater(() -> {
-            for (MultiplayerEventListener listener : eventListeners) {
-                try {
-                    action.accept(listener);
-                } catch (Exception e) {
-                    logger.log(System.Logger.Level.ERROR, "Error in event listener", e);
-                }
+        dispatcher.post(() -> dispatch(action));
+    }
+    
+    /**
+     * Notify listeners, dropping any pending notification with the same key.
+     */
+    private void notifyListeners(Object coalesceKey, Consumer<MultiplayerEventListener> action) {
+        dispatcher.post(coalesceKey, () -> dispatch(action));
+    }
+    
+    private void dispatch(Consumer<MultiplayerEventListener> action) {
+        for (MultiplayerEventListener listener : eventListeners) {
+            try {
+                action.accept(listener);
+            } catch (Exception e) {
+                logger.log(System.Logger.Level.ERROR, "Error in event listener", e);
             }
-        });
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,249 @@
+package com.baccalaureat.multiplayer;
+
+import com.baccalaureat.multiplayer.websocket.ServerMessage;
+import com.baccalaureat.multiplayer.websocket.ServerMessageDecoder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Polls {@code GET /{sessionId}/state} for the places that cannot get the state pushed,
+ * such as a lobby whose WebSocket is down.
+ *
+ * Every poller shares one daemon scheduler thread, and at most one request per poller is
+ * in flight with no thread waiting on it. Requests are conditional: they carry the last
+ * ETag in If-None-Match, so an unchanged state costs a bodiless 304, and ask the server
+ * to hold them for up to {@value #WAIT_SECONDS} s until something changes.
+ *
+ * The interval starts at the minimum and doubles, with jitter, each time the state comes
+ * back unchanged or the request fails, up to the maximum; a change resets it. Time the
+ * server held a request counts towards the interval, so long-polled requests are
+ * reissued at once. The request rate thus follows the rate of actual change.
+ *
+ * The callback runs on an HTTP client thread, only when the state differs from the last
+ * one delivered. Owners must call {@link #stop()} when they go away.
+ */
+public class SessionStatePoller {
+
+    private static final System.Logger logger = System.getLogger(SessionStatePoller.class.getName());
+
+    static final int WAIT_SECONDS = 25;
+    private static final Duration DEFAULT_MIN_INTERVAL = Duration.ofSeconds(1);
+    private static final Duration DEFAULT_MAX_INTERVAL = Duration.ofSeconds(15);
+
+    // Only ever runs the few microseconds it takes to issue the next request
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "session-state-poller");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final HttpClient httpClient;
+    private final String apiUrl;
+    private final Consumer<ServerMessage.SessionState> onChange;
+    private final Duration minInterval;
+    private final Duration maxInterval;
+
+    // Bumped by start() and stop() so that answers to an older run are dropped
+    private final AtomicLong generation = new AtomicLong();
+
+    private volatile boolean running = false;
+    private volatile String currentSessionId;
+    private volatile String etag;
+    private volatile ServerMessage.SessionState lastState;
+    private volatile Duration interval;
+    private volatile CompletableFuture<?> inFlight;
+    private volatile ScheduledFuture<?> nextPoll;
+
+    /**
+     * @param apiUrl   base URL of the session REST API, see ConfigLoader.getApiUrl()
+     * @param onChange receives each new state, decoded like a pushed SESSION_STATE
+     */
+    public SessionStatePoller(HttpClient httpClient, String apiUrl, Consumer<ServerMessage.SessionState> onChange) {
+        this(httpClient, apiUrl, onChange, DEFAULT_MIN_INTERVAL, DEFAULT_MAX_INTERVAL);
+    }
+
+    SessionStatePoller(HttpClient httpClient, String apiUrl, Consumer<ServerMessage.SessionState> onChange,
+                       Duration minInterval, Duration maxInterval) {
+        this.httpClient = httpClient;
+        this.apiUrl = apiUrl;
+        this.onChange = onChange;
+        this.minInterval = minInterval;
+        this.maxInterval = maxInterval;
+        this.interval = minInterval;
+    }
+
+    /**
+     * Starts polling the given session, restarting if another one was polled.
+     * Does nothing if that session is already being polled.
+     */
+    public synchronized void start(String sessionId) {
+        if (running && sessionId.equals(currentSessionId)) {
+            return;
+        }
+        cancelPending();
+        currentSessionId = sessionId;
+        etag = null;
+        lastState = null;
+        interval = minInterval;
+        running = true;
+        logger.log(System.Logger.Level.INFO, "Polling state of session " + sessionId);
+        poll(generation.incrementAndGet(), sessionId);
+    }
+
+    /**
+     * Stops polling, abandoning the request in flight and the next scheduled one.
+     */
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        generation.incrementAndGet();
+        cancelPending();
+        logger.log(System.Logger.Level.INFO, "Stopped polling state of session " + currentSessionId);
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Current interval before jitter, for tests.
+     */
+    Duration currentInterval() {
+        return interval;
+    }
+
+    /**
+     * Fetches the state once, without holding the request or scheduling another one,
+     * e.g. to seed a lobby the server pushes nothing to on join. Skipped while the
+     * session is being polled anyway; the callback only runs if the state changed.
+     */
+    public synchronized void fetchOnce(String sessionId) {
+        if (running && sessionId.equals(currentSessionId)) {
+            return;
+        }
+        if (!sessionId.equals(currentSessionId)) {
+            currentSessionId = sessionId;
+            etag = null;
+            lastState = null;
+        }
+        long run = generation.get();
+        httpClient.sendAsync(request(sessionId, 0), HttpResponse.BodyHandlers.ofString())
+            .whenComplete((response, error) -> {
+                if (generation.get() != run) {
+                    return;
+                }
+                if (error == null && response.statusCode() == 200) {
+                    deliver(response);
+                } else if (error != null || response.statusCode() != 304) {
+                    logger.log(System.Logger.Level.WARNING, "Session state request failed ("
+                        + (error != null ? error.getMessage() : "HTTP " + response.statusCode()) + ")");
+                }
+            });
+    }
+
+    private HttpRequest request(String sessionId, int waitSeconds) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+            .uri(URI.create(apiUrl + "/" + sessionId + "/state?waitSeconds=" + waitSeconds))
+            .timeout(Duration.ofSeconds(waitSeconds + 10))
+            .header("Accept", "application/json")
+            .GET();
+        String knownTag = etag;
+        if (knownTag != null) {
+            builder.header("If-None-Match", knownTag);
+        }
+        return builder.build();
+    }
+
+    private void poll(long run, String sessionId) {
+        long startedAt = System.nanoTime();
+        CompletableFuture<HttpResponse<String>> request =
+            httpClient.sendAsync(request(sessionId, WAIT_SECONDS), HttpResponse.BodyHandlers.ofString());
+        inFlight = request;
+        request.whenComplete((response, error) -> {
+            if (generation.get() != run) {
+                return;
+            }
+            boolean changed = false;
+            if (error == null && (response.statusCode() == 200 || response.statusCode() == 304)) {
+                changed = response.statusCode() == 200 && deliver(response);
+            } else {
+                logger.log(System.Logger.Level.WARNING, "Session state request failed ("
+                    + (error != null ? error.getMessage() : "HTTP " + response.statusCode()) + ")");
+            }
+            interval = changed ? minInterval : min(interval.multipliedBy(2), maxInterval);
+            long delayNanos = jittered(interval).toNanos() - (System.nanoTime() - startedAt);
+            schedule(run, sessionId, delayNanos);
+        });
+    }
+
+    private synchronized void schedule(long run, String sessionId, long delayNanos) {
+        if (generation.get() != run) {
+            return;
+        }
+        nextPoll = SCHEDULER.schedule(() -> {
+            if (generation.get() == run) {
+                poll(run, sessionId);
+            }
+        }, Math.max(0, delayNanos), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Hands a 200 response to the callback, unless it repeats the last state.
+     *
+     * @return whether the state changed
+     */
+    private boolean deliver(HttpResponse<String> response) {
+        try {
+            ServerMessage.SessionState state = ServerMessageDecoder.decodeSessionState(response.body());
+            etag = response.headers().firstValue("ETag").orElse(null);
+            // Servers without ETag support resend the same state every time
+            if (state.equals(lastState)) {
+                return false;
+            }
+            lastState = state;
+            onChange.accept(state);
+            return true;
+        } catch (Exception e) {
+            logger.log(System.Logger.Level.WARNING, "Ignoring unreadable session state: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * "Equal jitter": between half and all of the interval, so that clients that lost
+     * their WebSocket together do not poll in lockstep.
+     */
+    private static Duration jittered(Duration interval) {
+        long half = interval.toNanos() / 2;
+        return Duration.ofNanos(half + ThreadLocalRandom.current().nextLong(half + 1));
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    private void cancelPending() {
+        CompletableFuture<?> request = inFlight;
+        if (request != null) {
+            request.cancel(true);
+        }
+        ScheduledFuture<?> next = nextPoll;
+        if (next != null) {
+            next.cancel(false);
+        }
+    }
+}
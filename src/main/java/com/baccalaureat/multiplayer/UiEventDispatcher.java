@@ -0,0 +1,134 @@
+package com.baccalaureat.multiplayer;
+
+import javafx.application.Platform;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Hands events from background threads to the JavaFX Application Thread in batches.
+ *
+ * Events posted while a batch is pending join it instead of each queueing its own
+ * {@code Platform.runLater}, so a burst of server messages costs one FX task rather than
+ * one per message. Events posted under a key supersede the pending event with the same
+ * key, e.g. several lobby snapshots collapse into the latest one; the survivor keeps its
+ * own place in the order, after everything posted before it.
+ *
+ * Events run in posting order. If one blocks in a nested event loop ({@code showAndWait}),
+ * the rest of the batch goes on running inside that loop.
+ */
+final class UiEventDispatcher {
+
+    private static final System.Logger logger = System.getLogger(UiEventDispatcher.class.getName());
+
+    private final Consumer<Runnable> uiExecutor;
+
+    // All guarded by this
+    private final ArrayDeque<Entry> queue = new ArrayDeque<>();
+    private final Map<Object, Entry> pendingByKey = new HashMap<>();
+    private boolean scheduled = false;
+    private long posted;
+    private long coalesced;
+    private long batches;
+
+    UiEventDispatcher() {
+        this(Platform::runLater);
+    }
+
+    UiEventDispatcher(Consumer<Runnable> uiExecutor) {
+        this.uiExecutor = uiExecutor;
+    }
+
+    /**
+     * Queues an event that must run.
+     */
+    void post(Runnable event) {
+        enqueue(null, event);
+    }
+
+    /**
+     * Queues an event that supersedes any pending event posted with the same key.
+     */
+    void post(Object key, Runnable event) {
+        enqueue(key, event);
+    }
+
+    private void enqueue(Object key, Runnable event) {
+        boolean schedule;
+        synchronized (this) {
+            Entry entry = new Entry(key, event);
+            if (key != null) {
+                Entry superseded = pendingByKey.put(key, entry);
+                if (superseded != null) {
+                    superseded.event = null;
+                    coalesced++;
+                }
+            }
+            queue.add(entry);
+            posted++;
+            schedule = !scheduled;
+            scheduled = true;
+        }
+        if (schedule) {
+            uiExecutor.accept(this::drain);
+        }
+    }
+
+    private void drain() {
+        synchronized (this) {
+            batches++;
+        }
+        boolean continuationScheduled = false;
+        while (true) {
+            Entry entry;
+            boolean more;
+            synchronized (this) {
+                entry = queue.poll();
+                if (entry == null) {
+                    scheduled = false;
+                    return;
+                }
+                if (entry.key != null) {
+                    pendingByKey.remove(entry.key, entry);
+                }
+                more = !queue.isEmpty();
+            }
+            if (more && !continuationScheduled) {
+                // Picks up the rest of the batch if this event blocks in a nested event loop;
+                // finds the queue empty otherwise
+                continuationScheduled = true;
+                uiExecutor.accept(this::drain);
+            }
+            if (entry.event != null) {
+                try {
+                    entry.event.run();
+                } catch (Exception e) {
+                    logger.log(System.Logger.Level.ERROR, "Error in UI event", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Events posted, superseded before they ran, and FX tasks used, for logs and tests.
+     */
+    synchronized String getStats() {
+        return String.format("%d events, %d coalesced, %d batches", posted, coalesced, batches);
+    }
+
+    synchronized long getCoalesced() {
+        return coalesced;
+    }
+
+    private static final class Entry {
+        final Object key;
+        Runnable event;
+
+        Entry(Object key, Runnable event) {
+            this.key = key;
+            this.event = event;
+        }
+    }
+}
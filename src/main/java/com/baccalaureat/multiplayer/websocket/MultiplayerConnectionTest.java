@@ -285,23 +285,15 @@ public class MultiplayerConnectionTest implements MultiplayerMessageListener {
     }
     
     @Override
-    public void onMessageReceived(String json) {
+    public void onMessageReceived(ServerMessage message) {
         logger.log(System.Logger.Level.INFO, "*** LISTENER CALLBACK: onMessageReceived() ***");
-        logger.log(System.Logger.Level.INFO, "Received in listener: " + json);
+        logger.log(System.Logger.Level.INFO, "Received in listener: " + message);
         
         messageReceived = true;
         messagesProcessed++;
         
-        // Try to extract message type
-        try {
-            JsonNode node = objectMapper.readTree(json);
-            if (node.has("type")) {
-                lastMessageType = node.get("type").asText();
-                logger.log(System.Logger.Level.INFO, "Message type in listener: " + lastMessageType);
-            }
-        } catch (Exception e) {
-            logger.log(System.Logger.Level.WARNING, "Could not parse message in listener: " + e.getMessage());
-        }
+        lastMessageType = message instanceof ServerMessage.Unknown unknown ? unknown.type() : message.getClass().getSimpleName();
+        logger.log(System.Logger.Level.INFO, "Message type in listener: " + lastMessageType);
     }
     
     /**
@@ -326,8 +318,8 @@ public class MultiplayerConnectionTest implements MultiplayerMessageListener {
         }
         
         @Override
-        public void onMessageReceived(String json) {
-            logger.log(System.Logger.Level.INFO, "TempListener: Message - " + json);
+        public void onMessageReceived(ServerMessage message) {
+            logger.log(System.Logger.Level.INFO, "TempListener: Message - " + message);
         }
     }
     
@@ -353,8 +345,8 @@ public class MultiplayerConnectionTest implements MultiplayerMessageListener {
         }
         
         @Override
-        public void onMessageReceived(String json) {
-            logger.log(System.Logger.Level.INFO, "ErrorTest: Unexpected message - " + json);
+        public void onMessageReceived(ServerMessage message) {
+            logger.log(System.Logger.Level.INFO, "ErrorTest: Unexpected message - " + message);
         }
     }
     
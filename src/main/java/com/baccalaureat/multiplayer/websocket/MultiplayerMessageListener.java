@@ -4,6 +4,9 @@ package com.baccalaureat.multiplayer.websocket;
  * Interface for listening to multiplayer WebSocket events and messages.
  * Implementations of this interface will receive callbacks for connection state changes
  * and incoming messages from the multiplayer server.
+ *
+ * Callbacks run on the WebSocket I/O thread. Implementations that touch the UI must
+ * hand over to the JavaFX Application Thread themselves, and should not block.
  */
 public interface MultiplayerMessageListener {
     
@@ -25,10 +28,9 @@ public interface MultiplayerMessageListener {
     void onError(String message);
     
     /**
-     * Called when a JSON message is received from the server.
-     * The implementation should parse and handle the JSON according to the message type.
+     * Called when a message is received from the server.
      * 
-     * @param json Raw JSON message from the server
+     * @param message The message, already decoded
      */
-    void onMessageReceived(String json);
+    void onMessageReceived(ServerMessage message);
 }
\ No newline at end of file
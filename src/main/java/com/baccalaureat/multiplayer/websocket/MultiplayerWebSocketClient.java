@@ -2,7 +2,6 @@ package com.baccalaureat.multiplayer.websocket;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import javafx.application.Platform;
 
 import jakarta.websocket.*;
 import java.io.IOException;
@@ -16,8 +15,12 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * WebSocket client for multiplayer communication with the game server.
  * Handles connection lifecycle, message sending/receiving, and event dispatch to listeners.
  * 
- * This class ensures thread safety and proper JavaFX Platform thread handling
- * for UI updates triggered by WebSocket events.
+ * Frames are decoded into {@link ServerMessage}s once, on the WebSocket I/O thread, and
+ * listeners are called on that thread too; marshalling to the JavaFX Application Thread
+ * is left to the listeners that update the UI.
+ *
+ * Sends never block: frames go through a bounded {@link OutboundQueue} written with the
+ * session's async remote, one at a time.
  */
 @ClientEndpoint
 public class MultiplayerWebSocketClient {
@@ -28,7 +31,9 @@ public class MultiplayerWebSocketClient {
     private final ObjectMapper objectMapper = new ObjectMapper();
     private final AtomicBoolean connected = new AtomicBoolean(false);
     
-    private Session session;
+    private final OutboundQueue outbound = new OutboundQueue(OutboundQueue.DEFAULT_CAPACITY, this::write, this::notifyError);
+    
+    private volatile Session session;
     private String serverUrl;
     
     /**
@@ -115,28 +120,43 @@ public class MultiplayerWebSocketClient {
     }
     
     /**
-     * Sends a raw JSON message to the server.
+     * Queues a raw JSON message for the server. It is never merged with other messages.
      * 
      * @param json JSON message to send
-     * @return true if sent successfully, false otherwise
+     * @return true if queued, false if not connected or the outbound queue is full
      */
     public boolean sendMessage(String json) {
+        return enqueue(null, json);
+    }
+    
+    /**
+     * Returns send counts and latencies, for diagnostics.
+     */
+    public String getSendStats() {
+        return outbound.getStats();
+    }
+    
+    private boolean enqueue(String type, String json) {
         if (!isConnected()) {
             logger.log(System.Logger.Level.WARNING, "Cannot send message: not connected to server");
             return false;
         }
         
-        try {
-            logger.log(System.Logger.Level.INFO, "=== Sending WebSocket Message ===");
-            logger.log(System.Logger.Level.INFO, "Outgoing JSON: " + json);
-            session.getBasicRemote().sendText(json);
-            logger.log(System.Logger.Level.INFO, "Message sent successfully");
-            return true;
-        } catch (IOException e) {
-            logger.log(System.Logger.Level.ERROR, "Failed to send message", e);
-            notifyError("Failed to send message: " + e.getMessage());
+        logger.log(System.Logger.Level.INFO, "Queueing outgoing JSON: " + json);
+        if (!outbound.offer(type, json)) {
+            logger.log(System.Logger.Level.WARNING, "Outbound queue full, message refused: " + outbound.getStats());
+            notifyError("Server not keeping up, message not sent");
             return false;
         }
+        return true;
+    }
+    
+    private void write(String json, SendHandler handler) {
+        Session current = session;
+        if (current == null || !current.isOpen()) {
+            throw new IllegalStateException("Session closed");
+        }
+        current.getAsyncRemote().sendText(json, handler);
     }
     
     /**
@@ -144,7 +164,7 @@ public class MultiplayerWebSocketClient {
      * 
      * @param sessionId The session ID to join
      * @param playerName The player's display name
-     * @return true if sent successfully, false otherwise
+     * @return true if queued, false otherwise
      */
     public boolean sendJoinSession(String sessionId, String playerName) {
         try {
@@ -153,7 +173,7 @@ public class MultiplayerWebSocketClient {
             message.put("sessionId", sessionId);
             message.put("playerName", playerName);
             
-            return sendMessage(objectMapper.writeValueAsString(message));
+            return enqueue("JOIN_SESSION", objectMapper.writeValueAsString(message));
         } catch (Exception e) {
             logger.log(System.Logger.Level.ERROR, "Failed to create join session message", e);
             notifyError("Failed to create join session message: " + e.getMessage());
@@ -165,7 +185,7 @@ public class MultiplayerWebSocketClient {
      * Helper method to send game start with configuration.
      * 
      * @param config Game configuration including rounds, duration, categories
-     * @return true if sent successfully, false otherwise
+     * @return true if queued, false otherwise
      */
     public boolean sendStartGame(Map<String, Object> config) {
         try {
@@ -176,8 +196,8 @@ public class MultiplayerWebSocketClient {
             String messageJson = objectMapper.writeValueAsString(message);
             System.out.println("[WEBSOCKET] Sending START_GAME message: " + messageJson);
             
-            boolean sent = sendMessage(messageJson);
-            System.out.println("[WEBSOCKET] START_GAME message sent successfully: " + sent);
+            boolean sent = enqueue("START_GAME", messageJson);
+            System.out.println("[WEBSOCKET] START_GAME message queued: " + sent);
             return sent;
         } catch (Exception e) {
             System.err.println("[WEBSOCKET] Failed to create/send START_GAME message: " + e.getMessage());
@@ -191,7 +211,7 @@ public class MultiplayerWebSocketClient {
      * Helper method to send player answers for the current round.
      * 
      * @param answers Map of category to player's answer
-     * @return true if sent successfully, false otherwise
+     * @return true if queued, false otherwise
      */
     public boolean sendSubmitAnswers(Map<String, String> answers) {
         try {
@@ -199,7 +219,7 @@ public class MultiplayerWebSocketClient {
             message.put("type", "SUBMIT_ANSWERS");
             message.set("answers", objectMapper.valueToTree(answers));
             
-            return sendMessage(objectMapper.writeValueAsString(message));
+            return enqueue("SUBMIT_ANSWERS", objectMapper.writeValueAsString(message));
         } catch (Exception e) {
             logger.log(System.Logger.Level.ERROR, "Failed to create submit answers message", e);
             notifyError("Failed to create submit answers message: " + e.getMessage());
@@ -210,14 +230,14 @@ public class MultiplayerWebSocketClient {
     /**
      * Helper method to signal readiness for the next round.
      * 
-     * @return true if sent successfully, false otherwise
+     * @return true if queued, false otherwise
      */
     public boolean sendReadyForNextRound() {
         try {
             ObjectNode message = objectMapper.createObjectNode();
             message.put("type", "NEXT_ROUND");
             
-            return sendMessage(objectMapper.writeValueAsString(message));
+            return enqueue("NEXT_ROUND", objectMapper.writeValueAsString(message));
         } catch (Exception e) {
             logger.log(System.Logger.Level.ERROR, "Failed to create next round message", e);
             notifyError("Failed to create next round message: " + e.getMessage());
@@ -228,14 +248,14 @@ public class MultiplayerWebSocketClient {
     /**
      * Helper method to end the game and show leaderboard.
      * 
-     * @return true if sent successfully, false otherwise
+     * @return true if queued, false otherwise
      */
     public boolean sendEndGame() {
         try {
             ObjectNode message = objectMapper.createObjectNode();
             message.put("type", "END_GAME");
             
-            return sendMessage(objectMapper.writeValueAsString(message));
+            return enqueue("END_GAME", objectMapper.writeValueAsString(message));
         } catch (Exception e) {
             logger.log(System.Logger.Level.ERROR, "Failed to create end game message", e);
             notifyError("Failed to create end game message: " + e.getMessage());
@@ -255,16 +275,13 @@ public class MultiplayerWebSocketClient {
         logger.log(System.Logger.Level.INFO, "Server URL: " + serverUrl);
         logger.log(System.Logger.Level.INFO, "Connection successful - ready to send/receive messages");
         
-        // Ensure UI updates happen on JavaFX Application Thread
-        Platform.runLater(() -> {
-            for (MultiplayerMessageListener listener : listeners) {
-                try {
-                    listener.onConnected();
-                } catch (Exception e) {
-                    logger.log(System.Logger.Level.ERROR, "Error in listener onConnected callback", e);
-                }
+        for (MultiplayerMessageListener listener : listeners) {
+            try {
+                listener.onConnected();
+            } catch (Exception e) {
+                logger.log(System.Logger.Level.ERROR, "Error in listener onConnected callback", e);
             }
-        });
+        }
     }
     
     @OnMessage
@@ -273,39 +290,23 @@ public class MultiplayerWebSocketClient {
         logger.log(System.Logger.Level.INFO, "=== WebSocket Message Received ===");
         logger.log(System.Logger.Level.INFO, "Raw JSON: " + message);
         
-        // Try to parse and log message type
+        ServerMessage decoded;
         try {
-            var jsonNode = objectMapper.readTree(message);
-            String messageType = jsonNode.has("type") ? jsonNode.get("type").asText() : "UNKNOWN";
-            logger.log(System.Logger.Level.INFO, "Message Type: " + messageType);
-            
-            // Log key fields if present
-            if (jsonNode.has("sessionId")) {
-                logger.log(System.Logger.Level.INFO, "Session ID: " + jsonNode.get("sessionId").asText());
-            }
-            if (jsonNode.has("playerName")) {
-                logger.log(System.Logger.Level.INFO, "Player Name: " + jsonNode.get("playerName").asText());
-            }
-            if (jsonNode.has("success")) {
-                logger.log(System.Logger.Level.INFO, "Success: " + jsonNode.get("success").asBoolean());
-            }
-            if (jsonNode.has("error")) {
-                logger.log(System.Logger.Level.INFO, "Error: " + jsonNode.get("error").asText());
-            }
+            decoded = ServerMessageDecoder.decode(message);
         } catch (Exception e) {
-            logger.log(System.Logger.Level.WARNING, "Could not parse JSON message type: " + e.getMessage());
+            logger.log(System.Logger.Level.WARNING, "Could not decode server message: " + e.getMessage());
+            notifyError("Invalid server message: " + e.getMessage());
+            return;
         }
+        logger.log(System.Logger.Level.INFO, "Decoded message: " + decoded);
         
-        // Ensure UI updates happen on JavaFX Application Thread
-        Platform.runLater(() -> {
-            for (MultiplayerMessageListener listener : listeners) {
-                try {
-                    listener.onMessageReceived(message);
-                } catch (Exception e) {
-                    logger.log(System.Logger.Level.ERROR, "Error in listener onMessageReceived callback", e);
-                }
+        for (MultiplayerMessageListener listener : listeners) {
+            try {
+                listener.onMessageReceived(decoded);
+            } catch (Exception e) {
+                logger.log(System.Logger.Level.ERROR, "Error in listener onMessageReceived callback", e);
             }
-        });
+        }
     }
     
     @OnClose
@@ -313,21 +314,20 @@ public class MultiplayerWebSocketClient {
         System.out.println("[WS] Disconnected - Code: " + closeReason.getCloseCode() + ", Reason: " + closeReason.getReasonPhrase());
         connected.set(false);
         this.session = null;
+        outbound.clear();
+        logger.log(System.Logger.Level.INFO, "Outbound: " + outbound.getStats());
         logger.log(System.Logger.Level.INFO, "=== WebSocket Connection Closed ===");
         logger.log(System.Logger.Level.INFO, "Close Code: " + closeReason.getCloseCode());
         logger.log(System.Logger.Level.INFO, "Close Reason: " + closeReason.getReasonPhrase());
         logger.log(System.Logger.Level.INFO, "Session was: " + (session != null ? session.getId() : "null"));
         
-        // Ensure UI updates happen on JavaFX Application Thread
-        Platform.runLater(() -> {
-            for (MultiplayerMessageListener listener : listeners) {
-                try {
-                    listener.onDisconnected();
-                } catch (Exception e) {
-                    logger.log(System.Logger.Level.ERROR, "Error in listener onDisconnected callback", e);
-                }
+        for (MultiplayerMessageListener listener : listeners) {
+            try {
+                listener.onDisconnected();
+            } catch (Exception e) {
+                logger.log(System.Logger.Level.ERROR, "Error in listener onDisconnected callback", e);
             }
-        });
+        }
     }
     
     @OnError
@@ -347,15 +347,12 @@ public class MultiplayerWebSocketClient {
      * @param errorMessage Human-readable error message
      */
     private void notifyError(String errorMessage) {
-        // Ensure UI updates happen on JavaFX Application Thread
-        Platform.runLater(() -> {
-            for (MultiplayerMessageListener listener : listeners) {
-                try {
-                    listener.onError(errorMessage);
-                } catch (Exception e) {
-                    logger.log(System.Logger.Level.ERROR, "Error in listener onError callback", e);
-                }
+        for (MultiplayerMessageListener listener : listeners) {
+            try {
+                listener.onError(errorMessage);
+            } catch (Exception e) {
+                logger.log(System.Logger.Level.ERROR, "Error in listener onError callback", e);
             }
-        });
+        }
     }
 }
\ No newline at end of file
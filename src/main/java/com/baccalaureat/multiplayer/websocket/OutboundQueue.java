@@ -0,0 +1,157 @@
+package com.baccalaureat.multiplayer.websocket;
+
+import jakarta.websocket.SendHandler;
+import jakarta.websocket.SendResult;
+
+import java.util.ArrayDeque;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Bounded queue of outgoing frames with a single asynchronous writer.
+ *
+ * Callers only enqueue, so a slow network never blocks the FX thread. At most one frame
+ * is in flight: each completion starts the next send, so frames go out in order and the
+ * container never sees concurrent sends on the session, with no writer thread.
+ *
+ * When the queue is full new frames are refused and the caller gets false. Idempotent
+ * messages (NEXT_ROUND, END_GAME) are dropped while a copy is still pending, the pending
+ * one will do. Everything else is sent as queued, in order: answers and joins carry
+ * per-round or per-session data that a later frame must not replace or overtake.
+ *
+ * Send latency is measured from enqueueing to the container's completion callback.
+ */
+final class OutboundQueue {
+
+    /**
+     * Where frames are written, typically {@code session.getAsyncRemote()::sendText}.
+     */
+    interface Transport {
+        void send(String json, SendHandler handler);
+    }
+
+    static final int DEFAULT_CAPACITY = 64;
+
+    private static final Set<String> IDEMPOTENT = Set.of("NEXT_ROUND", "END_GAME");
+
+    private final int capacity;
+    private final Transport transport;
+    private final Consumer<String> onError;
+
+    // All guarded by this
+    private final ArrayDeque<Frame> pending = new ArrayDeque<>();
+    private boolean writing = false;
+    private long generation;
+    private long sent;
+    private long failed;
+    private long merged;
+    private long rejected;
+    private long discarded;
+    private long totalLatencyNanos;
+    private long maxLatencyNanos;
+
+    OutboundQueue(int capacity, Transport transport, Consumer<String> onError) {
+        this.capacity = capacity;
+        this.transport = transport;
+        this.onError = onError;
+    }
+
+    /**
+     * Queues a frame, merging it with a pending one where its type allows.
+     *
+     * @param type message type, or null for frames that are never merged
+     * @return false if the queue is full and the frame was refused
+     */
+    boolean offer(String type, String json) {
+        Frame next;
+        synchronized (this) {
+            if (type != null && IDEMPOTENT.contains(type) && isPending(type)) {
+                merged++;
+                return true;
+            }
+            if (pending.size() >= capacity) {
+                rejected++;
+                return false;
+            }
+            pending.add(new Frame(type, json, System.nanoTime(), generation));
+            if (writing) {
+                return true;
+            }
+            writing = true;
+            next = pending.poll();
+        }
+        write(next);
+        return true;
+    }
+
+    /**
+     * Drops every pending frame, e.g. when the connection closed. A frame still in
+     * flight completes on its own but no longer starts the next one.
+     */
+    synchronized void clear() {
+        discarded += pending.size();
+        pending.clear();
+        writing = false;
+        generation++;
+    }
+
+    synchronized int size() {
+        return pending.size();
+    }
+
+    /**
+     * One-line summary, e.g. for logs.
+     */
+    synchronized String getStats() {
+        return String.format("%d sent, %d failed, %d merged, %d refused, %d discarded, %d pending, "
+                + "mean %.2f ms, max %.2f ms",
+            sent, failed, merged, rejected, discarded, pending.size(),
+            sent == 0 ? 0.0 : totalLatencyNanos / 1e6 / sent, maxLatencyNanos / 1e6);
+    }
+
+    private boolean isPending(String type) {
+        for (Frame frame : pending) {
+            if (type.equals(frame.type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void write(Frame frame) {
+        try {
+            transport.send(frame.json, result -> completed(frame, result));
+        } catch (RuntimeException e) {
+            completed(frame, new SendResult(e));
+        }
+    }
+
+    private void completed(Frame frame, SendResult result) {
+        Frame next;
+        synchronized (this) {
+            if (result.isOK()) {
+                long latency = System.nanoTime() - frame.enqueuedAt;
+                sent++;
+                totalLatencyNanos += latency;
+                maxLatencyNanos = Math.max(maxLatencyNanos, latency);
+            } else {
+                failed++;
+            }
+            if (frame.generation != generation) {
+                return;
+            }
+            next = pending.poll();
+            writing = next != null;
+        }
+        if (!result.isOK()) {
+            onError.accept("Failed to send " + (frame.type != null ? frame.type : "message") + ": "
+                + (result.getException() != null ? result.getException().getMessage() : "unknown error"));
+        }
+        if (next != null) {
+            write(next);
+        }
+    }
+
+    private record Frame(String type, String json, long enqueuedAt, long generation) {
+    }
+}
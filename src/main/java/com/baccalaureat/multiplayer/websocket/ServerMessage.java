@@ -0,0 +1,113 @@
+package com.baccalaureat.multiplayer.websocket;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.List;
+
+/**
+ * Message sent by the multiplayer server, one record per message type.
+ *
+ * The "type" field picks the record and unknown fields are ignored, so the server can
+ * add fields without breaking older clients. Messages of an unknown type decode to
+ * {@link Unknown}. Missing fields are null, except where a record fills in the defaults
+ * the client has always assumed.
+ *
+ * @see ServerMessageDecoder
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type", visible = true, defaultImpl = ServerMessage.Unknown.class)
+@JsonSubTypes({
+    @JsonSubTypes.Type(value = ServerMessage.SessionJoined.class, name = "SESSION_JOINED"),
+    @JsonSubTypes.Type(value = ServerMessage.PlayerJoined.class, name = "PLAYER_JOINED"),
+    @JsonSubTypes.Type(value = ServerMessage.PlayerLeft.class, name = "PLAYER_LEFT"),
+    @JsonSubTypes.Type(value = ServerMessage.SessionState.class, name = "SESSION_STATE"),
+    @JsonSubTypes.Type(value = ServerMessage.GameStarted.class, name = "GAME_STARTED"),
+    @JsonSubTypes.Type(value = ServerMessage.RoundEnded.class, name = "ROUND_ENDED"),
+    @JsonSubTypes.Type(value = ServerMessage.RoundStarted.class, name = "ROUND_STARTED"),
+    @JsonSubTypes.Type(value = ServerMessage.GameEnded.class, name = "GAME_ENDED"),
+    @JsonSubTypes.Type(value = ServerMessage.ServerError.class, name = "ERROR")
+})
+public sealed interface ServerMessage {
+
+    /**
+     * A player as listed in lobby messages.
+     */
+    record Player(String username, @JsonProperty("isHost") boolean host) {
+    }
+
+    /**
+     * This client joined a session over the WebSocket.
+     */
+    record SessionJoined(String sessionId, String playerName) implements ServerMessage {
+    }
+
+    /**
+     * Another player joined; players is the full list when the server sends it, else null.
+     */
+    record PlayerJoined(String playerName, List<Player> players) implements ServerMessage {
+    }
+
+    /**
+     * A player left; players is the full list when the server sends it, else null.
+     */
+    record PlayerLeft(String playerName, List<Player> players) implements ServerMessage {
+    }
+
+    /**
+     * Full lobby state, sent whenever it changes.
+     */
+    record SessionState(String status, List<Player> players, JsonNode config) implements ServerMessage {
+    }
+
+    /**
+     * The game started; durations are in seconds.
+     */
+    record GameStarted(String letter, Integer roundDuration, Integer totalRounds, Integer currentRound,
+                       List<String> categories) implements ServerMessage {
+        public GameStarted {
+            roundDuration = roundDuration != null ? roundDuration : 60;
+            totalRounds = totalRounds != null ? totalRounds : 1;
+            currentRound = currentRound != null ? currentRound : 1;
+            categories = categories != null ? List.copyOf(categories) : List.of();
+        }
+    }
+
+    /**
+     * The round time expired; results may be null.
+     */
+    record RoundEnded(JsonNode results) implements ServerMessage {
+    }
+
+    /**
+     * A new round started.
+     */
+    record RoundStarted(String letter, Integer currentRound, Integer totalRounds) implements ServerMessage {
+        public RoundStarted {
+            currentRound = currentRound != null ? currentRound : 1;
+            totalRounds = totalRounds != null ? totalRounds : 1;
+        }
+    }
+
+    /**
+     * The game ended; leaderboard may be null.
+     */
+    record GameEnded(JsonNode leaderboard) implements ServerMessage {
+    }
+
+    /**
+     * The server reported an error.
+     */
+    record ServerError(String message) implements ServerMessage {
+        public ServerError {
+            message = message != null ? message : "Unknown error";
+        }
+    }
+
+    /**
+     * A message type this client does not know.
+     */
+    record Unknown(String type) implements ServerMessage {
+    }
+}
@@ -0,0 +1,47 @@
+package com.baccalaureat.multiplayer.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+/**
+ * Decodes server frames into {@link ServerMessage} records.
+ *
+ * The reader is built once and is thread-safe, so frames are decoded straight on the
+ * WebSocket I/O thread without any per-message setup. The same reader decodes the
+ * session state fetched over REST, which has the fields of a SESSION_STATE frame but
+ * no "type".
+ */
+public final class ServerMessageDecoder {
+
+    private static final ObjectReader READER = JsonMapper.builder()
+        // Lets a body read as a concrete record do without "type"
+        .enable(MapperFeature.USE_BASE_TYPE_AS_DEFAULT_IMPL)
+        .build()
+        .readerFor(ServerMessage.class)
+        .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    private static final ObjectReader SESSION_STATE_READER = READER.forType(ServerMessage.SessionState.class);
+
+    private ServerMessageDecoder() {
+    }
+
+    /**
+     * Decodes one frame.
+     *
+     * @throws JsonProcessingException if the frame is not a JSON object
+     */
+    public static ServerMessage decode(String json) throws JsonProcessingException {
+        return READER.readValue(json);
+    }
+
+    /**
+     * Decodes the body of {@code GET /{sessionId}/state}.
+     *
+     * @throws JsonProcessingException if the body is not a JSON object
+     */
+    public static ServerMessage.SessionState decodeSessionState(String json) throws JsonProcessingException {
+        return SESSION_STATE_READER.readValue(json);
+    }
+}
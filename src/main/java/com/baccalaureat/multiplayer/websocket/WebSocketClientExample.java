@@ -105,11 +105,10 @@ public class WebSocketClientExample implements MultiplayerMessageListener {
     }
     
     @Override
-    public void onMessageReceived(String json) {
-        logger.log(System.Logger.Level.DEBUG, "Received server message: " + json);
+    public void onMessageReceived(ServerMessage message) {
+        logger.log(System.Logger.Level.DEBUG, "Received server message: " + message);
         
-        // Parse JSON and handle different message types
-        // Example message handling would go here:
+        // Handle the different message types, e.g. with a switch over the ServerMessage records:
         // - Game state updates
         // - Player join/leave notifications  
         // - Round start/end events
@@ -117,10 +116,8 @@ public class WebSocketClientExample implements MultiplayerMessageListener {
         // - Chat messages, etc.
         
         // This is where you would typically:
-        // 1. Parse the JSON message
-        // 2. Determine the message type
-        // 3. Update application state
-        // 4. Trigger UI updates (remember: this runs on JavaFX Application Thread)
+        // 1. Update application state
+        // 2. Trigger UI updates (this runs on the WebSocket I/O thread, so use Platform.runLater)
     }
     
     /**
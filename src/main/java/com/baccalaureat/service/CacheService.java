@@ -1,25 +1,37 @@
 package com.baccalaureat.service;
 
-import com.baccalaureat.dao.DatabaseManager;
 import com.baccalaureat.model.Category;
-
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
-import java.sql.SQLException;
-import java.text.Normalizer;
+import com.baccalaureat.util.TextNormalizer;
 
 /**
- * CacheService handles local database operations for validated words.
- * Provides database access only - no validation logic.
+ * CacheService handles lookups and saves of validated and rejected words.
+ * Provides cache access only - no validation logic.
+ * Lookups are answered from the in-memory ValidatedWordIndex and RejectedWordIndex;
+ * saves are persisted to the validated_words / rejected_words tables in the background.
  */
 public class CacheService {
     
-    private static final String CHECK_QUERY = 
-        "SELECT 1 FROM validated_words WHERE word = ? AND category = ? LIMIT 1";
+    private final ValidatedWordIndex index;
+    private final RejectedWordIndex rejectedIndex;
+    
+    public CacheService() {
+        this(ValidatedWordIndex.getInstance());
+    }
     
-    private static final String INSERT_QUERY = 
-        "INSERT OR IGNORE INTO validated_words (word, category) VALUES (?, ?)";
+    /**
+     * Constructor for dependency injection.
+     */
+    public CacheService(ValidatedWordIndex index) {
+        this(index, RejectedWordIndex.getInstance());
+    }
+    
+    /**
+     * Constructor for dependency injection.
+     */
+    public CacheService(ValidatedWordIndex index, RejectedWordIndex rejectedIndex) {
+        this.index = index;
+        this.rejectedIndex = rejectedIndex;
+    }
     
     /**
      * Checks if a word has been previously validated for a category.
@@ -29,66 +41,43 @@ public class CacheService {
      * @return true if word+category exists in cache
      */
     public boolean isWordValidated(String word, Category category) {
-        String normalizedWord = normalizeInput(word);
-        String categoryName = category.name();
-        
-        try (Connection conn = DatabaseManager.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(CHECK_QUERY)) {
-            
-            stmt.setString(1, normalizedWord);
-            stmt.setString(2, categoryName);
-            
-            try (ResultSet rs = stmt.executeQuery()) {
-                return rs.next();
-            }
-            
-        } catch (SQLException e) {
-            System.err.println("Database error checking cached word: " + e.getMessage());
-            return false; // Fail safe
-        }
+        return index.isWordValidated(TextNormalizer.normalize(word), category.name());
     }
     
     /**
      * Saves a validated word to cache.
+     * Never blocks on disk: the word is queued for a batched background write.
      * 
      * @param word the validated word (will be normalized)
      * @param category the category it was validated for
      */
     public void saveValidatedWord(String word, Category category) {
-        String normalizedWord = normalizeInput(word);
-        String categoryName = category.name();
-        
-        try (Connection conn = DatabaseManager.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(INSERT_QUERY)) {
-            
-            stmt.setString(1, normalizedWord);
-            stmt.setString(2, categoryName);
-            stmt.executeUpdate();
-            
-        } catch (SQLException e) {
-            System.err.println("Database error saving validated word: " + e.getMessage());
-            // Non-fatal - continue without caching
-        }
+        String normalized = TextNormalizer.normalize(word);
+        index.add(normalized, category.name());
+        // A valid verdict supersedes any earlier rejection
+        rejectedIndex.remove(normalized, category.name());
     }
     
     /**
-     * Normalizes input for consistent storage and lookup.
-     * - Lowercase
-     * - Trim whitespace  
-     * - Remove accents
+     * Checks if a word has a recent confident rejection for a category.
+     * 
+     * @param word the word to check (will be normalized)
+     * @param category the target category
+     * @return true if an unexpired rejection exists
+     */
+    public boolean isWordRejected(String word, Category category) {
+        return rejectedIndex.isWordRejected(TextNormalizer.normalize(word), category.name());
+    }
+    
+    /**
+     * Saves a rejected word to the negative cache.
+     * Rejections below {@link RejectedWordIndex#CONFIDENCE_FLOOR} are ignored.
+     * 
+     * @param word the rejected word (will be normalized)
+     * @param category the category it was rejected for
+     * @param confidence confidence of the INVALID verdict
      */
-    private String normalizeInput(String input) {
-        if (input == null) {
-            return "";
-        }
-        
-        // Trim and lowercase
-        String normalized = input.trim().toLowerCase();
-        
-        // Remove accents
-        normalized = Normalizer.normalize(normalized, Normalizer.Form.NFD);
-        normalized = normalized.replaceAll("\\p{InCombiningDiacriticalMarks}+", "");
-        
-        return normalized;
+    public void saveRejectedWord(String word, Category category, double confidence) {
+        rejectedIndex.add(TextNormalizer.normalize(word), category.name(), confidence);
     }
 }
\ No newline at end of file
@@ -7,8 +7,13 @@ import com.baccalaureat.model.Category;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Service layer for category management.
@@ -17,6 +22,9 @@ import java.util.Optional;
  */
 public class CategoryService {
     
+    /** Bumped whenever the set of category names or their enabled state changes. */
+    private static final AtomicLong CHANGE_COUNT = new AtomicLong();
+    
     private final CategoryDAO categoryDAO;
     
     public CategoryService() {
@@ -30,6 +38,15 @@ public class CategoryService {
         this.categoryDAO = categoryDAO;
     }
     
+    /**
+     * Returns a counter that grows every time a category is created, renamed,
+     * enabled, disabled, deleted or restored. Caches derived from the category
+     * list compare it with the value they were built from to know when to rebuild.
+     */
+    public static long getChangeCount() {
+        return CHANGE_COUNT.get();
+    }
+    
     /**
      * Gets all enabled categories for game use.
      */
@@ -55,6 +72,21 @@ public class CategoryService {
         return categoryDAO.findByName(name.trim().toUpperCase());
     }
     
+    /**
+     * Finds several categories by internal name with one database query.
+     * 
+     * @return categories keyed by the upper-cased names they were found under
+     */
+    public Map<String, Category> findByNames(Collection<String> names) {
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String name : names) {
+            if (name != null && !name.trim().isEmpty()) {
+                normalized.add(name.trim().toUpperCase());
+            }
+        }
+        return categoryDAO.findByNames(normalized);
+    }
+    
     /**
      * Finds a category by ID.
      */
@@ -95,6 +127,7 @@ public class CategoryService {
         );
         
         if (created.isPresent()) {
+            CHANGE_COUNT.incrementAndGet();
             return CategoryCreationResult.success(created.get());
         } else {
             return CategoryCreationResult.error("Failed to create category in database");
@@ -136,6 +169,7 @@ public class CategoryService {
         );
         
         if (created.isPresent()) {
+            CHANGE_COUNT.incrementAndGet();
             return CategoryCreationResult.success(created.get());
         } else {
             return CategoryCreationResult.error("Failed to create predefined category in database");
@@ -244,6 +278,7 @@ public class CategoryService {
         );
         
         if (updated) {
+            CHANGE_COUNT.incrementAndGet();
             Optional<Category> updatedCategory = categoryDAO.findById(id);
             return updatedCategory.map(CategoryUpdateResult::success)
                                  .orElse(CategoryUpdateResult.error("Failed to retrieve updated category"));
@@ -267,6 +302,7 @@ public class CategoryService {
         
         // Check state after
         if (result) {
+            CHANGE_COUNT.incrementAndGet();
             Optional<Category> after = categoryDAO.findById(id);
             System.out.println("[CategoryService] After enable - Category enabled: " + 
                 (after.isPresent() ? after.get().isEnabled() : "NOT_FOUND"));
@@ -294,6 +330,9 @@ public class CategoryService {
             stmt.setInt(1, id);
             int rowsUpdated = stmt.executeUpdate();
             boolean result = rowsUpdated > 0;
+            if (result) {
+                CHANGE_COUNT.incrementAndGet();
+            }
             System.out.println("[CategoryService] Rows updated: " + rowsUpdated);
             
             // Check state after
@@ -319,6 +358,9 @@ public class CategoryService {
     public boolean deleteCategory(int id) {
         System.out.println("[CategoryService] Deleting category ID: " + id);
         boolean result = categoryDAO.deleteCategory(id);
+        if (result) {
+            CHANGE_COUNT.incrementAndGet();
+        }
         System.out.println("[CategoryService] Delete result: " + (result ? "SUCCESS" : "FAILED"));
         return result;
     }
@@ -329,6 +371,9 @@ public class CategoryService {
     public boolean restoreCategory(int id) {
         System.out.println("[CategoryService] Restoring category ID: " + id);
         boolean result = categoryDAO.restoreCategory(id);
+        if (result) {
+            CHANGE_COUNT.incrementAndGet();
+        }
         System.out.println("[CategoryService] Restore result: " + (result ? "SUCCESS" : "FAILED"));
         return result;
     }
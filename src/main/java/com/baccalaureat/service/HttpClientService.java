@@ -6,10 +6,26 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * HTTP client service for making external API requests.
  * Provides a simple interface for GET requests with proper error handling.
+ *
+ * Responses are cached by URL in a byte-bounded, compressed LRU cache
+ * (200 for a day, 404 for an hour), and concurrent async requests for the same
+ * URL share one exchange. Checking one word against several categories therefore
+ * costs a single download.
+ *
+ * Behind the memory cache sits the durable {@link ResponseStore}. Stored answers
+ * are served without a request for 30 days (404s for a day), then revalidated
+ * with If-None-Match / If-Modified-Since. When the network fails, or
+ * {@code http.offline} is set, stored answers are served regardless of age.
  */
 public class HttpClientService {
     
@@ -17,6 +33,21 @@ public class HttpClientService {
             .connectTimeout(Duration.ofSeconds(5))
             .build();
     
+    private static final long DEFAULT_CACHE_BYTES = 8L * 1024 * 1024;
+    
+    private static final ResponseCache CACHE = new ResponseCache(
+            Long.getLong("http.cache.max.bytes", DEFAULT_CACHE_BYTES),
+            Duration.ofHours(24),
+            Duration.ofHours(1));
+    
+    private static final ResponseStore STORE = ResponseStore.getInstance();
+    
+    /** How long a stored response is served from disk before it is revalidated. */
+    private static final Duration STORE_OK_TTL = Duration.ofDays(30);
+    private static final Duration STORE_NOT_FOUND_TTL = Duration.ofDays(1);
+    
+    private static final Map<String, SharedRequest> IN_FLIGHT = new ConcurrentHashMap<>();
+    
     /**
      * Makes a GET request to the specified URL and returns the response body.
      * 
@@ -26,19 +57,7 @@ public class HttpClientService {
      * @throws InterruptedException if the request is interrupted
      */
     public static String get(String url) throws IOException, InterruptedException {
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(url))
-                .timeout(Duration.ofSeconds(10))
-                .GET()
-                .build();
-        
-        HttpResponse<String> response = CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
-        
-        if (response.statusCode() != 200) {
-            throw new IOException("HTTP request failed with status: " + response.statusCode());
-        }
-        
-        return response.body();
+        return get(url, 10);
     }
     
     /**
@@ -51,18 +70,212 @@ public class HttpClientService {
      * @throws InterruptedException if the request is interrupted
      */
     public static String get(String url, int timeoutSeconds) throws IOException, InterruptedException {
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(url))
-                .timeout(Duration.ofSeconds(timeoutSeconds))
-                .GET()
-                .build();
+        ResponseCache.CachedResponse cached = CACHE.get(url);
+        if (cached != null) {
+            return bodyOf(cached.statusCode(), cached.body());
+        }
+        
+        ResponseStore.StoredResponse stored = STORE.load(url);
+        if (stored != null && (isFresh(stored) || ResponseStore.isOffline())) {
+            ResponseCache.CachedResponse response = fromStore(url, stored);
+            return bodyOf(response.statusCode(), response.body());
+        }
+        if (ResponseStore.isOffline()) {
+            throw offlineError(url);
+        }
         
-        HttpResponse<String> response = CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+        ResponseCache.CachedResponse result;
+        try {
+            result = accept(url, stored,
+                    CLIENT.send(buildRequest(url, timeoutSeconds, stored), HttpResponse.BodyHandlers.ofString()));
+        } catch (IOException e) {
+            if (stored == null) {
+                throw e;
+            }
+            // Network is down: a stale answer beats none
+            result = fromStore(url, stored);
+        }
+        return bodyOf(result.statusCode(), result.body());
+    }
+    
+    /**
+     * Makes a GET request without blocking the caller.
+     * The future fails with an IOException (wrapped in a CompletionException)
+     * for non-200 responses, using the same message as {@link #get(String, int)}.
+     * Cancelling the future aborts the request once no other caller is waiting for it.
+     * 
+     * @param url the URL to request
+     * @param timeoutSeconds timeout in seconds
+     * @return future completed with the response body
+     */
+    public static CompletableFuture<String> getAsync(String url, int timeoutSeconds) {
+        ResponseCache.CachedResponse cached = CACHE.get(url);
+        if (cached != null) {
+            try {
+                return CompletableFuture.completedFuture(bodyOf(cached.statusCode(), cached.body()));
+            } catch (IOException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        
+        // Only claims the URL: the store lookup and the exchange start outside compute()
+        boolean[] first = new boolean[1];
+        SharedRequest shared = IN_FLIGHT.compute(url, (key, existing) -> {
+            if (existing != null) {
+                existing.waiters.incrementAndGet();
+                return existing;
+            }
+            first[0] = true;
+            return new SharedRequest();
+        });
+        if (first[0]) {
+            startRequest(shared, url, timeoutSeconds);
+        }
+        // Registered outside compute() so an already-completed exchange can still be unmapped
+        shared.result.whenComplete((r, e) -> IN_FLIGHT.remove(url, shared));
         
-        if (response.statusCode() != 200) {
-            throw new IOException("HTTP request failed with status: " + response.statusCode());
+        CompletableFuture<String> body = shared.result.thenApply(response -> {
+            try {
+                return bodyOf(response.statusCode(), response.body());
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        });
+        // The last caller to give up aborts the exchange; no-op once the response has arrived
+        body.whenComplete((r, e) -> {
+            if (body.isCancelled() && shared.waiters.decrementAndGet() == 0 && shared.exchange != null) {
+                shared.exchange.cancel(true);
+            }
+        });
+        return body;
+    }
+    
+    /**
+     * Returns a one-line summary of the response cache for diagnostics.
+     */
+    public static String getCacheStats() {
+        return CACHE.stats();
+    }
+    
+    /**
+     * Drops every response cached in memory. The durable store is kept.
+     */
+    public static void clearCache() {
+        CACHE.clear();
+    }
+    
+    /**
+     * Answers from the durable store when it can, otherwise starts the exchange
+     * (conditional if the stored copy carries validators). The store is read on its
+     * own thread; the outcome completes {@code shared.result}.
+     */
+    private static void startRequest(SharedRequest shared, String url, int timeoutSeconds) {
+        STORE.loadAsync(url).thenCompose(stored -> {
+            if (stored != null && (isFresh(stored) || ResponseStore.isOffline())) {
+                return CompletableFuture.completedFuture(fromStore(url, stored));
+            }
+            if (ResponseStore.isOffline()) {
+                return CompletableFuture.<ResponseCache.CachedResponse>failedFuture(offlineError(url));
+            }
+            if (shared.waiters.get() == 0) {
+                // Every caller gave up while the store was read
+                return CompletableFuture.<ResponseCache.CachedResponse>failedFuture(
+                        new CancellationException("No caller is waiting for " + url));
+            }
+            
+            CompletableFuture<HttpResponse<String>> exchange =
+                    CLIENT.sendAsync(buildRequest(url, timeoutSeconds, stored), HttpResponse.BodyHandlers.ofString());
+            shared.exchange = exchange;
+            if (shared.waiters.get() == 0) {
+                exchange.cancel(true);
+            }
+            return exchange.handle((response, error) -> {
+                if (error == null) {
+                    return accept(url, stored, response);
+                }
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                if (stored != null && cause instanceof IOException) {
+                    // Network is down: a stale answer beats none
+                    return fromStore(url, stored);
+                }
+                throw error instanceof CompletionException ce ? ce : new CompletionException(error);
+            });
+        }).whenComplete((response, error) -> {
+            if (error != null) {
+                shared.result.completeExceptionally(error);
+            } else {
+                shared.result.complete(response);
+            }
+        });
+    }
+    
+    private static HttpRequest buildRequest(String url, int timeoutSeconds, ResponseStore.StoredResponse stored) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .timeout(Duration.ofSeconds(timeoutSeconds))
+                .GET();
+        if (stored != null && stored.statusCode() == 200) {
+            if (stored.etag() != null) {
+                builder.header("If-None-Match", stored.etag());
+            }
+            if (stored.lastModified() != null) {
+                builder.header("If-Modified-Since", stored.lastModified());
+            }
+        }
+        return builder.build();
+    }
+    
+    /**
+     * Records a response from the origin in both cache tiers.
+     * A 304 confirms the stored copy, which is then served as-is.
+     */
+    private static ResponseCache.CachedResponse accept(String url, ResponseStore.StoredResponse stored,
+                                                       HttpResponse<String> response) {
+        if (response.statusCode() == 304 && stored != null) {
+            STORE.touch(url);
+            return fromStore(url, stored);
         }
         
-        return response.body();
+        CACHE.put(url, response.statusCode(), response.body());
+        if (response.statusCode() == 200 || response.statusCode() == 404) {
+            STORE.save(url, response.statusCode(), response.body(),
+                    response.headers().firstValue("ETag").orElse(null),
+                    response.headers().firstValue("Last-Modified").orElse(null));
+        }
+        return new ResponseCache.CachedResponse(response.statusCode(), response.body());
+    }
+    
+    /**
+     * Serves a stored response and promotes it to the in-memory cache.
+     */
+    private static ResponseCache.CachedResponse fromStore(String url, ResponseStore.StoredResponse stored) {
+        CACHE.put(url, stored.statusCode(), stored.body());
+        return new ResponseCache.CachedResponse(stored.statusCode(), stored.body());
+    }
+    
+    private static boolean isFresh(ResponseStore.StoredResponse stored) {
+        Duration maxAge = stored.statusCode() == 200 ? STORE_OK_TTL : STORE_NOT_FOUND_TTL;
+        return stored.isFresh(maxAge, STORE.now());
+    }
+    
+    private static IOException offlineError(String url) {
+        return new IOException("Offline and no stored response for " + url);
+    }
+    
+    private static String bodyOf(int statusCode, String body) throws IOException {
+        if (statusCode != 200) {
+            throw new IOException("HTTP request failed with status: " + statusCode);
+        }
+        return body;
+    }
+    
+    /**
+     * One exchange shared by every async caller of the same URL.
+     * The exchange stays null while the store is read, and when the answer came from it.
+     */
+    private static final class SharedRequest {
+        private volatile CompletableFuture<HttpResponse<String>> exchange;
+        private final CompletableFuture<ResponseCache.CachedResponse> result = new CompletableFuture<>();
+        private final AtomicInteger waiters = new AtomicInteger(1);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,225 @@
+package com.baccalaureat.service;
+
+import com.baccalaureat.dao.DatabaseManager;
+import com.baccalaureat.dao.RejectedWordDAO;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * In-memory negative cache backed by the rejected_words table.
+ *
+ * Holds confident INVALID verdicts so a repeated wrong answer is rejected with
+ * one hash lookup instead of another round of remote validation. Entries expire
+ * after a TTL (default 7 days, {@code cache.rejected.ttl.hours}) so a word the
+ * remote services learn later gets a second chance. Verdicts below the
+ * confidence floor are never cached.
+ *
+ * Keys are expected to be normalized by the caller (see TextNormalizer).
+ */
+public class RejectedWordIndex {
+
+    /** Same bar the engine uses to trust a verdict. */
+    public static final double CONFIDENCE_FLOOR = 0.7;
+
+    private static final Duration DEFAULT_TTL = Duration.ofDays(7);
+    private static final long FLUSH_TIMEOUT_SECONDS = 5;
+
+    private static RejectedWordIndex instance;
+
+    private final RejectedWordDAO rejectedWordDAO;
+    private final long ttlMillis;
+    /** Database the rejections were loaded from, or null if not tied to one */
+    private final String dbUrl;
+    /** {@link DatabaseManager#getGeneration()} when the rejections were loaded */
+    private final long dbGeneration;
+    /** category -> word -> expiry (epoch millis) */
+    private final Map<String, Map<String, Long>> expiryByCategory = new ConcurrentHashMap<>();
+    private final List<BiConsumer<String, String>> listeners = new CopyOnWriteArrayList<>();
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "rejected-words-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Returns the shared index, loading it from the database on first use.
+     * After a switch to another database ({@code db.url}) or a new
+     * {@link DatabaseManager#initializeDatabase()} the index is replaced by one
+     * loaded from the database as it is now.
+     */
+    public static synchronized RejectedWordIndex getInstance() {
+        String dbUrl = DatabaseManager.getUrl();
+        long dbGeneration = DatabaseManager.getGeneration();
+        if (instance != null && (!dbUrl.equals(instance.dbUrl) || dbGeneration != instance.dbGeneration)) {
+            instance.close();
+            instance = null;
+        }
+        if (instance == null) {
+            long hours = Long.getLong("cache.rejected.ttl.hours", DEFAULT_TTL.toHours());
+            instance = new RejectedWordIndex(new RejectedWordDAO(), Duration.ofHours(hours), dbUrl, dbGeneration);
+            instance.reload();
+        }
+        return instance;
+    }
+
+    /**
+     * Flushes pending writes of the shared index, if one was ever created.
+     * Intended for application shutdown.
+     */
+    public static synchronized void flushShared() {
+        if (instance != null) {
+            instance.flush();
+        }
+    }
+
+    RejectedWordIndex(RejectedWordDAO rejectedWordDAO, Duration ttl) {
+        this(rejectedWordDAO, ttl, null, 0);
+    }
+
+    private RejectedWordIndex(RejectedWordDAO rejectedWordDAO, Duration ttl, String dbUrl, long dbGeneration) {
+        this.rejectedWordDAO = rejectedWordDAO;
+        this.ttlMillis = ttl.toMillis();
+        this.dbUrl = dbUrl;
+        this.dbGeneration = dbGeneration;
+    }
+
+    /**
+     * Checks whether a normalized word has an unexpired rejection for a category. No I/O.
+     */
+    public boolean isWordRejected(String normalizedWord, String categoryName) {
+        Map<String, Long> words = expiryByCategory.get(categoryName);
+        if (words == null) {
+            return false;
+        }
+        Long expiresAt = words.get(normalizedWord);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt <= System.currentTimeMillis()) {
+            // Lazy eviction; the row itself is purged on the next reload
+            words.remove(normalizedWord, expiresAt);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Records a rejection if its confidence reaches {@link #CONFIDENCE_FLOOR}.
+     * Visible to lookups immediately; persisted in the background.
+     *
+     * @return true if the rejection was cached
+     */
+    public boolean add(String normalizedWord, String categoryName, double confidence) {
+        if (confidence < CONFIDENCE_FLOOR) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        if (wordsFor(categoryName).put(normalizedWord, now + ttlMillis) == null) {
+            listeners.forEach(listener -> listener.accept(normalizedWord, categoryName));
+        }
+        persist(() -> rejectedWordDAO.saveRejection(normalizedWord, categoryName, confidence, now));
+        return true;
+    }
+
+    /**
+     * Registers a callback run with (word, category) each time {@link #add} caches a word that was not cached.
+     */
+    public void addListener(BiConsumer<String, String> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Passes every cached word of a category to the action, including expired ones not looked up since.
+     */
+    public void forEachWord(String categoryName, Consumer<String> action) {
+        expiryByCategory.getOrDefault(categoryName, Map.of()).keySet().forEach(action);
+    }
+
+    /**
+     * Forgets a rejection, e.g. once the word has been validated.
+     */
+    public void remove(String normalizedWord, String categoryName) {
+        Map<String, Long> words = expiryByCategory.get(categoryName);
+        if (words != null && words.remove(normalizedWord) != null) {
+            persist(() -> rejectedWordDAO.deleteRejection(normalizedWord, categoryName));
+        }
+    }
+
+    /**
+     * Blocks until every change made before this call has been written to SQLite.
+     */
+    public void flush() {
+        Future<?> barrier;
+        try {
+            barrier = writer.submit(() -> { });
+        } catch (RejectedExecutionException e) {
+            return; // Closed after a database switch, nothing left to write
+        }
+        try {
+            barrier.get(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            System.err.println("Timed out flushing rejected words to database");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Drops expired rows and replaces the in-memory contents with the rest of the table.
+     */
+    public void reload() {
+        expiryByCategory.clear();
+        long cutoff = System.currentTimeMillis() - ttlMillis;
+        rejectedWordDAO.deleteOlderThan(cutoff);
+        rejectedWordDAO.forEachRejectionSince(cutoff,
+            (word, category, rejectedAt) -> wordsFor(category).put(word, rejectedAt + ttlMillis));
+    }
+
+    /**
+     * Returns the number of cached rejections, including ones that expired but were not looked up since.
+     */
+    public int size() {
+        int total = 0;
+        for (Map<String, Long> words : expiryByCategory.values()) {
+            total += words.size();
+        }
+        return total;
+    }
+
+    /**
+     * Stops the writer once the database was switched or reinitialized. Changes still
+     * queued are dropped: the DAO already points at the new database file, where they
+     * do not belong.
+     */
+    private void close() {
+        int dropped = writer.shutdownNow().size();
+        if (dropped > 0) {
+            System.err.println("Database replaced: " + dropped + " rejected word changes were not saved to " + dbUrl);
+        }
+    }
+
+    private void persist(Runnable write) {
+        try {
+            writer.execute(write);
+        } catch (RejectedExecutionException e) {
+            // Closed after a database switch: the change only lives in this stale index
+        }
+    }
+
+    private Map<String, Long> wordsFor(String categoryName) {
+        return expiryByCategory.computeIfAbsent(categoryName, k -> new ConcurrentHashMap<>());
+    }
+}
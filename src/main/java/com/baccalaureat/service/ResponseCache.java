@@ -0,0 +1,154 @@
+package com.baccalaureat.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Byte-bounded LRU cache of HTTP responses keyed by URL.
+ *
+ * Bodies are stored gzip-compressed (dictionary JSON shrinks to a fraction of its
+ * size) and the bound applies to the compressed bytes. Successful responses and
+ * 404s are both cached - a word missing from the dictionary is just as stable an
+ * answer as one that exists - each with its own time to live.
+ */
+class ResponseCache {
+
+    /** Rough per-entry bookkeeping cost on top of the key and the compressed body. */
+    private static final int ENTRY_OVERHEAD_BYTES = 64;
+
+    /**
+     * A cached response as seen by callers.
+     */
+    record CachedResponse(int statusCode, String body) {
+    }
+
+    private record Entry(int statusCode, byte[] compressedBody, long expiresAt, long weight) {
+    }
+
+    private final long maxBytes;
+    private final long okTtlNanos;
+    private final long notFoundTtlNanos;
+    private final LongSupplier clock;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long currentBytes = 0;
+    private long hits = 0;
+    private long misses = 0;
+
+    ResponseCache(long maxBytes, Duration okTtl, Duration notFoundTtl) {
+        this(maxBytes, okTtl, notFoundTtl, System::nanoTime);
+    }
+
+    ResponseCache(long maxBytes, Duration okTtl, Duration notFoundTtl, LongSupplier clock) {
+        this.maxBytes = maxBytes;
+        this.okTtlNanos = okTtl.toNanos();
+        this.notFoundTtlNanos = notFoundTtl.toNanos();
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the cached response for a URL, or null if absent or expired.
+     */
+    CachedResponse get(String url) {
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(url);
+            if (entry != null && clock.getAsLong() - entry.expiresAt() >= 0) {
+                remove(url);
+                entry = null;
+            }
+            if (entry == null) {
+                misses++;
+                return null;
+            }
+            hits++;
+        }
+        // Decompress outside the lock; the entry itself is immutable
+        return new CachedResponse(entry.statusCode(), decompress(entry.compressedBody()));
+    }
+
+    /**
+     * Stores a response if its status is cacheable (200 or 404).
+     * Evicts least recently used entries until the cache fits its byte bound again.
+     */
+    void put(String url, int statusCode, String body) {
+        long ttl = switch (statusCode) {
+            case 200 -> okTtlNanos;
+            case 404 -> notFoundTtlNanos;
+            default -> 0;
+        };
+        if (ttl <= 0) {
+            return;
+        }
+
+        byte[] compressed = compress(body != null ? body : "");
+        long weight = compressed.length + 2L * url.length() + ENTRY_OVERHEAD_BYTES;
+        if (weight > maxBytes) {
+            return;
+        }
+
+        synchronized (this) {
+            remove(url);
+            entries.put(url, new Entry(statusCode, compressed, clock.getAsLong() + ttl, weight));
+            currentBytes += weight;
+
+            Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+            while (currentBytes > maxBytes && eldest.hasNext()) {
+                currentBytes -= eldest.next().getValue().weight();
+                eldest.remove();
+            }
+        }
+    }
+
+    synchronized void clear() {
+        entries.clear();
+        currentBytes = 0;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    synchronized long sizeInBytes() {
+        return currentBytes;
+    }
+
+    synchronized String stats() {
+        return String.format("%d entries, %d bytes, %d hits, %d misses", entries.size(), currentBytes, hits, misses);
+    }
+
+    private void remove(String url) {
+        Entry old = entries.remove(url);
+        if (old != null) {
+            currentBytes -= old.weight();
+        }
+    }
+
+    static byte[] compress(String body) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(body.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // In-memory streams do not fail
+        }
+        return bytes.toByteArray();
+    }
+
+    static String decompress(byte[] compressed) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
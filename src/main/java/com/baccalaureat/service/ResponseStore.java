@@ -0,0 +1,183 @@
+package com.baccalaureat.service;
+
+import com.baccalaureat.dao.HttpResponseDAO;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Durable response store backed by the http_responses table.
+ *
+ * Keeps dictionary and AI responses across restarts so a fresh process starts
+ * warm, and so validation can keep answering from disk when there is no network
+ * ({@code http.offline=true}). Bodies are stored gzip-compressed together with
+ * their ETag and Last-Modified headers for conditional revalidation. The table is
+ * trimmed to {@code http.store.max.bytes} (default 32 MiB), oldest rows first.
+ *
+ * Writes, and reads made through {@link #loadAsync(String)}, go through a single
+ * background thread so callers on HTTP I/O threads never wait on SQLite.
+ */
+public class ResponseStore {
+
+    private static final long DEFAULT_MAX_BYTES = 32L * 1024 * 1024;
+    /** Trimming scans the table, so only do it every so many writes. */
+    private static final int TRIM_EVERY_WRITES = 64;
+    private static final long FLUSH_TIMEOUT_SECONDS = 5;
+
+    private static ResponseStore instance;
+
+    /**
+     * A stored response.
+     */
+    public record StoredResponse(int statusCode, String body, String etag, String lastModified, long storedAtMillis) {
+
+        /**
+         * Checks whether the response was stored or revalidated less than maxAge ago.
+         */
+        public boolean isFresh(Duration maxAge, long nowMillis) {
+            return nowMillis - storedAtMillis < maxAge.toMillis();
+        }
+    }
+
+    private final HttpResponseDAO httpResponseDAO;
+    private final long maxBytes;
+    private final LongSupplier clock;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "http-store-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private int writesSinceTrim = 0;
+
+    /**
+     * Returns the shared store.
+     */
+    public static synchronized ResponseStore getInstance() {
+        if (instance == null) {
+            instance = new ResponseStore(new HttpResponseDAO(),
+                    Long.getLong("http.store.max.bytes", DEFAULT_MAX_BYTES), System::currentTimeMillis);
+        }
+        return instance;
+    }
+
+    /**
+     * Flushes pending writes of the shared store, if one was ever created.
+     * Intended for application shutdown.
+     */
+    public static synchronized void flushShared() {
+        if (instance != null) {
+            instance.flush();
+        }
+    }
+
+    /**
+     * Checks whether remote calls are disabled and only stored responses may be used.
+     */
+    public static boolean isOffline() {
+        return Boolean.getBoolean("http.offline");
+    }
+
+    /**
+     * Builds the store key of a POST: the URL plus a digest of the request body.
+     */
+    public static String keyFor(String url, String requestBody) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(requestBody.getBytes(StandardCharsets.UTF_8));
+            return url + "#" + HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is always available", e);
+        }
+    }
+
+    ResponseStore(HttpResponseDAO httpResponseDAO, long maxBytes, LongSupplier clock) {
+        this.httpResponseDAO = httpResponseDAO;
+        this.maxBytes = maxBytes;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the stored response for a key, or null if there is none.
+     */
+    public StoredResponse load(String key) {
+        HttpResponseDAO.StoredRow row = httpResponseDAO.find(key);
+        if (row == null) {
+            return null;
+        }
+        return new StoredResponse(row.status(), ResponseCache.decompress(row.body()),
+                row.etag(), row.lastModified(), row.storedAtMillis());
+    }
+
+    /**
+     * Reads the stored response for a key on the store's own thread, after any queued write.
+     * Lets async callers avoid blocking on SQLite and decompression.
+     *
+     * @return future of the stored response, or of null if there is none
+     */
+    public CompletableFuture<StoredResponse> loadAsync(String key) {
+        return CompletableFuture.supplyAsync(() -> load(key), writer);
+    }
+
+    /**
+     * Stores a response in the background, replacing any previous one for the key.
+     */
+    public void save(String key, int statusCode, String body, String etag, String lastModified) {
+        long now = clock.getAsLong();
+        byte[] compressed = ResponseCache.compress(body != null ? body : "");
+        if (compressed.length > maxBytes) {
+            return;
+        }
+        writer.execute(() -> {
+            httpResponseDAO.save(key, statusCode, compressed, etag, lastModified, now);
+            if (++writesSinceTrim >= TRIM_EVERY_WRITES) {
+                writesSinceTrim = 0;
+                httpResponseDAO.trimToSize(maxBytes);
+            }
+        });
+    }
+
+    /**
+     * Marks a stored response as confirmed by the origin just now (e.g. after a 304).
+     */
+    public void touch(String key) {
+        long now = clock.getAsLong();
+        writer.execute(() -> httpResponseDAO.touch(key, now));
+    }
+
+    /**
+     * Returns the current time on the store's clock (epoch millis).
+     */
+    public long now() {
+        return clock.getAsLong();
+    }
+
+    /**
+     * Deletes every stored response.
+     */
+    public void clear() {
+        writer.execute(httpResponseDAO::deleteAll);
+    }
+
+    /**
+     * Waits until queued writes have reached the database and trims it to its bound.
+     */
+    public void flush() {
+        try {
+            writer.submit(() -> {
+                writesSinceTrim = 0;
+                httpResponseDAO.trimToSize(maxBytes);
+            }).get(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            System.err.println("Failed to flush stored responses: " + e.getMessage());
+        }
+    }
+}
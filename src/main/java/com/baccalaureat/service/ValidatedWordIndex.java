@@ -0,0 +1,237 @@
+package com.baccalaureat.service;
+
+import com.baccalaureat.dao.DatabaseManager;
+import com.baccalaureat.dao.WordDAO;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * In-memory index of the validated_words table.
+ *
+ * The table is loaded once into a per-category hash set so lookups never touch
+ * SQLite. New words are visible immediately and persisted by a background
+ * writer that drains a write-behind queue in batched transactions.
+ *
+ * Keys are expected to be normalized by the caller (see TextNormalizer).
+ */
+public class ValidatedWordIndex {
+
+    private static final int MAX_BATCH_SIZE = 256;
+    private static final long FLUSH_TIMEOUT_SECONDS = 5;
+
+    private static ValidatedWordIndex instance;
+
+    private final WordDAO wordDAO;
+    /** Database the words were loaded from, or null if not tied to one */
+    private final String dbUrl;
+    /** {@link DatabaseManager#getGeneration()} when the words were loaded */
+    private final long dbGeneration;
+    private Thread writer;
+    private volatile boolean closed = false;
+    private final Map<String, Set<String>> wordsByCategory = new ConcurrentHashMap<>();
+    private final BlockingQueue<PendingWrite> writeQueue = new LinkedBlockingQueue<>();
+    private final List<BiConsumer<String, String>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Returns the shared index, loading it from the database on first use.
+     * After a switch to another database ({@code db.url}) or a new
+     * {@link DatabaseManager#initializeDatabase()} the index is replaced by one
+     * loaded from the database as it is now.
+     */
+    public static synchronized ValidatedWordIndex getInstance() {
+        String dbUrl = DatabaseManager.getUrl();
+        long dbGeneration = DatabaseManager.getGeneration();
+        if (instance != null && (!dbUrl.equals(instance.dbUrl) || dbGeneration != instance.dbGeneration)) {
+            instance.close();
+            instance = null;
+        }
+        if (instance == null) {
+            instance = new ValidatedWordIndex(new WordDAO(), dbUrl, dbGeneration);
+            instance.reload();
+            instance.startWriter();
+        }
+        return instance;
+    }
+
+    /**
+     * Flushes pending writes of the shared index, if one was ever created.
+     * Intended for application shutdown.
+     */
+    public static synchronized void flushShared() {
+        if (instance != null) {
+            instance.flush();
+        }
+    }
+
+    ValidatedWordIndex() {
+        this(new WordDAO());
+    }
+
+    ValidatedWordIndex(WordDAO wordDAO) {
+        this(wordDAO, null, 0);
+    }
+
+    private ValidatedWordIndex(WordDAO wordDAO, String dbUrl, long dbGeneration) {
+        this.wordDAO = wordDAO;
+        this.dbUrl = dbUrl;
+        this.dbGeneration = dbGeneration;
+    }
+
+    /**
+     * Checks whether a normalized word is known valid for a category. No I/O.
+     */
+    public boolean isWordValidated(String normalizedWord, String categoryName) {
+        Set<String> words = wordsByCategory.get(categoryName);
+        return words != null && words.contains(normalizedWord);
+    }
+
+    /**
+     * Records a normalized word as valid for a category.
+     * The word is visible to lookups immediately; persistence happens in the background.
+     */
+    public void add(String normalizedWord, String categoryName) {
+        if (wordsFor(categoryName).add(normalizedWord)) {
+            if (!closed) {
+                writeQueue.offer(new PendingWrite(normalizedWord, categoryName, null));
+            }
+            listeners.forEach(listener -> listener.accept(normalizedWord, categoryName));
+        }
+    }
+
+    /**
+     * Registers a callback run with (word, category) each time {@link #add} records a new word.
+     */
+    public void addListener(BiConsumer<String, String> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Passes every indexed word of a category to the action.
+     */
+    public void forEachWord(String categoryName, Consumer<String> action) {
+        wordsByCategory.getOrDefault(categoryName, Set.of()).forEach(action);
+    }
+
+    /**
+     * Blocks until every word added before this call has been written to SQLite.
+     */
+    public void flush() {
+        if (closed) {
+            return;
+        }
+        CountDownLatch barrier = new CountDownLatch(1);
+        writeQueue.offer(new PendingWrite(null, null, barrier));
+        try {
+            if (!barrier.await(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                System.err.println("Timed out flushing validated words to database");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Replaces the in-memory contents with the current table contents.
+     */
+    public void reload() {
+        wordsByCategory.clear();
+        // On failure the index starts (partially) empty - lookups fall through to the rest of the pipeline
+        wordDAO.forEachWord((word, category) -> wordsFor(category).add(word));
+    }
+
+    /**
+     * Returns the number of indexed words across all categories.
+     */
+    public int size() {
+        int total = 0;
+        for (Set<String> words : wordsByCategory.values()) {
+            total += words.size();
+        }
+        return total;
+    }
+
+    private Set<String> wordsFor(String categoryName) {
+        return wordsByCategory.computeIfAbsent(categoryName, k -> ConcurrentHashMap.newKeySet());
+    }
+
+    private void startWriter() {
+        writer = new Thread(this::runWriter, "validated-words-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Stops the writer once the database was switched or reinitialized. Words still
+     * queued are dropped: the DAO already points at the new database file, where they
+     * do not belong.
+     */
+    private void close() {
+        closed = true;
+        if (writer != null) {
+            writer.interrupt();
+        }
+        List<PendingWrite> dropped = new ArrayList<>();
+        writeQueue.drainTo(dropped);
+        int words = 0;
+        for (PendingWrite pending : dropped) {
+            if (pending.barrier() != null) {
+                pending.barrier().countDown();
+            } else {
+                words++;
+            }
+        }
+        if (words > 0) {
+            System.err.println("Database replaced: " + words + " validated words were not saved to " + dbUrl);
+        }
+    }
+
+    private void runWriter() {
+        List<PendingWrite> batch = new ArrayList<>();
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(writeQueue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            writeQueue.drainTo(batch, MAX_BATCH_SIZE - 1);
+            writeBatch(batch);
+
+            // Release flush() callers only once everything queued before them is on disk
+            for (PendingWrite pending : batch) {
+                if (pending.barrier() != null) {
+                    pending.barrier().countDown();
+                }
+            }
+            batch.clear();
+        }
+    }
+
+    private void writeBatch(List<PendingWrite> batch) {
+        List<WordDAO.ValidatedWord> words = new ArrayList<>(batch.size());
+        for (PendingWrite pending : batch) {
+            if (pending.word() != null) {
+                words.add(new WordDAO.ValidatedWord(pending.word(), pending.category()));
+            }
+        }
+        // Non-fatal on failure - words stay valid in memory for this run
+        wordDAO.saveWords(words);
+    }
+
+    /**
+     * A queued insert, or a flush barrier when word is null.
+     */
+    private record PendingWrite(String word, String category, CountDownLatch barrier) {
+    }
+}
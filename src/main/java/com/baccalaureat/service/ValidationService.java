@@ -1,12 +1,20 @@
 package com.baccalaureat.service;
 
 import com.baccalaureat.ai.CategorizationEngine;
-import com.baccalaureat.dao.WordDAO;
 import com.baccalaureat.model.Category;
 import com.baccalaureat.model.ValidationResult;
 import com.baccalaureat.model.ValidationStatus;
+import com.baccalaureat.util.TextNormalizer;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Service layer for word validation.
@@ -14,15 +22,35 @@ import java.util.Optional;
  * Responsibilities: input normalization, caching, orchestration.
  */
 public class ValidationService {
-    private final WordDAO wordDAO = new WordDAO();
-    private final CategoryService categoryService = new CategoryService();
-    private final CategorizationEngine categorizationEngine = new CategorizationEngine(categoryService);
-    private final CacheService cacheService = new CacheService();
+    /** Verdicts the engine makes up when no stage was confident */
+    private static final Set<String> ENGINE_SOURCES = Set.of("AI_FALLBACK", "AI_RESOLVER", "ENGINE");
+    
+    private final CategoryService categoryService;
+    private final CategorizationEngine categorizationEngine;
+    private final CacheService cacheService;
+    
+    public ValidationService() {
+        this.categoryService = new CategoryService();
+        this.categorizationEngine = new CategorizationEngine(categoryService);
+        this.cacheService = new CacheService();
+    }
+    
+    /**
+     * Constructor for dependency injection.
+     */
+    public ValidationService(CategoryService categoryService, CategorizationEngine categorizationEngine,
+                             CacheService cacheService) {
+        this.categoryService = categoryService;
+        this.categorizationEngine = categorizationEngine;
+        this.cacheService = cacheService;
+    }
     
     /**
      * Validates a word for a category using the AI-ready validation pipeline.
-     * First checks local cache, then delegates to categorization engine.
-     * Caches positive results for future lookups.
+     * The categorization engine checks the local cache as its first stage,
+     * so each word costs exactly one in-memory cache lookup.
+     * Caches positive results, and confident negative results from the AI or the
+     * French word lists, for future lookups.
      * 
      * @param category the target category
      * @param word the word to validate
@@ -39,35 +67,129 @@ public class ValidationService {
         }
         
         // Normalize input
-        String normalizedWord = normalizeInput(word);
-        String normalizedCategory = normalizeInput(category);
-        
-        // Step 1: Check local database cache first
-        if (wordDAO.isWordInLocalDb(normalizedCategory, normalizedWord)) {
-            return new ValidationResult(ValidationStatus.VALID, 1.0, "DATABASE_CACHE", "Found in local cache");
-        }
+        String normalizedWord = TextNormalizer.normalize(word);
+        String normalizedCategory = TextNormalizer.normalize(category);
         
-// Step 2: Resolve category from dynamic categories
+        // Step 1: Resolve category from dynamic categories
         Optional<Category> categoryOpt = categoryService.findByName(normalizedCategory);
         if (categoryOpt.isEmpty()) {
             return new ValidationResult(ValidationStatus.ERROR, 0.0, "SERVICE", "Unknown category: " + category);
         }
         Category categoryObj = categoryOpt.get();
 
-        // Step 3: Delegate to categorization engine
-        ValidationResult result = categorizationEngine.validate(normalizedWord, categoryObj);
+        return validateResolved(normalizedWord, categoryObj).join();
+    }
+    
+    /**
+     * Validates one player's answers for a round in a single pass.
+     * Blocks until every answer has a result.
+     * 
+     * @param answers word entered for each category
+     * @return result for each category, in the iteration order of answers
+     * @see #validateBatchAsync(Map)
+     */
+    public Map<Category, ValidationResult> validateBatch(Map<Category, String> answers) {
+        Map<Category, ValidationResult> results = new LinkedHashMap<>();
+        validateBatchAsync(answers).forEach((category, result) -> results.put(category, result.join()));
+        return results;
+    }
+    
+    /**
+     * Validates one player's answers for a round without blocking on the remote stages.
+     * 
+     * All categories are resolved with one database query, identical (word, category)
+     * pairs are validated once, and cache hits complete immediately from memory. Only
+     * the misses reach the remote stages, and they are all in flight at the same time.
+     * 
+     * @param answers word entered for each category
+     * @return future result for each category, in the iteration order of answers
+     */
+    public Map<Category, CompletableFuture<ValidationResult>> validateBatchAsync(Map<Category, String> answers) {
+        List<Map.Entry<Category, String>> entries = new ArrayList<>(answers.entrySet());
+        List<CompletableFuture<ValidationResult>> futures = validateEntries(entries);
         
-        // Step 4: Cache valid results for future instant lookup
-        if (result.isValid()) {
-            // Save to legacy cache (backward compatibility)
-            if (result.getConfidence() == 1.0) {
-                wordDAO.saveWord(normalizedCategory, normalizedWord);
+        Map<Category, CompletableFuture<ValidationResult>> results = new LinkedHashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            results.put(entries.get(i).getKey(), futures.get(i));
+        }
+        return results;
+    }
+    
+    /**
+     * Shared batch path: one category query, one pipeline run per distinct pair.
+     * 
+     * @return one future per entry, in entry order
+     */
+    private List<CompletableFuture<ValidationResult>> validateEntries(List<Map.Entry<Category, String>> entries) {
+        // Step 1: Resolve every category of the batch with a single IN (...) query
+        Set<String> categoryNames = new LinkedHashSet<>();
+        for (Map.Entry<Category, String> entry : entries) {
+            if (entry.getKey() != null) {
+                categoryNames.add(TextNormalizer.normalize(entry.getKey().name()));
             }
-            // Save to new cache system
-            cacheService.saveValidatedWord(normalizedWord, categoryObj);
         }
+        Map<String, Category> resolved = categoryService.findByNames(categoryNames);
         
-        return result;
+        Map<String, CompletableFuture<ValidationResult>> distinct = new HashMap<>();
+        List<CompletableFuture<ValidationResult>> futures = new ArrayList<>(entries.size());
+        for (Map.Entry<Category, String> entry : entries) {
+            String word = entry.getValue();
+            if (word == null || word.trim().isEmpty()) {
+                futures.add(CompletableFuture.completedFuture(
+                    new ValidationResult(ValidationStatus.INVALID, 0.0, "SERVICE", "Empty word")));
+                continue;
+            }
+            if (entry.getKey() == null) {
+                futures.add(CompletableFuture.completedFuture(
+                    new ValidationResult(ValidationStatus.ERROR, 0.0, "SERVICE", "Category is null")));
+                continue;
+            }
+            
+            Category categoryObj = resolved.get(TextNormalizer.normalize(entry.getKey().name()).toUpperCase());
+            if (categoryObj == null) {
+                futures.add(CompletableFuture.completedFuture(
+                    new ValidationResult(ValidationStatus.ERROR, 0.0, "SERVICE", "Unknown category: " + entry.getKey().name())));
+                continue;
+            }
+            
+            // Identical (word, category) pairs share one pipeline run
+            String normalizedWord = TextNormalizer.normalize(word);
+            futures.add(distinct.computeIfAbsent(normalizedWord + '\n' + categoryObj.getName(),
+                key -> validateResolved(normalizedWord, categoryObj)));
+        }
+        return futures;
+    }
+    
+    /**
+     * Runs the pipeline for a normalized word and a resolved category, then caches the verdict.
+     */
+    private CompletableFuture<ValidationResult> validateResolved(String normalizedWord, Category categoryObj) {
+        // Step 2: Delegate to categorization engine (LOCAL_DB cache is its first stage)
+        return categorizationEngine.validateAsync(normalizedWord, categoryObj)
+            .thenApply(result -> {
+                // Step 3: Cache results for future instant lookup
+                if (result.isValid()) {
+                    cacheService.saveValidatedWord(normalizedWord, categoryObj);
+                } else if (result.getStatus() == ValidationStatus.INVALID && isTrustedRejection(result)) {
+                    // The floor filters weak verdicts
+                    cacheService.saveRejectedWord(normalizedWord, categoryObj, result.getConfidence());
+                }
+                return result;
+            });
+    }
+    
+    /**
+     * Only the AI and the French word lists may put a word in the negative cache.
+     * The English dictionary misses most French words, and the engine's own fallbacks
+     * only mean no stage was sure; neither should block a word for days. LOCAL_DB hits
+     * are skipped so a cached rejection is not refreshed forever.
+     */
+    private static boolean isTrustedRejection(ValidationResult result) {
+        String source = result.getSource();
+        if (source == null || ENGINE_SOURCES.contains(source)) {
+            return false;
+        }
+        return source.startsWith("AI_") || "FIXED_LIST".equals(source);
     }
     
     /**
@@ -79,36 +201,6 @@ public class ValidationService {
         return result.isValid();
     }
     
-    /**
-     * Normalizes input text for consistent processing.
-     * 
-     * @param input the input text
-     * @return normalized text
-     */
-    private String normalizeInput(String input) {
-        if (input == null) return "";
-        
-        return input.trim()
-                   .toLowerCase()
-                   // Remove extra whitespace
-                   .replaceAll("\\s+", " ")
-                   // Basic accent removal for French
-                   .replace("à", "a")
-                   .replace("é", "e")
-                   .replace("è", "e")
-                   .replace("ê", "e")
-                   .replace("ë", "e")
-                   .replace("î", "i")
-                   .replace("ï", "i")
-                   .replace("ô", "o")
-                   .replace("ö", "o")
-                   .replace("ù", "u")
-                   .replace("û", "u")
-                   .replace("ü", "u")
-                   .replace("ÿ", "y")
-                   .replace("ç", "c");
-    }
-    
     /**
      * Gets the category service for category operations.
      * 
@@ -138,13 +230,16 @@ public class ValidationService {
     }
     
     /**
-     * Gets statistics about validation performance.
+     * Gets statistics about validation performance: per-stage latency percentiles and
+     * outcome counts, and what the known-word filter saved.
      * 
-     * @return validation statistics summary
+     * @return validation statistics summary, one line per stage
      */
     public String getValidationStats() {
-        return String.format("Available validators: %s, Confidence threshold: %.2f",
+        return String.format("Available validators: %s, Confidence threshold: %.2f%n%s%s",
                            categorizationEngine.getAvailableValidators(),
-                           categorizationEngine.getConfidenceThreshold());
+                           categorizationEngine.getConfidenceThreshold(),
+                           categorizationEngine.getStageStats(),
+                           categorizationEngine.getKnownWordStats());
     }
 }
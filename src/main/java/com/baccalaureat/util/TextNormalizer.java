@@ -0,0 +1,100 @@
+package com.baccalaureat.util;
+
+import java.text.Normalizer;
+
+/**
+ * Builds the lookup key of a player's answer: trimmed, lower case, accents removed
+ * and runs of whitespace collapsed to one space ("  Crème   Brûlée " -> "creme brulee").
+ *
+ * Every validator, cache and word list uses this one method, so a word gets the
+ * same key in validated_words, rejected_words, the fixed lists and the AI prompts.
+ *
+ * Latin letters (U+0000 to U+024F, which covers French and the other western European
+ * languages) are folded in a single pass through a table computed once from their
+ * canonical decompositions. Any other text takes the slower route through
+ * {@link Normalizer} and gives the same result as it would for those letters.
+ */
+public final class TextNormalizer {
+
+    private static final int TABLE_SIZE = 0x250;
+    /** Folded form of each char below TABLE_SIZE: lower case, without diacritics */
+    private static final char[] FOLDED = new char[TABLE_SIZE];
+
+    static {
+        for (char c = 0; c < TABLE_SIZE; c++) {
+            String decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+            char base = decomposed.charAt(0);
+            // Letters without a single-letter base (ß, æ, œ...) are only lower-cased
+            boolean marksOnly = decomposed.length() == 1 || decomposed.substring(1).chars().allMatch(TextNormalizer::isMark);
+            FOLDED[c] = Character.toLowerCase(marksOnly ? base : c);
+        }
+    }
+
+    private TextNormalizer() {
+    }
+
+    /**
+     * Normalizes a word or category name for storage and lookup.
+     *
+     * @param input the raw text, may be null
+     * @return the key, empty for null or blank input
+     */
+    public static String normalize(String input) {
+        if (input == null) {
+            return "";
+        }
+        StringBuilder out = new StringBuilder(input.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (isSpace(c)) {
+                pendingSpace = out.length() > 0;
+                continue;
+            }
+            if (c >= TABLE_SIZE) {
+                if (!isMark(c)) {
+                    // Rare outside the Latin blocks: decompose the rest of the text in one go
+                    return foldSlow(input, i, out, pendingSpace);
+                }
+                continue;
+            }
+            if (isMark(c)) {
+                continue;
+            }
+            if (pendingSpace) {
+                out.append(' ');
+                pendingSpace = false;
+            }
+            out.append(FOLDED[c]);
+        }
+        return out.toString();
+    }
+
+    private static String foldSlow(String input, int from, StringBuilder out, boolean pendingSpace) {
+        String decomposed = Normalizer.normalize(input.substring(from), Normalizer.Form.NFD);
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (isSpace(c)) {
+                pendingSpace = out.length() > 0;
+            } else if (!isMark(c)) {
+                if (pendingSpace) {
+                    out.append(' ');
+                    pendingSpace = false;
+                }
+                out.append(c < TABLE_SIZE ? FOLDED[c] : Character.toLowerCase(c));
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Combining diacritical marks (U+0300 to U+036F), the ones left over by accent decomposition.
+     */
+    private static boolean isMark(int c) {
+        return c >= 0x300 && c <= 0x36F;
+    }
+
+    private static boolean isSpace(char c) {
+        return c <= ' ' || Character.isWhitespace(c) || Character.isSpaceChar(c);
+    }
+}
@@ -0,0 +1,144 @@
+package com.baccalaureat.ai;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BatchingAIClient.
+ * Uses a recording client so the number and shape of backend calls can be checked.
+ */
+class BatchingAIClientTest {
+
+    @Test
+    @DisplayName("Concurrent queries within the window should share one batch call")
+    void testConcurrentQueriesAreBatched() {
+        RecordingClient backend = new RecordingClient(null);
+        BatchingAIClient client = new BatchingAIClient(backend, Duration.ofMillis(50), 32);
+
+        List<CompletableFuture<AIResponse>> futures = new ArrayList<>();
+        for (String prompt : List.of("valid:chat", "invalid:xyz", "valid:lion")) {
+            futures.add(client.queryAsync(prompt));
+        }
+
+        assertTrue(futures.get(0).join().isValid(), "First prompt should get its own verdict");
+        assertFalse(futures.get(1).join().isValid(), "Second prompt should get its own verdict");
+        assertTrue(futures.get(2).join().isValid(), "Third prompt should get its own verdict");
+        assertEquals(1, backend.batchCalls.get(), "All prompts should go out in one batch");
+        assertEquals(0, backend.singleCalls.get(), "No prompt should be sent on its own");
+    }
+
+    @Test
+    @DisplayName("Reaching the maximum batch size should send without waiting for the window")
+    void testFullBatchIsSentImmediately() {
+        RecordingClient backend = new RecordingClient(null);
+        BatchingAIClient client = new BatchingAIClient(backend, Duration.ofSeconds(30), 2);
+
+        CompletableFuture<AIResponse> first = client.queryAsync("valid:a");
+        CompletableFuture<AIResponse> second = client.queryAsync("valid:b");
+
+        assertTrue(first.join().isValid());
+        assertTrue(second.join().isValid());
+        assertEquals(1, backend.batchCalls.get(), "A full batch should be sent right away");
+    }
+
+    @Test
+    @DisplayName("A backend that rejects batches should fall back to single queries")
+    void testFallbackWhenBatchUnsupported() {
+        RecordingClient backend = new RecordingClient(new AIClientException(
+            "Batch not supported", "Recording", AIClientException.ErrorType.PARSING_ERROR));
+        BatchingAIClient client = new BatchingAIClient(backend, Duration.ofMillis(50), 32);
+
+        CompletableFuture<AIResponse> first = client.queryAsync("valid:a");
+        CompletableFuture<AIResponse> second = client.queryAsync("invalid:b");
+
+        assertTrue(first.join().isValid(), "Fallback should still answer every prompt");
+        assertFalse(second.join().isValid(), "Fallback should still answer every prompt");
+        assertEquals(1, backend.batchCalls.get(), "The batch format should be tried once");
+        assertEquals(2, backend.singleCalls.get(), "Each prompt should be retried alone");
+
+        client.queryAsync("valid:c").join();
+        client.queryAsync("valid:d").join();
+        assertEquals(1, backend.batchCalls.get(), "Batching should stay off once unsupported");
+    }
+
+    @Test
+    @DisplayName("A server error on a batch should fail its queries and keep batching on")
+    void testServerErrorKeepsBatching() {
+        RecordingClient backend = new RecordingClient(new AIClientException(
+            "Bad gateway", "Recording", AIClientException.ErrorType.API_ERROR, 502));
+        BatchingAIClient client = new BatchingAIClient(backend, Duration.ofMillis(50), 32);
+
+        CompletableFuture<AIResponse> first = client.queryAsync("valid:a");
+        CompletableFuture<AIResponse> second = client.queryAsync("valid:b");
+
+        CompletionException error = assertThrows(CompletionException.class, first::join);
+        assertEquals(502, ((AIClientException) error.getCause()).getStatusCode());
+        assertThrows(CompletionException.class, second::join);
+        assertEquals(0, backend.singleCalls.get(), "A transient failure should not be retried one by one");
+
+        backend.batchFailure = null;
+        CompletableFuture<AIResponse> third = client.queryAsync("valid:c");
+        CompletableFuture<AIResponse> fourth = client.queryAsync("valid:d");
+        assertTrue(third.join().isValid());
+        assertTrue(fourth.join().isValid());
+        assertEquals(2, backend.batchCalls.get(), "Batching should still be on after the outage");
+        assertEquals(0, backend.singleCalls.get());
+    }
+
+    /**
+     * Answers "valid:" prompts as valid and everything else as invalid.
+     */
+    private static class RecordingClient implements AIClient {
+        final AtomicInteger singleCalls = new AtomicInteger();
+        final AtomicInteger batchCalls = new AtomicInteger();
+        /** Failure of every batch call, or null to answer them */
+        volatile AIClientException batchFailure;
+
+        RecordingClient(AIClientException batchFailure) {
+            this.batchFailure = batchFailure;
+        }
+
+        @Override
+        public AIResponse query(String prompt) {
+            singleCalls.incrementAndGet();
+            return new AIResponse(prompt.startsWith("valid:"), 1.0, "recorded");
+        }
+
+        @Override
+        public CompletableFuture<AIResponse> queryAsync(String prompt) {
+            return CompletableFuture.completedFuture(query(prompt));
+        }
+
+        @Override
+        public CompletableFuture<List<AIResponse>> queryBatchAsync(List<String> prompts) {
+            batchCalls.incrementAndGet();
+            if (batchFailure != null) {
+                return CompletableFuture.failedFuture(batchFailure);
+            }
+            List<AIResponse> responses = new ArrayList<>();
+            for (String prompt : prompts) {
+                responses.add(new AIResponse(prompt.startsWith("valid:"), 1.0, "recorded"));
+            }
+            return CompletableFuture.completedFuture(responses);
+        }
+
+        @Override
+        public String getClientName() {
+            return "Recording";
+        }
+
+        @Override
+        public boolean isHealthy() {
+            return true;
+        }
+    }
+}
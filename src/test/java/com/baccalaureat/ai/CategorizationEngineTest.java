@@ -0,0 +1,143 @@
+package com.baccalaureat.ai;
+
+import com.baccalaureat.model.Category;
+import com.baccalaureat.model.ValidationResult;
+import com.baccalaureat.model.ValidationStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CategorizationEngine stage deadlines and hedged remote stages,
+ * with fake validators whose answers the tests control.
+ */
+class CategorizationEngineTest {
+
+    private static final Category ANIMAL = new Category("ANIMAL", "Animal", "", "");
+
+    @Test
+    @DisplayName("A stage missing its deadline should be cancelled and the next stage should answer")
+    void testStageTimeout() {
+        FakeValidator slow = new FakeValidator("ENGINE_SLOW", false, new CompletableFuture<>());
+        FakeValidator next = new FakeValidator("ENGINE_NEXT", false, answer(ValidationStatus.VALID, 0.9, "ENGINE_NEXT"));
+        CategorizationEngine engine = new CategorizationEngine(List.of(slow, next));
+        engine.setStageTimeout("ENGINE_SLOW", Duration.ofMillis(30));
+
+        ValidationResult result = assertTimeoutPreemptively(Duration.ofSeconds(2), () -> engine.validate("chat", ANIMAL));
+
+        assertEquals("ENGINE_NEXT", result.getSource());
+        assertTrue(slow.answer.isCancelled(), "The timed out validator's work should be abandoned");
+    }
+
+    @Test
+    @DisplayName("The total deadline should end the pipeline with a resolved answer")
+    void testTotalTimeout() {
+        FakeValidator first = new FakeValidator("ENGINE_HANG_1", false, new CompletableFuture<>());
+        FakeValidator second = new FakeValidator("ENGINE_HANG_2", false, new CompletableFuture<>());
+        CategorizationEngine engine = new CategorizationEngine(List.of(first, second));
+        engine.setTotalTimeout(Duration.ofMillis(50));
+
+        ValidationResult result = assertTimeoutPreemptively(Duration.ofSeconds(2), () -> engine.validate("chat", ANIMAL));
+
+        assertEquals(ValidationStatus.INVALID, result.getStatus());
+        assertEquals("AI_RESOLVER", result.getSource(), "The timed out stage's UNCERTAIN should be resolved");
+        assertEquals(0, second.calls.get(), "No stage should start after the total deadline");
+    }
+
+    @Test
+    @DisplayName("Hedged remote stages should start together; the first confident one wins and the rest are cancelled")
+    void testHedgedWinnerCancelsLosers() {
+        FakeValidator slow = new FakeValidator("ENGINE_REMOTE_SLOW", true, new CompletableFuture<>());
+        FakeValidator fast = new FakeValidator("ENGINE_REMOTE_FAST", true, answer(ValidationStatus.INVALID, 0.8, "ENGINE_REMOTE_FAST"));
+        FakeValidator after = new FakeValidator("ENGINE_AFTER", false, answer(ValidationStatus.VALID, 0.9, "ENGINE_AFTER"));
+        CategorizationEngine engine = new CategorizationEngine(List.of(slow, fast, after));
+        engine.setHedgedRemoteStages(true);
+
+        // In order, the slow stage alone would take its whole 8 s deadline
+        ValidationResult result = assertTimeoutPreemptively(Duration.ofSeconds(2), () -> engine.validate("chat", ANIMAL));
+
+        assertEquals("ENGINE_REMOTE_FAST", result.getSource());
+        assertEquals(1, slow.calls.get());
+        assertTrue(slow.answer.isCancelled(), "The loser's request should be cancelled");
+        assertEquals(0, after.calls.get(), "A confident winner should end the pipeline");
+    }
+
+    @Test
+    @DisplayName("Without a confident hedged answer the best one should be kept and the pipeline should go on")
+    void testHedgedWithoutWinner() {
+        FakeValidator weak = new FakeValidator("ENGINE_REMOTE_WEAK", true, answer(ValidationStatus.UNCERTAIN, 0.2, "ENGINE_REMOTE_WEAK"));
+        FakeValidator better = new FakeValidator("ENGINE_REMOTE_BETTER", true, answer(ValidationStatus.VALID, 0.5, "ENGINE_REMOTE_BETTER"));
+        FakeValidator after = new FakeValidator("ENGINE_LOCAL_MISS", false, answer(ValidationStatus.UNCERTAIN, 0.1, "ENGINE_LOCAL_MISS"));
+        CategorizationEngine engine = new CategorizationEngine(List.of(weak, better, after));
+        engine.setHedgedRemoteStages(true);
+
+        ValidationResult result = engine.validate("chat", ANIMAL);
+
+        assertEquals("ENGINE_REMOTE_BETTER", result.getSource());
+        assertEquals(1, after.calls.get(), "Stages after the group should still run");
+    }
+
+    @Test
+    @DisplayName("Outside hedged mode a confident remote stage should stop the next one from starting")
+    void testSequentialRemoteStages() {
+        FakeValidator first = new FakeValidator("ENGINE_REMOTE_FIRST", true, answer(ValidationStatus.VALID, 0.9, "ENGINE_REMOTE_FIRST"));
+        FakeValidator second = new FakeValidator("ENGINE_REMOTE_SECOND", true, new CompletableFuture<>());
+        CategorizationEngine engine = new CategorizationEngine(List.of(first, second));
+
+        assertEquals("ENGINE_REMOTE_FIRST", engine.validate("chat", ANIMAL).getSource());
+        assertEquals(0, second.calls.get());
+    }
+
+    private static CompletableFuture<ValidationResult> answer(ValidationStatus status, double confidence, String source) {
+        return CompletableFuture.completedFuture(new ValidationResult(status, confidence, source, "stub"));
+    }
+
+    /**
+     * Validator answering every word with the same future, counting its calls.
+     */
+    private static final class FakeValidator implements CategoryValidator {
+        final String name;
+        final boolean remote;
+        final CompletableFuture<ValidationResult> answer;
+        final AtomicInteger calls = new AtomicInteger();
+
+        FakeValidator(String name, boolean remote, CompletableFuture<ValidationResult> answer) {
+            this.name = name;
+            this.remote = remote;
+            this.answer = answer;
+        }
+
+        @Override
+        public ValidationResult validate(String word, Category category) {
+            return validateAsync(word, category).toCompletableFuture().join();
+        }
+
+        @Override
+        public CompletionStage<ValidationResult> validateAsync(String word, Category category) {
+            calls.incrementAndGet();
+            return answer;
+        }
+
+        @Override
+        public String getSourceName() {
+            return name;
+        }
+
+        @Override
+        public boolean isAvailable() {
+            return true;
+        }
+
+        @Override
+        public boolean isRemote() {
+            return remote;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.baccalaureat.ai;
+
+import com.baccalaureat.model.Category;
+import com.baccalaureat.model.ValidationResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CircuitBreakerAIClient.
+ * Uses a manual clock so open periods and latencies are deterministic.
+ */
+class CircuitBreakerAIClientTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private ScriptedClient backend;
+    private CircuitBreakerAIClient breaker;
+
+    @BeforeEach
+    void setUp() {
+        backend = new ScriptedClient();
+        // Window of 4 calls, trips at 50% failures or 1 s p90 latency, stays open 10 s
+        breaker = new CircuitBreakerAIClient(backend, 4, 4, 0.5, Duration.ofSeconds(1),
+            Duration.ofSeconds(10), now::get);
+    }
+
+    @Test
+    @DisplayName("Repeated failures should open the circuit and fail fast")
+    void testOpensOnFailureRate() {
+        backend.failing = true;
+        for (int i = 0; i < 4; i++) {
+            assertThrows(AIClientException.class, () -> breaker.query("prompt"));
+        }
+
+        assertEquals(CircuitBreakerAIClient.State.OPEN, breaker.getState());
+        assertFalse(breaker.isHealthy(), "An open circuit should report unhealthy");
+
+        AIClientException e = assertThrows(AIClientException.class, () -> breaker.query("prompt"));
+        assertEquals(AIClientException.ErrorType.CIRCUIT_OPEN, e.getErrorType());
+        assertEquals(4, backend.calls, "Calls while open must not reach the backend");
+    }
+
+    @Test
+    @DisplayName("Slow successful calls should open the circuit")
+    void testOpensOnSlowCalls() throws AIClientException {
+        backend.latencyNanos = Duration.ofSeconds(2).toNanos();
+        for (int i = 0; i < 4; i++) {
+            breaker.query("prompt");
+        }
+
+        assertEquals(CircuitBreakerAIClient.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("A successful probe after the open period should close the circuit")
+    void testHalfOpenProbeCloses() throws AIClientException {
+        backend.failing = true;
+        for (int i = 0; i < 4; i++) {
+            assertThrows(AIClientException.class, () -> breaker.query("prompt"));
+        }
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertTrue(breaker.isHealthy(), "The probe should be allowed once the open period is over");
+
+        backend.failing = false;
+        assertTrue(breaker.query("prompt").isValid());
+        assertEquals(CircuitBreakerAIClient.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("A failed probe should reopen the circuit for longer")
+    void testFailedProbeBacksOff() {
+        backend.failing = true;
+        for (int i = 0; i < 4; i++) {
+            assertThrows(AIClientException.class, () -> breaker.query("prompt"));
+        }
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertThrows(AIClientException.class, () -> breaker.query("prompt"));
+        assertEquals(CircuitBreakerAIClient.State.OPEN, breaker.getState());
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertFalse(breaker.isHealthy(), "Second open period should be longer than the first");
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertTrue(breaker.isHealthy());
+    }
+
+    @Test
+    @DisplayName("AICategoryValidator should be unavailable while the circuit is open")
+    void testValidatorHonoursBreaker() {
+        AICategoryValidator validator = new AICategoryValidator(breaker);
+        Category animal = new Category(1, "ANIMAL", "Animal", "🐾", "Animals", true, true);
+
+        backend.failing = true;
+        for (int i = 0; i < 4; i++) {
+            validator.validate("chat", animal);
+        }
+
+        assertFalse(validator.isAvailable(), "Validator should be skipped while the circuit is open");
+        ValidationResult result = validator.validate("chat", animal);
+        assertTrue(result.isUncertain(), "Open circuit should yield UNCERTAIN without calling the backend");
+        assertEquals(4, backend.calls);
+    }
+
+    /**
+     * Backend whose failures and latency are set by the test; latency advances the manual clock.
+     */
+    private class ScriptedClient implements AIClient {
+        boolean failing = false;
+        long latencyNanos = 0;
+        int calls = 0;
+
+        @Override
+        public AIResponse query(String prompt) throws AIClientException {
+            calls++;
+            now.addAndGet(latencyNanos);
+            if (failing) {
+                throw new AIClientException("down", getClientName(), AIClientException.ErrorType.NETWORK_ERROR);
+            }
+            return new AIResponse(true, 1.0, "scripted");
+        }
+
+        @Override
+        public String getClientName() {
+            return "Scripted";
+        }
+
+        @Override
+        public boolean isHealthy() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.baccalaureat.ai;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DictionaryResponseAnalyzer and its KeywordMatcher.
+ */
+class DictionaryResponseAnalyzerTest {
+
+    private static final String DOG = """
+        [{"word":"dog","phonetics":[{"text":"/dɒɡ/","audio":"https://example.org/fish.mp3"}],
+          "meanings":[
+            {"partOfSpeech":"noun","definitions":[
+              {"definition":"A domesticated Mammal, often kept as a pet.","synonyms":[],"example":"a bird dog"},
+              {"definition":"Someone who is morally reprehensible."}]},
+            {"partOfSpeech":"verb","definitions":[{"definition":"To pursue with the intent to catch."}]}],
+          "sourceUrls":["https://en.wiktionary.org/wiki/dog"]}]
+        """;
+
+    private final KeywordMatcher animals = new KeywordMatcher(
+        Map.of("ANIMAL", List.of("animal", "mammal", "pet", "bird", "fish")));
+
+    @Test
+    @DisplayName("Only definition texts should be scanned for keywords")
+    void testMatchesDefinitionsOnly() throws IOException {
+        DictionaryResponseAnalyzer.Analysis analysis = DictionaryResponseAnalyzer.analyze(DOG, animals);
+
+        assertTrue(analysis.wordExists());
+        // "mammal" and "pet" appear in definitions; "bird" and "fish" only in the example and audio URL
+        assertEquals(2, analysis.keywordMatches("ANIMAL"));
+    }
+
+    @Test
+    @DisplayName("One scan should count hits for every category, sharing common keywords")
+    void testCountsEveryCategory() throws IOException {
+        KeywordMatcher matcher = new KeywordMatcher(Map.of(
+            "ANIMAL", List.of("mammal", "pet"),
+            "PAYS", List.of("country", "capital"),
+            "VILLE", List.of("city", "capital")));
+        String paris = "[{\"word\":\"paris\",\"meanings\":[{\"definitions\":"
+            + "[{\"definition\":\"The capital city of France.\"}]}]}]";
+
+        DictionaryResponseAnalyzer.Analysis analysis = DictionaryResponseAnalyzer.analyze(paris, matcher);
+
+        assertEquals(Map.of("ANIMAL", 0, "PAYS", 1, "VILLE", 2), analysis.keywordMatchesByCategory());
+        assertEquals(0, analysis.keywordMatches("FRUIT"), "Unknown categories have no matches");
+    }
+
+    @Test
+    @DisplayName("Responses without meanings should not count as existing words")
+    void testWordWithoutMeanings() throws IOException {
+        String notFound = "{\"title\":\"No Definitions Found\",\"message\":\"Sorry pal\"}";
+
+        assertFalse(DictionaryResponseAnalyzer.analyze(notFound, animals).wordExists());
+        assertFalse(DictionaryResponseAnalyzer.analyze("[{\"word\":\"dog\"}]", null).wordExists());
+        assertTrue(DictionaryResponseAnalyzer.analyze(DOG, null).wordExists());
+    }
+
+    @Test
+    @DisplayName("Matcher should find overlapping and nested keywords case-insensitively")
+    void testOverlappingKeywords() {
+        KeywordMatcher matcher = new KeywordMatcher(Map.of("TEST", List.of("he", "she", "hers", "his")));
+        char[] text = "USHERS".toCharArray();
+        BitSet matched = new BitSet();
+
+        matcher.scan(text, 0, text.length, matched);
+
+        assertEquals(3, matched.cardinality(), "she, he and hers all occur in 'ushers'");
+        assertFalse(matched.get(3), "his does not occur");
+    }
+
+    @Test
+    @DisplayName("Matches should not span two scanned slices")
+    void testNoMatchAcrossSlices() {
+        char[] text = "anim al".toCharArray();
+        BitSet matched = new BitSet();
+
+        animals.scan(text, 0, 4, matched);
+        animals.scan(text, 5, 2, matched);
+
+        assertTrue(matched.isEmpty());
+    }
+}
@@ -0,0 +1,124 @@
+package com.baccalaureat.ai;
+
+import com.baccalaureat.model.Category;
+import com.baccalaureat.model.ValidationResult;
+import com.baccalaureat.model.ValidationStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BloomFilter, KnownWordFilter and the engine's pre-check.
+ */
+class KnownWordFilterTest {
+
+    private static final Category PAYS = new Category("PAYS", "Pays", "", "");
+
+    private final Map<String, List<String>> words = new HashMap<>(Map.of("PAYS", new ArrayList<>(List.of("france", "Pérou"))));
+    private final KnownWordFilter filter = new KnownWordFilter(
+        List.of((category, action) -> words.getOrDefault(category, List.of()).forEach(action)));
+
+    @Test
+    @DisplayName("Bloom filter should have no false negatives and few false positives")
+    void testBloomFilter() {
+        BloomFilter bloom = new BloomFilter(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            bloom.put("word" + i);
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(bloom.mightContain("word" + i));
+            if (bloom.mightContain("other" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 40, "Expected about 1% false positives, got " + falsePositives);
+        assertFalse(bloom.isSaturated());
+        bloom.put("one more");
+        assertTrue(bloom.isSaturated());
+    }
+
+    @Test
+    @DisplayName("Lookups should fold case and accents like the word caches")
+    void testNormalizedLookups() {
+        assertTrue(filter.mightBeKnown(" FRANCE ", "PAYS"));
+        assertTrue(filter.mightBeKnown("perou", "PAYS"));
+        assertFalse(filter.mightBeKnown("atlantide", "PAYS"));
+        assertFalse(filter.mightBeKnown("france", "VILLE"), "Categories have separate filters");
+    }
+
+    @Test
+    @DisplayName("Words added after the build should be known without a rebuild")
+    void testIncrementalAdd() {
+        assertFalse(filter.mightBeKnown("chili", "PAYS"));
+
+        filter.add("Chili", "PAYS");
+        assertTrue(filter.mightBeKnown("chili", "PAYS"));
+
+        // Filters not built yet read the word from their sources instead
+        words.put("VILLE", List.of("lyon"));
+        filter.add("lyon", "VILLE");
+        assertTrue(filter.mightBeKnown("lyon", "VILLE"));
+    }
+
+    @Test
+    @DisplayName("A filter filled past its size should be rebuilt without losing words")
+    void testRebuildWhenSaturated() {
+        filter.mightBeKnown("france", "PAYS");
+        for (int i = 0; i < 600; i++) {
+            words.get("PAYS").add("pays" + i);
+            filter.add("pays" + i, "PAYS");
+        }
+        for (int i = 0; i < 600; i++) {
+            assertTrue(filter.mightBeKnown("pays" + i, "PAYS"));
+        }
+    }
+
+    @Test
+    @DisplayName("A definite miss should skip the local stages and be counted")
+    void testEngineSkipsLocalStagesOnDefiniteMiss() {
+        List<String> called = new CopyOnWriteArrayList<>();
+        CategorizationEngine engine = new CategorizationEngine(List.of(
+            stage("LOCAL_DB", ValidationStatus.UNCERTAIN, called),
+            stage("FIXED_LIST", ValidationStatus.VALID, called),
+            stage("REMOTE", ValidationStatus.VALID, called)));
+        engine.setKnownWordFilter(filter);
+
+        assertEquals("REMOTE", engine.validate("atlantide", PAYS).getSource());
+        assertEquals(List.of("REMOTE"), called);
+
+        called.clear();
+        assertEquals("FIXED_LIST", engine.validate("france", PAYS).getSource());
+        assertEquals(List.of("LOCAL_DB", "FIXED_LIST"), called);
+
+        assertEquals("2 words checked, 1 definite misses (local stages skipped), 1 answered locally, "
+            + "0 false positives; 1 needed remote validation", engine.getKnownWordStats());
+    }
+
+    private static CategoryValidator stage(String name, ValidationStatus status, List<String> called) {
+        return new CategoryValidator() {
+            @Override
+            public ValidationResult validate(String word, Category category) {
+                called.add(name);
+                return new ValidationResult(status, status == ValidationStatus.VALID ? 0.9 : 0.0, name, "stub");
+            }
+
+            @Override
+            public String getSourceName() {
+                return name;
+            }
+
+            @Override
+            public boolean isAvailable() {
+                return true;
+            }
+        };
+    }
+}
@@ -0,0 +1,73 @@
+package com.baccalaureat.ai;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit tests for the memory-mapped word-list format.
+ */
+class MappedWordListsTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Written lists should be searchable after mapping")
+    void testRoundTrip() throws IOException {
+        Path file = dir.resolve("lists.bin");
+        MappedWordLists.write(Map.of(
+            "VILLE", List.of("paris", "lyon", "lille", "lyon", "saint-etienne"),
+            "PRENOM", List.of("zoe", "chloé", "anne")), file);
+
+        MappedWordLists lists = MappedWordLists.open(file);
+        assertEquals(Set.of("VILLE", "PRENOM"), lists.categories());
+
+        WordList villes = lists.get("VILLE");
+        assertTrue(villes.contains("lyon"));
+        assertTrue(villes.contains("saint-etienne"));
+        assertFalse(villes.contains("ly"), "Prefixes are not words");
+        assertFalse(villes.contains("lyons"));
+        assertEquals(List.of("lille", "lyon"), villes.wordsWithPrefix("l", 10));
+        assertTrue(villes.hasPrefix("sai"));
+        assertFalse(villes.hasPrefix("m"));
+
+        assertTrue(lists.get("PRENOM").contains("chloé"), "Non-ASCII words should round-trip");
+        assertNull(lists.get("ANIMAL"));
+    }
+
+    @Test
+    @DisplayName("Files that are not word lists should be rejected")
+    void testRejectsForeignFile() throws IOException {
+        Path file = dir.resolve("other.bin");
+        Files.writeString(file, "definitely not a word list");
+
+        assertThrows(IOException.class, () -> MappedWordLists.open(file));
+    }
+
+    @Test
+    @DisplayName("Copies of jar resources should only be kept in a directory private to the user")
+    void testPrivateDirectory() throws IOException {
+        assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+
+        Path own = MappedWordLists.privateDirectory(dir.resolve("own"));
+        assertEquals(PosixFilePermissions.fromString("rwx------"), Files.getPosixFilePermissions(own));
+        assertEquals(own, MappedWordLists.privateDirectory(own), "The directory should be reused on later starts");
+
+        Path shared = Files.createDirectory(dir.resolve("shared"));
+        Files.setPosixFilePermissions(shared, PosixFilePermissions.fromString("rwxrwxrwx"));
+        assertThrows(IOException.class, () -> MappedWordLists.privateDirectory(shared));
+    }
+}
@@ -0,0 +1,206 @@
+package com.baccalaureat.ai;
+
+import com.baccalaureat.model.Category;
+import com.baccalaureat.model.ValidationResult;
+import com.baccalaureat.model.ValidationStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LatencyHistogram and the per-stage metrics recorded by CategorizationEngine.
+ */
+class StageMetricsTest {
+
+    private static final Category ANIMAL = new Category("ANIMAL", "Animal", "", "");
+
+    @Test
+    @DisplayName("Percentiles should be within the histogram's precision")
+    void testHistogramPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int ms = 1; ms <= 1000; ms++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(ms));
+        }
+
+        assertEquals(1000, histogram.count());
+        assertEquals(500_000, histogram.percentileMicros(50), 500_000 * 0.016);
+        assertEquals(990_000, histogram.percentileMicros(99), 990_000 * 0.016);
+        assertEquals(1_000_000, histogram.maxMicros());
+        assertEquals(500_500, histogram.meanMicros(), 1);
+
+        histogram.reset();
+        assertEquals(0, histogram.count());
+        assertEquals(0, histogram.percentileMicros(99));
+    }
+
+    @Test
+    @DisplayName("Small and huge values should land in their own or the last bucket")
+    void testHistogramRange() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(3));
+        histogram.record(TimeUnit.DAYS.toNanos(30));
+
+        assertEquals(3, histogram.percentileMicros(50));
+        assertEquals(histogram.maxMicros(), histogram.percentileMicros(100));
+    }
+
+    @Test
+    @DisplayName("The engine should count hits, misses, short-circuits, timeouts and errors per stage")
+    void testEngineRecordsOutcomes() {
+        CategorizationEngine engine = new CategorizationEngine(List.of(
+            stage("METRICS_FAILING", null),
+            stage("METRICS_MISS", new ValidationResult(ValidationStatus.UNCERTAIN, 0.0, "METRICS_MISS", "stub")),
+            slowStage("METRICS_SLOW"),
+            stage("METRICS_HIT", new ValidationResult(ValidationStatus.VALID, 0.9, "METRICS_HIT", "stub"))));
+        engine.setStageTimeout("METRICS_SLOW", Duration.ofMillis(20));
+        long pipelineRuns = StageMetrics.forStage(StageMetrics.PIPELINE).getCalls();
+
+        engine.validate("chat", ANIMAL);
+        engine.validate("chien", ANIMAL);
+
+        assertEquals(2, StageMetrics.forStage("METRICS_FAILING").getErrors());
+        assertEquals(2, StageMetrics.forStage("METRICS_MISS").getMisses());
+        assertEquals(0.0, StageMetrics.forStage("METRICS_MISS").getHitRatio());
+        assertEquals(2, StageMetrics.forStage("METRICS_SLOW").getTimeouts());
+        assertTrue(StageMetrics.forStage("METRICS_SLOW").getP50Millis() >= 19, "Timeouts are timed too");
+        StageMetrics hit = StageMetrics.forStage("METRICS_HIT");
+        assertEquals(2, hit.getHits());
+        assertEquals(2, hit.getShortCircuits());
+        assertEquals(1.0, hit.getHitRatio());
+        assertEquals(pipelineRuns + 2, StageMetrics.forStage(StageMetrics.PIPELINE).getCalls());
+        assertTrue(engine.getStageStats().contains("METRICS_HIT: 2 calls"));
+    }
+
+    @Test
+    @DisplayName("A hedged loser should count as one cancellation, with no error and no latency sample")
+    void testHedgedLoserCancelledOnce() {
+        CompletableFuture<ValidationResult> loser = new CompletableFuture<>();
+        CategorizationEngine engine = new CategorizationEngine(List.of(
+            remoteStage("METRICS_HEDGED_WINNER", CompletableFuture.completedFuture(
+                new ValidationResult(ValidationStatus.VALID, 0.9, "METRICS_HEDGED_WINNER", "stub"))),
+            remoteStage("METRICS_HEDGED_LOSER", loser)));
+        engine.setHedgedRemoteStages(true);
+
+        ValidationResult result = engine.validate("chat", ANIMAL);
+
+        assertEquals("METRICS_HEDGED_WINNER", result.getSource());
+        assertTrue(loser.isCancelled(), "The loser's own future should be cancelled");
+        StageMetrics lost = StageMetrics.forStage("METRICS_HEDGED_LOSER");
+        assertEquals(1, lost.getCancellations());
+        assertEquals(0, lost.getErrors());
+        assertEquals(1, lost.getCalls(), "A cancelled stage has no latency sample");
+        assertEquals(1, StageMetrics.forStage("METRICS_HEDGED_WINNER").getShortCircuits());
+    }
+
+    @Test
+    @DisplayName("Stage metrics should be exposed as MBeans")
+    void testRegisteredWithJmx() throws Exception {
+        StageMetrics.forStage("METRICS_JMX").recordHit(TimeUnit.MILLISECONDS.toNanos(4));
+        ObjectName name = new ObjectName("com.baccalaureat:type=ValidationStage,name=\"METRICS_JMX\"");
+
+        assertEquals(1L, ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Hits"));
+        assertEquals(4.0, (double) ManagementFactory.getPlatformMBeanServer().getAttribute(name, "P99Millis"), 0.1);
+    }
+
+    /**
+     * Stage answering with a fixed result, or failing when the result is null.
+     */
+    private static CategoryValidator stage(String name, ValidationResult result) {
+        return new CategoryValidator() {
+            @Override
+            public ValidationResult validate(String word, Category category) {
+                if (result == null) {
+                    throw new IllegalStateException("stub failure");
+                }
+                return result;
+            }
+
+            @Override
+            public CompletionStage<ValidationResult> validateAsync(String word, Category category) {
+                try {
+                    return CompletableFuture.completedFuture(validate(word, category));
+                } catch (RuntimeException e) {
+                    return CompletableFuture.failedFuture(e);
+                }
+            }
+
+            @Override
+            public String getSourceName() {
+                return name;
+            }
+
+            @Override
+            public boolean isAvailable() {
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Stage that never answers.
+     */
+    private static CategoryValidator slowStage(String name) {
+        return new CategoryValidator() {
+            @Override
+            public ValidationResult validate(String word, Category category) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public CompletionStage<ValidationResult> validateAsync(String word, Category category) {
+                return new CompletableFuture<>();
+            }
+
+            @Override
+            public String getSourceName() {
+                return name;
+            }
+
+            @Override
+            public boolean isAvailable() {
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Remote stage answering with the given future.
+     */
+    private static CategoryValidator remoteStage(String name, CompletableFuture<ValidationResult> answer) {
+        return new CategoryValidator() {
+            @Override
+            public ValidationResult validate(String word, Category category) {
+                return answer.join();
+            }
+
+            @Override
+            public CompletionStage<ValidationResult> validateAsync(String word, Category category) {
+                return answer;
+            }
+
+            @Override
+            public String getSourceName() {
+                return name;
+            }
+
+            @Override
+            public boolean isAvailable() {
+                return true;
+            }
+
+            @Override
+            public boolean isRemote() {
+                return true;
+            }
+        };
+    }
+}
@@ -0,0 +1,54 @@
+package com.baccalaureat.ai;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for WordTrie.
+ */
+class WordTrieTest {
+
+    private final WordTrie words = WordTrie.of(List.of(
+        "paris", "lyon", "lille", "pomme de terre", "pomme", "poire", "lille", "marseille"));
+
+    @Test
+    @DisplayName("Membership should require a whole word")
+    void testContains() {
+        assertTrue(words.contains("pomme"));
+        assertTrue(words.contains("pomme de terre"));
+        assertFalse(words.contains("pom"), "Prefixes are not words");
+        assertFalse(words.contains("pommes"));
+        assertFalse(words.contains(""));
+        assertEquals(7, words.size(), "Duplicates should be dropped");
+    }
+
+    @Test
+    @DisplayName("Prefix queries should list words in alphabetical order")
+    void testPrefixQueries() {
+        assertEquals(List.of("poire", "pomme", "pomme de terre"), words.wordsWithPrefix("po", 10));
+        assertEquals(List.of("lille"), words.wordsWithPrefix("l", 1));
+        assertTrue(words.hasPrefix("mar"));
+        assertFalse(words.hasPrefix("z"));
+        assertTrue(words.wordsWithPrefix("z", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Shared suffixes should be stored once")
+    void testSuffixSharing() {
+        List<String> list = new ArrayList<>();
+        for (char c = 'a'; c <= 'z'; c++) {
+            list.add(c + "ville");
+        }
+        WordTrie trie = WordTrie.of(list);
+
+        assertEquals(26, trie.size());
+        // All 26 first letters lead to the same state: root + 1 + one per letter of "ville"
+        assertEquals(7, trie.stateCount());
+        assertTrue(trie.contains("qville"));
+    }
+}
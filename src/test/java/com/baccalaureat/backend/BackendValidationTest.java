@@ -6,7 +6,6 @@ import com.baccalaureat.model.Category;
 import com.baccalaureat.service.CategoryService;
 import org.junit.jupiter.api.*;
 
-import java.io.File;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -42,24 +41,8 @@ class BackendValidationTest {
 
     @AfterEach
     void tearDown() {
-        // Close any open connections
-        try {
-            DatabaseManager.getConnection().close();
-        } catch (Exception e) {
-            // Ignore
-        }
-        
-        // Clean up test database
-        File dbFile = new File(TEST_DB_PATH);
-        if (dbFile.exists()) {
-            // Wait a bit for file locks to release
-            try {
-                Thread.sleep(100);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-            dbFile.delete();
-        }
+        // Close pooled connections and clean up test database
+        TestDatabase.delete(TEST_DB_PATH);
         System.clearProperty("database.url");
     }
 
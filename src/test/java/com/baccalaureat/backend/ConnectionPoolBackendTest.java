@@ -0,0 +1,157 @@
+package com.baccalaureat.backend;
+
+import com.baccalaureat.dao.DatabaseManager;
+import com.baccalaureat.service.RejectedWordIndex;
+import com.baccalaureat.service.ValidatedWordIndex;
+import org.junit.jupiter.api.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Backend tests for the pooled SQLite connections handed out by DatabaseManager.
+ * Verifies connection configuration, reuse and the return-on-close contract.
+ */
+class ConnectionPoolBackendTest {
+
+    private static final String TEST_DB = "test_pool.db";
+    private static final String OTHER_DB = "test_pool_other.db";
+
+    @BeforeEach
+    void setUp() {
+        TestDatabase.delete(TEST_DB);
+        System.setProperty("db.url", "jdbc:sqlite:" + TEST_DB);
+        DatabaseManager.initializeDatabase();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestDatabase.delete(TEST_DB);
+        System.clearProperty("db.url");
+    }
+
+    @Test
+    @DisplayName("Pooled connections should run in WAL mode with NORMAL synchronous")
+    void testConnectionPragmas() throws SQLException {
+        try (Connection conn = DatabaseManager.getConnection();
+             Statement stmt = conn.createStatement()) {
+            try (ResultSet rs = stmt.executeQuery("PRAGMA journal_mode")) {
+                assertTrue(rs.next());
+                assertEquals("wal", rs.getString(1).toLowerCase(), "Journal mode should be WAL");
+            }
+            try (ResultSet rs = stmt.executeQuery("PRAGMA synchronous")) {
+                assertTrue(rs.next());
+                assertEquals(1, rs.getInt(1), "synchronous should be NORMAL (1)");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Closed connections should be returned to the pool and unusable by the old holder")
+    void testConnectionReturnedOnClose() throws SQLException {
+        Connection first = DatabaseManager.getConnection();
+        first.close();
+
+        assertTrue(first.isClosed(), "Returned handle should report closed");
+        assertThrows(SQLException.class, first::createStatement,
+            "Returned handle must not reach the pooled connection");
+
+        try (Connection second = DatabaseManager.getConnection();
+             PreparedStatement stmt = second.prepareStatement("SELECT 1");
+             ResultSet rs = stmt.executeQuery()) {
+            assertTrue(rs.next(), "Re-borrowed connection should be usable");
+        }
+    }
+
+    @Test
+    @DisplayName("Prepared statements should be reusable after close")
+    void testPreparedStatementReuse() throws SQLException {
+        String sql = "SELECT COUNT(1) FROM categories WHERE name = ?";
+        for (int i = 0; i < 3; i++) {
+            try (Connection conn = DatabaseManager.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setString(1, "ANIMAL");
+                try (ResultSet rs = stmt.executeQuery()) {
+                    assertTrue(rs.next());
+                    assertEquals(1, rs.getInt(1), "ANIMAL should be seeded exactly once");
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("A statement leaked past its connection's close should fail instead of sharing the cached one")
+    void testLeakedStatementClosedOnRelease() throws SQLException {
+        String sql = "SELECT COUNT(1) FROM categories WHERE name = ?";
+        Connection first = DatabaseManager.getConnection();
+        PreparedStatement leaked = first.prepareStatement(sql);
+        leaked.setString(1, "ANIMAL");
+        first.close();
+
+        assertTrue(leaked.isClosed(), "Returning the connection should close its leaked statements");
+        assertThrows(SQLException.class, leaked::executeQuery);
+
+        try (Connection second = DatabaseManager.getConnection();
+             PreparedStatement stmt = second.prepareStatement(sql)) {
+            assertThrows(SQLException.class, () -> leaked.setString(1, "PAYS"),
+                "The stale handle must not reach the statement now leased again");
+            stmt.setString(1, "ANIMAL");
+            try (ResultSet rs = stmt.executeQuery()) {
+                assertTrue(rs.next());
+                assertEquals(1, rs.getInt(1));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Shared word indexes should follow a switch to another database")
+    void testIndexesFollowDatabaseSwitch() {
+        ValidatedWordIndex validated = ValidatedWordIndex.getInstance();
+        validated.add("ornithorynque", "ANIMAL");
+        validated.flush();
+        RejectedWordIndex rejected = RejectedWordIndex.getInstance();
+        rejected.add("xqzw", "ANIMAL", 0.9);
+        rejected.flush();
+
+        TestDatabase.delete(OTHER_DB);
+        System.setProperty("db.url", "jdbc:sqlite:" + OTHER_DB);
+        try {
+            DatabaseManager.initializeDatabase();
+            assertNotSame(validated, ValidatedWordIndex.getInstance());
+            assertFalse(ValidatedWordIndex.getInstance().isWordValidated("ornithorynque", "ANIMAL"),
+                "Words of the first database should not be visible in the second");
+            assertFalse(RejectedWordIndex.getInstance().isWordRejected("xqzw", "ANIMAL"));
+        } finally {
+            TestDatabase.delete(OTHER_DB);
+            System.setProperty("db.url", "jdbc:sqlite:" + TEST_DB);
+        }
+
+        assertTrue(ValidatedWordIndex.getInstance().isWordValidated("ornithorynque", "ANIMAL"),
+            "Switching back should reload the first database");
+        assertTrue(RejectedWordIndex.getInstance().isWordRejected("xqzw", "ANIMAL"));
+    }
+
+    @Test
+    @DisplayName("Shared word indexes should be reloaded when the same database is reinitialized")
+    void testIndexesFollowReinitialization() {
+        ValidatedWordIndex validated = ValidatedWordIndex.getInstance();
+        validated.add("ornithorynque", "ANIMAL");
+        validated.flush();
+        RejectedWordIndex rejected = RejectedWordIndex.getInstance();
+        rejected.add("xqzw", "ANIMAL", 0.9);
+        rejected.flush();
+
+        TestDatabase.delete(TEST_DB);
+        DatabaseManager.initializeDatabase();
+
+        assertNotSame(validated, ValidatedWordIndex.getInstance());
+        assertFalse(ValidatedWordIndex.getInstance().isWordValidated("ornithorynque", "ANIMAL"),
+            "Words of the deleted file should not outlive it");
+        assertFalse(RejectedWordIndex.getInstance().isWordRejected("xqzw", "ANIMAL"));
+    }
+}
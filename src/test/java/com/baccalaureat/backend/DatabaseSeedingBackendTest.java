@@ -7,7 +7,6 @@ import com.baccalaureat.service.CategoryService;
 import com.baccalaureat.service.DatabaseInitializer;
 import org.junit.jupiter.api.*;
 
-import java.io.File;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -31,10 +30,7 @@ class DatabaseSeedingBackendTest {
     @BeforeEach
     void setUp() throws Exception {
         // Clean up any existing test database
-        File testDbFile = new File(TEST_DB);
-        if (testDbFile.exists()) {
-            testDbFile.delete();
-        }
+        TestDatabase.delete(TEST_DB);
         
         // Override database URL for testing
         System.setProperty("db.url", "jdbc:sqlite:" + TEST_DB);
@@ -50,10 +46,7 @@ class DatabaseSeedingBackendTest {
     @AfterEach
     void tearDown() {
         // Clean up test database
-        File testDbFile = new File(TEST_DB);
-        if (testDbFile.exists()) {
-            testDbFile.delete();
-        }
+        TestDatabase.delete(TEST_DB);
         System.clearProperty("db.url");
     }
 
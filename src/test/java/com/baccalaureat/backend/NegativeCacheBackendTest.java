@@ -0,0 +1,133 @@
+package com.baccalaureat.backend;
+
+import com.baccalaureat.ai.CategorizationEngine;
+import com.baccalaureat.ai.CategoryValidator;
+import com.baccalaureat.ai.LocalCacheValidator;
+import com.baccalaureat.ai.WebConfigurableValidator;
+import com.baccalaureat.dao.DatabaseManager;
+import com.baccalaureat.model.Category;
+import com.baccalaureat.model.ValidationResult;
+import com.baccalaureat.model.ValidationStatus;
+import com.baccalaureat.service.CacheService;
+import com.baccalaureat.service.CategoryService;
+import com.baccalaureat.service.RejectedWordIndex;
+import com.baccalaureat.service.ValidationService;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.*;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Backend tests for which rejections reach the negative cache.
+ * The AI stage is a stub and the dictionary a local server answering 404 for every word.
+ */
+class NegativeCacheBackendTest {
+
+    private static final String TEST_DB = "test_negative_cache.db";
+
+    private final AtomicInteger dictionaryRequests = new AtomicInteger();
+    private final AtomicInteger aiRequests = new AtomicInteger();
+    private HttpServer dictionary;
+    private CategoryService categoryService;
+    private CacheService cacheService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        TestDatabase.delete(TEST_DB);
+        System.setProperty("db.url", "jdbc:sqlite:" + TEST_DB);
+        DatabaseManager.initializeDatabase();
+
+        dictionary = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        dictionary.createContext("/entries/", exchange -> {
+            dictionaryRequests.incrementAndGet();
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        });
+        dictionary.start();
+
+        categoryService = new CategoryService();
+        cacheService = new CacheService();
+    }
+
+    /**
+     * Builds the service over LOCAL_DB, an AI stage answering with the given verdict, and the stub dictionary.
+     */
+    private ValidationService serviceWithAiAnswer(ValidationResult aiAnswer) {
+        CategoryValidator ai = new CategoryValidator() {
+            @Override
+            public ValidationResult validate(String word, Category category) {
+                aiRequests.incrementAndGet();
+                return aiAnswer;
+            }
+
+            @Override
+            public CompletionStage<ValidationResult> validateAsync(String word, Category category) {
+                return CompletableFuture.completedFuture(validate(word, category));
+            }
+
+            @Override
+            public String getSourceName() {
+                return "AI_STUB";
+            }
+
+            @Override
+            public boolean isAvailable() {
+                return true;
+            }
+        };
+        CategorizationEngine engine = new CategorizationEngine(List.of(
+            new LocalCacheValidator(cacheService),
+            ai,
+            new WebConfigurableValidator(categoryService,
+                "http://127.0.0.1:" + dictionary.getAddress().getPort() + "/entries/%s")));
+        return new ValidationService(categoryService, engine, cacheService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dictionary.stop(0);
+        RejectedWordIndex.flushShared();
+        TestDatabase.delete(TEST_DB);
+        System.clearProperty("db.url");
+    }
+
+    @Test
+    @DisplayName("An English dictionary miss should not reach the negative cache")
+    void testDictionaryMissIsNotCached() {
+        ValidationService validationService = serviceWithAiAnswer(
+            new ValidationResult(ValidationStatus.UNCERTAIN, 0.4, "AI_STUB", "stub"));
+
+        ValidationResult first = validationService.validateWord("FRUIT", "fraise");
+        assertEquals(ValidationStatus.INVALID, first.getStatus());
+        assertTrue(first.getConfidence() < RejectedWordIndex.CONFIDENCE_FLOOR,
+            "A French word missing from an English dictionary is no definite answer");
+        assertTrue(dictionaryRequests.get() >= 1);
+
+        ValidationResult second = validationService.validateWord("FRUIT", "fraise");
+        assertNotEquals("LOCAL_DB", second.getSource());
+        assertEquals(2, aiRequests.get(), "The AI should get another chance at the word");
+    }
+
+    @Test
+    @DisplayName("A rejection confirmed by the AI should be answered from LOCAL_DB the second time")
+    void testAiRejectionIsCached() {
+        ValidationService validationService = serviceWithAiAnswer(
+            new ValidationResult(ValidationStatus.INVALID, 0.9, "AI_STUB", "stub"));
+
+        ValidationResult first = validationService.validateWord("ANIMAL", "grumblewock");
+        assertEquals("AI_STUB", first.getSource());
+
+        ValidationResult second = validationService.validateWord("ANIMAL", "grumblewock");
+        assertEquals(ValidationStatus.INVALID, second.getStatus());
+        assertEquals("LOCAL_DB", second.getSource());
+        assertEquals(1, aiRequests.get(), "The second lookup should not reach the AI");
+    }
+}
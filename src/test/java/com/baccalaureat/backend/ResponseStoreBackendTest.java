@@ -0,0 +1,103 @@
+package com.baccalaureat.backend;
+
+import com.baccalaureat.dao.DatabaseManager;
+import com.baccalaureat.dao.HttpResponseDAO;
+import com.baccalaureat.service.ResponseStore;
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Backend tests for the durable response store (http_responses table).
+ * Verifies round trips through SQLite, revalidation metadata and size trimming.
+ */
+class ResponseStoreBackendTest {
+
+    private static final String TEST_DB = "test_responses.db";
+
+    private HttpResponseDAO dao;
+
+    @BeforeEach
+    void setUp() {
+        TestDatabase.delete(TEST_DB);
+        System.setProperty("db.url", "jdbc:sqlite:" + TEST_DB);
+        DatabaseManager.initializeDatabase();
+        dao = new HttpResponseDAO();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestDatabase.delete(TEST_DB);
+        System.clearProperty("db.url");
+    }
+
+    @Test
+    @DisplayName("Saved responses should be readable after the pool is reopened")
+    void testRoundTripAcrossRestart() {
+        ResponseStore store = ResponseStore.getInstance();
+        String url = "https://api.dictionaryapi.dev/api/v2/entries/en/apple";
+        String body = "[{\"word\":\"apple\",\"meanings\":[{\"definitions\":[\"a fruit\"]}]}]";
+
+        store.save(url, 200, body, "\"abc\"", "Wed, 01 Jan 2025 00:00:00 GMT");
+        store.flush();
+        DatabaseManager.shutdown();
+
+        ResponseStore.StoredResponse stored = store.load(url);
+        assertNotNull(stored, "Response should survive a pool restart");
+        assertEquals(200, stored.statusCode());
+        assertEquals(body, stored.body());
+        assertEquals("\"abc\"", stored.etag());
+        assertEquals("Wed, 01 Jan 2025 00:00:00 GMT", stored.lastModified());
+        assertTrue(stored.isFresh(Duration.ofMinutes(1), store.now()));
+    }
+
+    @Test
+    @DisplayName("An async load should see writes queued before it")
+    void testLoadAsyncAfterSave() {
+        ResponseStore store = ResponseStore.getInstance();
+        String url = "https://api.dictionaryapi.dev/api/v2/entries/en/pear";
+
+        store.save(url, 404, "", null, null);
+        ResponseStore.StoredResponse stored = store.loadAsync(url).join();
+
+        assertNotNull(stored, "The load should run after the queued save");
+        assertEquals(404, stored.statusCode());
+        assertNull(store.loadAsync(url + "s").join());
+    }
+
+    @Test
+    @DisplayName("POST keys should depend on the request body")
+    void testKeyForBody() {
+        String url = "https://example.org/webhook";
+        assertEquals(ResponseStore.keyFor(url, "apple"), ResponseStore.keyFor(url, "apple"));
+        assertNotEquals(ResponseStore.keyFor(url, "apple"), ResponseStore.keyFor(url, "pear"));
+    }
+
+    @Test
+    @DisplayName("Trimming should drop the oldest rows first")
+    void testTrimKeepsNewest() {
+        byte[] body = new byte[100];
+        dao.save("old", 200, body, null, null, 1_000);
+        dao.save("mid", 200, body, null, null, 2_000);
+        dao.save("new", 200, body, null, null, 3_000);
+
+        assertEquals(1, dao.trimToSize(250));
+        assertNull(dao.find("old"), "Oldest row should be trimmed");
+        assertNotNull(dao.find("mid"));
+        assertNotNull(dao.find("new"));
+    }
+
+    @Test
+    @DisplayName("Touching a row should refresh its stored time")
+    void testTouch() {
+        dao.save("url", 404, new byte[10], null, null, 1_000);
+        dao.touch("url", 5_000);
+
+        HttpResponseDAO.StoredRow row = dao.find("url");
+        assertNotNull(row);
+        assertEquals(404, row.status());
+        assertEquals(5_000, row.storedAtMillis());
+    }
+}
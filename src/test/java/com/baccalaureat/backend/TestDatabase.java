@@ -0,0 +1,26 @@
+package com.baccalaureat.backend;
+
+import com.baccalaureat.dao.DatabaseManager;
+
+import java.io.File;
+
+/**
+ * Cleanup shared by the backend tests.
+ * The pool keeps WAL connections open, so a test database is only gone once the
+ * pool is closed and the -wal and -shm files are deleted along with it.
+ */
+final class TestDatabase {
+
+    private TestDatabase() {
+    }
+
+    /**
+     * Closes the pooled connections and deletes the database file and its sidecars.
+     */
+    static void delete(String path) {
+        DatabaseManager.shutdown();
+        new File(path).delete();
+        new File(path + "-wal").delete();
+        new File(path + "-shm").delete();
+    }
+}
@@ -13,7 +13,6 @@ import com.baccalaureat.model.ValidationStatus;
 import com.baccalaureat.service.CategoryService;
 import org.junit.jupiter.api.*;
 
-import java.io.File;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -33,10 +32,7 @@ class ValidationPipelineIntegrationTest {
     @BeforeEach
     void setUp() throws Exception {
         // Clean up any existing test database
-        File testDbFile = new File(TEST_DB);
-        if (testDbFile.exists()) {
-            testDbFile.delete();
-        }
+        TestDatabase.delete(TEST_DB);
         
         // Override database URL for testing
         System.setProperty("db.url", "jdbc:sqlite:" + TEST_DB);
@@ -52,10 +48,7 @@ class ValidationPipelineIntegrationTest {
     @AfterEach
     void tearDown() {
         // Clean up test database
-        File testDbFile = new File(TEST_DB);
-        if (testDbFile.exists()) {
-            testDbFile.delete();
-        }
+        TestDatabase.delete(TEST_DB);
         System.clearProperty("db.url");
     }
 
@@ -0,0 +1,171 @@
+package com.baccalaureat.multiplayer;
+
+import com.baccalaureat.multiplayer.websocket.ServerMessage;
+import com.baccalaureat.multiplayer.websocket.ServerMessageDecoder;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the conditional, backoff-aware SessionStatePoller and the lobby state it feeds.
+ */
+class SessionStatePollerTest {
+
+    private static final String WAITING = "{\"status\":\"WAITING\",\"players\":[{\"username\":\"Alice\",\"isHost\":true}]}";
+    private static final String JOINED = "{\"status\":\"WAITING\",\"players\":"
+        + "[{\"username\":\"Alice\",\"isHost\":true},{\"username\":\"Bob\"},{\"username\":\" \"}],"
+        + "\"config\":{\"numberOfRounds\":3}}";
+
+    private HttpServer server;
+    private volatile String body = WAITING;
+    private volatile String etag = "\"v1\"";
+    private final AtomicInteger requests = new AtomicInteger();
+    private final List<String> ifNoneMatch = new CopyOnWriteArrayList<>();
+    private final List<Long> requestTimes = new CopyOnWriteArrayList<>();
+    private final BlockingQueue<ServerMessage.SessionState> delivered = new LinkedBlockingQueue<>();
+    private SessionStatePoller poller;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/api/sessions/", this::answer);
+        server.start();
+        poller = new SessionStatePoller(HttpClient.newHttpClient(),
+            "http://127.0.0.1:" + server.getAddress().getPort() + "/api/sessions",
+            delivered::add, Duration.ofMillis(10), Duration.ofMillis(160));
+    }
+
+    @AfterEach
+    void tearDown() {
+        poller.stop();
+        server.stop(0);
+    }
+
+    private void answer(HttpExchange exchange) throws IOException {
+        requestTimes.add(System.nanoTime());
+        requests.incrementAndGet();
+        String tag = exchange.getRequestHeaders().getFirst("If-None-Match");
+        ifNoneMatch.add(String.valueOf(tag));
+        String currentTag = etag;
+        if (currentTag != null && currentTag.equals(tag)) {
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        if (currentTag != null) {
+            exchange.getResponseHeaders().set("ETag", currentTag);
+        }
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Test
+    @DisplayName("A polled state should decode like a pushed one and skip players without a name")
+    void testDecode() throws Exception {
+        ServerMessage.SessionState decoded = ServerMessageDecoder.decodeSessionState(JOINED);
+        LobbyState state = LobbyState.of(decoded.status(), decoded.players(), decoded.config());
+
+        assertEquals(List.of(new ServerMessage.Player("Alice", true), new ServerMessage.Player("Bob", false)), state.players());
+        assertEquals("WAITING", state.status());
+        assertFalse(state.isInProgress());
+        assertEquals(3, state.config().path("numberOfRounds").asInt());
+    }
+
+    @Test
+    @DisplayName("Polling should revalidate with the ETag and deliver only changed states")
+    void testConditionalPolling() throws Exception {
+        poller.start("ABC123");
+
+        assertEquals(1, delivered.poll(5, TimeUnit.SECONDS).players().size());
+        waitForRequests(requests.get() + 3);
+        assertTrue(ifNoneMatch.contains("\"v1\""), "Later requests should send If-None-Match");
+        assertTrue(delivered.isEmpty(), "A 304 should not be delivered");
+
+        body = JOINED;
+        etag = "\"v2\"";
+        assertEquals(3, delivered.poll(5, TimeUnit.SECONDS).players().size());
+
+        poller.stop();
+        assertFalse(poller.isRunning());
+        int afterStop = requests.get();
+        Thread.sleep(200);
+        assertTrue(requests.get() <= afterStop + 1, "Polling should stop");
+    }
+
+    @Test
+    @DisplayName("Without ETags an unchanged state should be delivered once")
+    void testUnchangedStateWithoutEtag() throws Exception {
+        etag = null;
+        poller.start("ABC123");
+
+        assertNotNull(delivered.poll(5, TimeUnit.SECONDS));
+        waitForRequests(requests.get() + 3);
+        assertTrue(delivered.isEmpty());
+        assertTrue(ifNoneMatch.stream().allMatch("null"::equals));
+    }
+
+    @Test
+    @DisplayName("Polling should back off while nothing changes and speed up again on a change")
+    void testBackoff() throws Exception {
+        poller.start("ABC123");
+        assertNotNull(delivered.poll(5, TimeUnit.SECONDS));
+
+        waitForRequests(7);
+        long firstGap = requestTimes.get(2) - requestTimes.get(1);
+        long laterGap = requestTimes.get(6) - requestTimes.get(5);
+        assertTrue(laterGap > firstGap, "Gaps should grow: " + firstGap + " ns, then " + laterGap + " ns");
+        assertEquals(Duration.ofMillis(160), poller.currentInterval());
+
+        body = JOINED;
+        etag = "\"v2\"";
+        assertNotNull(delivered.poll(5, TimeUnit.SECONDS));
+        waitForRequests(requests.get() + 1);
+        assertTrue(poller.currentInterval().compareTo(Duration.ofMillis(20)) <= 0, "A change should reset the interval");
+    }
+
+    @Test
+    @DisplayName("A single fetch should deliver the state without starting to poll")
+    void testFetchOnce() throws Exception {
+        poller.fetchOnce("ABC123");
+
+        assertEquals(1, delivered.poll(5, TimeUnit.SECONDS).players().size());
+        Thread.sleep(100);
+        assertEquals(1, requests.get(), "Nothing should be scheduled after the fetch");
+        assertFalse(poller.isRunning());
+
+        poller.fetchOnce("ABC123");
+        waitForRequests(2);
+        assertEquals("\"v1\"", ifNoneMatch.get(1), "A second fetch should be conditional");
+        assertNull(delivered.poll(100, TimeUnit.MILLISECONDS), "An unchanged state should not be delivered");
+    }
+
+    private void waitForRequests(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (requests.get() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(requests.get() >= count, "Expected at least " + count + " requests");
+    }
+}
@@ -0,0 +1,98 @@
+package com.baccalaureat.multiplayer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for UiEventDispatcher batching and coalescing, with a hand-driven UI thread.
+ */
+class UiEventDispatcherTest {
+
+    private final Queue<Runnable> uiTasks = new ArrayDeque<>();
+    private final List<String> ran = new ArrayList<>();
+    private UiEventDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new UiEventDispatcher(uiTasks::add);
+    }
+
+    private void runUiTasks() {
+        Runnable task;
+        while ((task = uiTasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    @Test
+    @DisplayName("A burst of events should share one UI task and run in order")
+    void testBatching() {
+        for (int i = 0; i < 20; i++) {
+            int n = i;
+            dispatcher.post(() -> ran.add("joined " + n));
+        }
+
+        assertEquals(1, uiTasks.size());
+        runUiTasks();
+        assertEquals(20, ran.size());
+        assertEquals("joined 0", ran.get(0));
+        assertEquals("joined 19", ran.get(19));
+    }
+
+    @Test
+    @DisplayName("Keyed events should collapse into the latest one, after earlier events")
+    void testCoalescing() {
+        dispatcher.post(LobbyState.class, () -> ran.add("state 1"));
+        dispatcher.post(() -> ran.add("joined"));
+        dispatcher.post(LobbyState.class, () -> ran.add("state 2"));
+        dispatcher.post(LobbyState.class, () -> ran.add("state 3"));
+
+        runUiTasks();
+        assertEquals(List.of("joined", "state 3"), ran);
+        assertEquals(2, dispatcher.getCoalesced());
+
+        // Once delivered, a state no longer supersedes anything
+        dispatcher.post(LobbyState.class, () -> ran.add("state 4"));
+        runUiTasks();
+        assertEquals(List.of("joined", "state 3", "state 4"), ran);
+    }
+
+    @Test
+    @DisplayName("Events posted while a batch runs, or after a failing one, should still run in order")
+    void testPostingDuringBatch() {
+        dispatcher.post(() -> {
+            ran.add("first");
+            dispatcher.post(() -> ran.add("posted while running"));
+        });
+        dispatcher.post(() -> {
+            throw new IllegalStateException("listener failure");
+        });
+        dispatcher.post(() -> ran.add("after failure"));
+
+        runUiTasks();
+        assertEquals(List.of("first", "after failure", "posted while running"), ran);
+    }
+
+    @Test
+    @DisplayName("An event blocking in a nested loop should not hold up the rest of the batch")
+    void testNestedLoop() {
+        dispatcher.post(() -> {
+            ran.add("dialog opened");
+            // Stands in for showAndWait, which keeps running FX tasks until the dialog closes
+            runUiTasks();
+            ran.add("dialog closed");
+        });
+        dispatcher.post(() -> ran.add("next event"));
+
+        runUiTasks();
+        assertEquals(List.of("dialog opened", "next event", "dialog closed"), ran);
+    }
+}
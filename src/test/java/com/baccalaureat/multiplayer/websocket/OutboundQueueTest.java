@@ -0,0 +1,103 @@
+package com.baccalaureat.multiplayer.websocket;
+
+import jakarta.websocket.SendHandler;
+import jakarta.websocket.SendResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for OutboundQueue ordering, merging, backpressure and failure handling,
+ * with a transport that completes sends only when told to.
+ */
+class OutboundQueueTest {
+
+    private final List<String> written = new ArrayList<>();
+    private final List<SendHandler> inFlight = new ArrayList<>();
+    private final List<String> errors = new ArrayList<>();
+    private OutboundQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new OutboundQueue(3, (json, handler) -> {
+            written.add(json);
+            inFlight.add(handler);
+        }, errors::add);
+    }
+
+    private void completeNext(SendResult result) {
+        inFlight.remove(0).onResult(result);
+    }
+
+    @Test
+    @DisplayName("Frames should be written one at a time, in order")
+    void testSingleWriter() {
+        assertTrue(queue.offer(null, "a"));
+        assertTrue(queue.offer(null, "b"));
+        assertTrue(queue.offer(null, "c"));
+
+        assertEquals(List.of("a"), written, "Only one frame should be in flight");
+        completeNext(new SendResult());
+        completeNext(new SendResult());
+        completeNext(new SendResult());
+        assertEquals(List.of("a", "b", "c"), written);
+        assertTrue(queue.getStats().startsWith("3 sent"));
+    }
+
+    @Test
+    @DisplayName("Pending idempotent frames should absorb copies; answers should keep their place")
+    void testMerging() {
+        queue.offer(null, "in flight");
+        queue.offer("SUBMIT_ANSWERS", "answers 1");
+        queue.offer("NEXT_ROUND", "next 1");
+        queue.offer("NEXT_ROUND", "next 2");
+        queue.offer("SUBMIT_ANSWERS", "answers 2");
+        assertEquals(3, queue.size());
+
+        for (int i = 0; i < 4; i++) {
+            completeNext(new SendResult());
+        }
+        assertEquals(List.of("in flight", "answers 1", "next 1", "answers 2"), written);
+        assertTrue(queue.getStats().contains("1 merged"));
+    }
+
+    @Test
+    @DisplayName("A full queue should refuse new frames")
+    void testBackpressure() {
+        queue.offer(null, "in flight");
+        for (int i = 0; i < 3; i++) {
+            assertTrue(queue.offer(null, "queued " + i));
+        }
+
+        assertFalse(queue.offer(null, "one too many"));
+        completeNext(new SendResult());
+        assertTrue(queue.offer(null, "room again"), "Completed sends should make room");
+        assertTrue(queue.getStats().contains("1 refused"));
+    }
+
+    @Test
+    @DisplayName("A failed send should be reported and not stop the queue; clear should drop pending frames")
+    void testFailureAndClear() {
+        queue.offer(null, "a");
+        queue.offer(null, "b");
+        completeNext(new SendResult(new IOException("broken pipe")));
+
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0).contains("broken pipe"));
+        assertEquals(List.of("a", "b"), written);
+
+        queue.offer(null, "c");
+        queue.clear();
+        completeNext(new SendResult());
+        assertEquals(List.of("a", "b"), written, "Frames dropped by clear should not be written");
+
+        queue.offer(null, "d");
+        assertEquals(List.of("a", "b", "d"), written, "A cleared queue should accept a new writer");
+    }
+}
@@ -0,0 +1,64 @@
+package com.baccalaureat.multiplayer.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for decoding server frames into typed ServerMessage records.
+ */
+class ServerMessageDecoderTest {
+
+    @Test
+    @DisplayName("GAME_STARTED should decode with its fields, ignoring unknown ones")
+    void testGameStarted() throws Exception {
+        ServerMessage message = ServerMessageDecoder.decode("{\"type\":\"GAME_STARTED\",\"letter\":\"B\","
+            + "\"roundDuration\":90,\"totalRounds\":3,\"categories\":[\"Animal\",\"Pays\"],\"serverTime\":123}");
+
+        ServerMessage.GameStarted started = assertInstanceOf(ServerMessage.GameStarted.class, message);
+        assertEquals("B", started.letter());
+        assertEquals(90, started.roundDuration());
+        assertEquals(3, started.totalRounds());
+        assertEquals(1, started.currentRound(), "Missing round should default to 1");
+        assertEquals(List.of("Animal", "Pays"), started.categories());
+    }
+
+    @Test
+    @DisplayName("Missing fields should get the defaults the client always assumed")
+    void testDefaults() throws Exception {
+        ServerMessage.GameStarted started = (ServerMessage.GameStarted) ServerMessageDecoder.decode("{\"type\":\"GAME_STARTED\"}");
+        assertEquals(60, started.roundDuration());
+        assertEquals(List.of(), started.categories());
+
+        ServerMessage.ServerError error = (ServerMessage.ServerError) ServerMessageDecoder.decode("{\"type\":\"ERROR\"}");
+        assertEquals("Unknown error", error.message());
+
+        ServerMessage.PlayerJoined joined = (ServerMessage.PlayerJoined) ServerMessageDecoder.decode(
+            "{\"type\":\"PLAYER_JOINED\",\"playerName\":\"Bob\"}");
+        assertNull(joined.players(), "No list should stay distinguishable from an empty one");
+    }
+
+    @Test
+    @DisplayName("Lobby messages should decode players with their host flag")
+    void testSessionState() throws Exception {
+        ServerMessage message = ServerMessageDecoder.decode("{\"type\":\"SESSION_STATE\",\"status\":\"WAITING\","
+            + "\"players\":[{\"username\":\"Alice\",\"isHost\":true},{\"username\":\"Bob\"}],\"config\":{\"numberOfRounds\":2}}");
+
+        ServerMessage.SessionState state = assertInstanceOf(ServerMessage.SessionState.class, message);
+        assertEquals(List.of(new ServerMessage.Player("Alice", true), new ServerMessage.Player("Bob", false)), state.players());
+        assertEquals(2, state.config().path("numberOfRounds").asInt());
+    }
+
+    @Test
+    @DisplayName("Unknown types should decode to Unknown, invalid JSON should fail")
+    void testUnknownAndInvalid() throws Exception {
+        ServerMessage message = ServerMessageDecoder.decode("{\"type\":\"CHAT\",\"text\":\"hi\"}");
+        assertEquals(new ServerMessage.Unknown("CHAT"), message);
+
+        assertThrows(JsonProcessingException.class, () -> ServerMessageDecoder.decode("not json"));
+    }
+}
@@ -0,0 +1,74 @@
+package com.baccalaureat.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ResponseCache.
+ * Uses a manual clock so expiry is deterministic.
+ */
+class ResponseCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private ResponseCache cache(long maxBytes) {
+        return new ResponseCache(maxBytes, Duration.ofSeconds(100), Duration.ofSeconds(10), now::get);
+    }
+
+    @Test
+    @DisplayName("Cached bodies should round-trip through compression")
+    void testRoundTrip() {
+        ResponseCache cache = cache(1024 * 1024);
+        String body = "[{\"word\":\"apple\",\"meanings\":[]}]".repeat(50);
+        cache.put("https://example.org/apple", 200, body);
+
+        ResponseCache.CachedResponse cached = cache.get("https://example.org/apple");
+        assertNotNull(cached);
+        assertEquals(200, cached.statusCode());
+        assertEquals(body, cached.body());
+        assertTrue(cache.sizeInBytes() < body.length(), "Repetitive JSON should be stored compressed");
+    }
+
+    @Test
+    @DisplayName("404s should expire sooner than successful responses")
+    void testTtlPerStatus() {
+        ResponseCache cache = cache(1024 * 1024);
+        cache.put("ok", 200, "body");
+        cache.put("missing", 404, "not found");
+        cache.put("error", 500, "boom");
+
+        assertNull(cache.get("error"), "Server errors must not be cached");
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertNull(cache.get("missing"));
+        assertNotNull(cache.get("ok"));
+
+        now.addAndGet(Duration.ofSeconds(90).toNanos());
+        assertNull(cache.get("ok"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Exceeding the byte bound should evict the least recently used entry")
+    void testLruEviction() {
+        ResponseCache cache = cache(1024 * 1024);
+        cache.put("a", 200, "first");
+        long perEntry = cache.sizeInBytes();
+
+        ResponseCache small = cache(perEntry * 2);
+        small.put("a", 200, "first");
+        small.put("b", 200, "other");
+        small.get("a");
+        small.put("c", 200, "third");
+
+        assertNotNull(small.get("a"), "Recently read entry should survive");
+        assertNull(small.get("b"), "Least recently used entry should be evicted");
+        assertNotNull(small.get("c"));
+        assertTrue(small.sizeInBytes() <= perEntry * 2);
+    }
+}
@@ -0,0 +1,45 @@
+package com.baccalaureat.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TextNormalizer.
+ */
+class TextNormalizerTest {
+
+    @Test
+    @DisplayName("Answers should be trimmed, lower-cased, unaccented and single-spaced")
+    void testNormalize() {
+        assertEquals("creme brulee", TextNormalizer.normalize("  Crème \t  Brûlée "));
+        assertEquals("francois", TextNormalizer.normalize("FRANÇOIS"));
+        assertEquals("noel", TextNormalizer.normalize("No\u00ebl"));
+        assertEquals("noel", TextNormalizer.normalize("Noe\u0308l"), "Decomposed input gives the same key");
+        assertEquals("saint etienne", TextNormalizer.normalize("Saint\u00a0Étienne"), "Non-breaking spaces count as spaces");
+        assertEquals("", TextNormalizer.normalize("   "));
+        assertEquals("", TextNormalizer.normalize(null));
+    }
+
+    @Test
+    @DisplayName("Letters without a base letter should only be lower-cased")
+    void testLigatures() {
+        assertEquals("œuf", TextNormalizer.normalize("Œuf"));
+        assertEquals("strasse", TextNormalizer.normalize("STRASSE"));
+        assertEquals("straße", TextNormalizer.normalize("Straße"));
+    }
+
+    @Test
+    @DisplayName("Keys should match the NFD-based normalization they replace, outside the Latin table too")
+    void testMatchesDecomposition() {
+        for (String word : List.of("Éléphant", "Ålesund", "Łódź", "Ærø", "Ἀθῆναι", "Đà Nẵng", "Çanakkale", "Mötley")) {
+            String expected = Normalizer.normalize(word.trim().toLowerCase(), Normalizer.Form.NFD)
+                .replaceAll("\\p{InCombiningDiacriticalMarks}+", "");
+            assertEquals(expected, TextNormalizer.normalize(word), word);
+        }
+    }
+}